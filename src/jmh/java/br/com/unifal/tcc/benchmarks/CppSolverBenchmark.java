@@ -0,0 +1,97 @@
+package br.com.unifal.tcc.benchmarks;
+
+import br.com.unifal.tcc.algorithms.interfaces.ShortestPathAlgorithm;
+import br.com.unifal.tcc.generators.GraphGenerator;
+import br.com.unifal.tcc.generators.GraphTopology;
+import br.com.unifal.tcc.generators.dto.GraphSpec;
+import br.com.unifal.tcc.model.dto.CPPSolution;
+import br.com.unifal.tcc.model.graph.Graph;
+import br.com.unifal.tcc.model.graph.Vertex;
+import br.com.unifal.tcc.services.MatchingStrategy;
+import br.com.unifal.tcc.solvers.CPPSolver;
+import br.com.unifal.tcc.solvers.factories.PathAlgorithmFactory;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The full {@link CPPSolver#solve(Vertex)} pipeline: balancing, Eulerian circuit and validation.
+ *
+ * <p>Graphs come from {@link GraphGenerator} with a fixed number of unbalanced vertices, so the
+ * matching cost can be charted against it. Solving adds the balancing edges to the graph, so every
+ * invocation gets a fresh copy of the unbalanced graph. Building it is done in the per-invocation
+ * setup and is not measured. The engine is created once per trial and closed after it, so engines
+ * that own threads do not start new ones on every invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class CppSolverBenchmark {
+
+  @Param public PathAlgorithmFactory algorithm;
+
+  @Param public MatchingStrategy matchingStrategy;
+
+  @Param public GraphTopology topology;
+
+  @Param({"1000", "10000"})
+  public int vertexCount;
+
+  @Param({"4"})
+  public int averageDegree;
+
+  /** Exact number of unbalanced vertices, which drives the cost of the matching step. */
+  @Param({"100", "1000"})
+  public int unbalancedVertices;
+
+  /**
+   * Largest imbalance of a pair of unbalanced vertices. Above 1 the matching strategies solve
+   * different problems; with single units both fall back to the same exact assignment.
+   */
+  @Param({"4"})
+  public int maxImbalance;
+
+  private ShortestPathAlgorithm pathAlgorithm;
+  private CPPSolver solver;
+  private Vertex origin;
+
+  @Setup(Level.Trial)
+  public void createAlgorithm() {
+    pathAlgorithm = algorithm.createAlgorithm();
+  }
+
+  @Setup(Level.Invocation)
+  public void setup() {
+    Graph graph =
+        GraphGenerator.toGraph(
+            GraphSpec.of(topology, vertexCount, averageDegree)
+                .withUnbalancedVertices(unbalancedVertices)
+                .withMaxImbalance(maxImbalance));
+    origin = graph.getVertices().get(GraphGenerator.vertexId(0));
+    solver = new CPPSolver(graph, pathAlgorithm, matchingStrategy);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    pathAlgorithm.close();
+  }
+
+  @Benchmark
+  public CPPSolution solve() {
+    return solver.solve(origin);
+  }
+}
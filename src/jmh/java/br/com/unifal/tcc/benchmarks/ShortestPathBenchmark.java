@@ -0,0 +1,97 @@
+package br.com.unifal.tcc.benchmarks;
+
+import br.com.unifal.tcc.algorithms.interfaces.ShortestPathAlgorithm;
+import br.com.unifal.tcc.generators.GraphGenerator;
+import br.com.unifal.tcc.generators.GraphTopology;
+import br.com.unifal.tcc.generators.dto.GraphSpec;
+import br.com.unifal.tcc.model.dto.PathResult;
+import br.com.unifal.tcc.model.graph.Graph;
+import br.com.unifal.tcc.model.graph.Vertex;
+import br.com.unifal.tcc.solvers.factories.PathAlgorithmFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Single-source and point-to-point queries of every {@link PathAlgorithmFactory} engine.
+ *
+ * <p>Graphs come from {@link GraphGenerator}. Each fork runs one engine on its own, so engines
+ * never compete for cores. Queries cycle through a fixed, seeded list of vertices, so every engine
+ * answers exactly the same queries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ShortestPathBenchmark {
+
+  private static final int QUERY_COUNT = 64;
+
+  @Param public PathAlgorithmFactory algorithm;
+
+  @Param public GraphTopology topology;
+
+  @Param({"1000", "10000"})
+  public int vertexCount;
+
+  /** Average out-degree, ignored by {@link GraphTopology#GRID}. */
+  @Param({"2", "8"})
+  public int averageDegree;
+
+  private ShortestPathAlgorithm pathAlgorithm;
+  private Graph graph;
+  private List<Vertex> queries;
+  private int nextQuery;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    pathAlgorithm = algorithm.createAlgorithm();
+    graph = GraphGenerator.toGraph(GraphSpec.of(topology, vertexCount, averageDegree));
+    graph.toCsrGraph(); // Build the cached snapshot outside of the measurement
+
+    List<Vertex> vertices = new ArrayList<>(graph.getVertices().values());
+    Random random = new Random(GraphSpec.DEFAULT_SEED);
+    queries = new ArrayList<>(QUERY_COUNT + 1);
+    for (int i = 0; i <= QUERY_COUNT; i++) {
+      queries.add(vertices.get(random.nextInt(vertices.size())));
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    pathAlgorithm.close();
+  }
+
+  @Benchmark
+  public Map<Vertex, Double> getDistanceMap() {
+    return pathAlgorithm.getDistanceMap(graph, nextSource());
+  }
+
+  @Benchmark
+  public PathResult findShortestPath() {
+    Vertex source = nextSource();
+    return pathAlgorithm.findShortestPath(graph, source, queries.get(nextQuery + 1));
+  }
+
+  private Vertex nextSource() {
+    nextQuery = (nextQuery + 1) % QUERY_COUNT;
+    return queries.get(nextQuery);
+  }
+}
@@ -18,16 +18,17 @@ public class CppMain {
 
     // Load from parameters
     Graph graph = InputService.loadGraphFromFile(params.getGraphFile());
-    ShortestPathAlgorithm pathAlgorithm = params.getAlgorithmType().createAlgorithm();
+    try (ShortestPathAlgorithm pathAlgorithm = params.getAlgorithmType().createAlgorithm()) {
 
-    // Solve CPP
-    CPPSolver solver = new CPPSolver(graph, pathAlgorithm);
+      // Solve CPP
+      CPPSolver solver = new CPPSolver(graph, pathAlgorithm, params.getMatchingStrategy());
 
-    TimedResult<CPPSolution> timedSolution =
-        measureTimeWithResult(() -> solver.solve(new Vertex("A"))); // TODO
+      TimedResult<CPPSolution> timedSolution =
+          measureTimeWithResult(() -> solver.solve(new Vertex("A"))); // TODO
 
-    // Export output
-    OutputService.exportResultFile(
-        params.getGraphFile(), timedSolution.result(), timedSolution.duration());
+      // Export output
+      OutputService.exportResultFile(
+          params.getGraphFile(), timedSolution.result(), timedSolution.duration());
+    }
   }
 }
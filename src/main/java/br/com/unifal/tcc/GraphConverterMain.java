@@ -0,0 +1,35 @@
+package br.com.unifal.tcc;
+
+import static br.com.unifal.tcc.services.ExecutionTime.measureTime;
+
+import br.com.unifal.tcc.model.graph.CsrGraph;
+import br.com.unifal.tcc.model.graph.CsrGraphFile;
+import br.com.unifal.tcc.services.InputService;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+public class GraphConverterMain {
+  public static void main(String[] args) {
+    if (args.length < 2 || !CsrGraphFile.isCsrFile(args[1])) {
+      throw new IllegalArgumentException(
+          "Usage: java GraphConverterMain <graphFile> <outputFile"
+              + CsrGraphFile.FILE_EXTENSION
+              + ">");
+    }
+
+    Duration duration =
+        measureTime(
+            () -> {
+              CsrGraph graph = InputService.loadCsrGraphFromFile(args[0]);
+              try {
+                CsrGraphFile.write(graph, Path.of(args[1]));
+              } catch (IOException e) {
+                throw new UncheckedIOException("Error writing graph csr file", e);
+              }
+            });
+
+    System.out.println("Converted " + args[0] + " in " + duration.toMillis() + " ms");
+  }
+}
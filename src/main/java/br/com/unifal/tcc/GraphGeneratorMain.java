@@ -0,0 +1,35 @@
+package br.com.unifal.tcc;
+
+import static br.com.unifal.tcc.services.ExecutionTime.measureTime;
+
+import br.com.unifal.tcc.configurations.GeneratorParametersConfig;
+import br.com.unifal.tcc.generators.GraphGenerator;
+import br.com.unifal.tcc.model.graph.CsrGraphFile;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+public class GraphGeneratorMain {
+  public static void main(String[] args) {
+    GeneratorParametersConfig params = new GeneratorParametersConfig(args);
+
+    Duration duration =
+        measureTime(
+            () -> {
+              try {
+                Path outputFile = Path.of(params.getOutputFile());
+                if (CsrGraphFile.isCsrFile(params.getOutputFile())) {
+                  GraphGenerator.writeCsr(params.getGraphSpec(), outputFile);
+                } else {
+                  GraphGenerator.writeJson(params.getGraphSpec(), outputFile);
+                }
+              } catch (IOException e) {
+                throw new UncheckedIOException("Error writing graph file", e);
+              }
+            });
+
+    System.out.println(
+        "Generated " + params.getGraphSpec() + " in " + duration.toMillis() + " ms");
+  }
+}
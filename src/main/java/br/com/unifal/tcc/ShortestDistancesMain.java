@@ -1,31 +1,73 @@
 package br.com.unifal.tcc;
 
+import static br.com.unifal.tcc.services.ExecutionTime.measureTime;
 import static br.com.unifal.tcc.services.ExecutionTime.measureTimeWithResult;
 
 import br.com.unifal.tcc.algorithms.DijkstraListAlgorithm;
 import br.com.unifal.tcc.algorithms.DijkstraPqAlgorithm;
 import br.com.unifal.tcc.algorithms.SSSPAlgorithm;
+import br.com.unifal.tcc.algorithms.dto.IndexedDistancePredecessorMap;
 import br.com.unifal.tcc.algorithms.interfaces.ShortestPathAlgorithm;
-import br.com.unifal.tcc.model.graph.Graph;
-import br.com.unifal.tcc.model.graph.Vertex;
+import br.com.unifal.tcc.model.graph.CsrGraph;
+import br.com.unifal.tcc.services.AllSourcesService;
 import br.com.unifal.tcc.services.InputService;
+import br.com.unifal.tcc.services.dto.DistanceSummary;
 import br.com.unifal.tcc.services.dto.TimedResult;
+import br.com.unifal.tcc.solvers.factories.PathAlgorithmFactory;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
+/**
+ * Computes the shortest distances from every vertex of a graph.
+ *
+ * <p>{@code <graphFile>} alone races three engines on each source and ranks them; {@code
+ * <graphFile> <algorithmType> [parallelism]} runs a single engine over all sources on {@code
+ * parallelism} workers (all available processors by default) and prints the distance summary.
+ */
 public class ShortestDistancesMain {
 
   public static void main(String[] args) {
+    if (args.length < 1) {
+      throw new IllegalArgumentException(
+          "Usage: java ShortestDistancesMain <graphFile> [algorithmType] [parallelism]");
+    }
+
     // Load graph from parameters
     String graphFile = args[0];
-    Graph graph = InputService.loadGraphFromFile(graphFile);
+    CsrGraph csrGraph = InputService.loadCsrGraphFromFile(graphFile);
+
+    if (args.length > 1) {
+      int parallelism =
+          args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+      computeAllSources(
+          csrGraph, PathAlgorithmFactory.valueOf(args[1].toUpperCase()), parallelism);
+    } else {
+      compareAlgorithms(csrGraph);
+    }
+  }
 
+  private static void computeAllSources(
+      CsrGraph csrGraph, PathAlgorithmFactory algorithmType, int parallelism) {
+    try (ShortestPathAlgorithm pathAlgorithm = algorithmType.createAlgorithm()) {
+      TimedResult<DistanceSummary> timedSummary =
+          measureTimeWithResult(
+              () -> AllSourcesService.summarize(csrGraph, pathAlgorithm, parallelism));
+
+      DistanceSummary summary = timedSummary.result();
+      System.out.println(pathAlgorithm.getName() + " on " + parallelism + " workers");
+      System.out.println("  Sources: " + csrGraph.getVertexCount());
+      System.out.println("  Reachable pairs: " + summary.reachablePairs());
+      System.out.println("  Average distance: " + summary.averageDistance());
+      System.out.println("  Max distance: " + summary.maxDistance());
+      System.out.println("  Time: " + timedSummary.duration().toMillis() + "ms");
+    }
+  }
+
+  private static void compareAlgorithms(CsrGraph csrGraph) {
     // Initiate algorithms
     ShortestPathAlgorithm dijkstraPq = new DijkstraPqAlgorithm();
     ShortestPathAlgorithm dijkstraList = new DijkstraListAlgorithm();
@@ -47,47 +89,57 @@ public class ShortestDistancesMain {
     tierC.put(dijkstraPq, 0L);
     tierC.put(sssp, 0L);
 
+    // Reusable distance storage, one per algorithm
+    IndexedDistancePredecessorMap dijkstraPqResult =
+        new IndexedDistancePredecessorMap(csrGraph.getVertexCount());
+    IndexedDistancePredecessorMap dijkstraListResult =
+        new IndexedDistancePredecessorMap(csrGraph.getVertexCount());
+    IndexedDistancePredecessorMap ssspResult =
+        new IndexedDistancePredecessorMap(csrGraph.getVertexCount());
+
     // Run algorithms
-    Set<Vertex> verticesSet = graph.getVerticesSet();
-    long verticesAmount = verticesSet.size();
+    long verticesAmount = csrGraph.getVertexCount();
     long vertexCount = 0l;
 
     Instant startInstant = Instant.now();
 
-    for (Vertex source : verticesSet) {
+    for (int vertex = 0; vertex < csrGraph.getVertexCount(); vertex++) {
+      int source = vertex;
 
-      CompletableFuture<TimedResult<Map<Vertex, Double>>> dijkstraPqFuture =
+      CompletableFuture<Duration> dijkstraPqFuture =
           CompletableFuture.supplyAsync(
-              () -> measureTimeWithResult(() -> dijkstraPq.getDistanceMap(graph, source)));
-      CompletableFuture<TimedResult<Map<Vertex, Double>>> dijkstraListFuture =
+              () ->
+                  measureTime(
+                      () ->
+                          dijkstraPq.computeDistancePredecessorMap(
+                              csrGraph, source, dijkstraPqResult)));
+      CompletableFuture<Duration> dijkstraListFuture =
           CompletableFuture.supplyAsync(
-              () -> measureTimeWithResult(() -> dijkstraList.getDistanceMap(graph, source)));
-      CompletableFuture<TimedResult<Map<Vertex, Double>>> ssspFuture =
+              () ->
+                  measureTime(
+                      () ->
+                          dijkstraList.computeDistancePredecessorMap(
+                              csrGraph, source, dijkstraListResult)));
+      CompletableFuture<Duration> ssspFuture =
           CompletableFuture.supplyAsync(
-              () -> measureTimeWithResult(() -> sssp.getDistanceMap(graph, source)));
+              () ->
+                  measureTime(
+                      () -> sssp.computeDistancePredecessorMap(csrGraph, source, ssspResult)));
 
       // Wait for all to complete
       CompletableFuture.allOf(dijkstraPqFuture, dijkstraListFuture, ssspFuture).join();
 
-      // Get results
-      TimedResult<Map<Vertex, Double>> dijkstraPqTimedResult = dijkstraPqFuture.join();
-      TimedResult<Map<Vertex, Double>> dijkstraListTimedResult = dijkstraListFuture.join();
-      TimedResult<Map<Vertex, Double>> ssspTimedResult = ssspFuture.join();
-
-      assertEquals(
-          dijkstraPqTimedResult.result(),
-          dijkstraListTimedResult.result(),
-          ssspTimedResult.result());
+      assertEquals(dijkstraPqResult, dijkstraListResult, ssspResult);
 
       // Update score
       Map<ShortestPathAlgorithm, Duration> algorithmsDuration =
           Map.of(
               dijkstraPq,
-              dijkstraPqTimedResult.duration(),
+              dijkstraPqFuture.join(),
               dijkstraList,
-              dijkstraListTimedResult.duration(),
+              dijkstraListFuture.join(),
               sssp,
-              ssspTimedResult.duration());
+              ssspFuture.join());
       var sortedDurations =
           algorithmsDuration.entrySet().stream().sorted(Map.Entry.comparingByValue()).toList();
 
@@ -117,14 +169,14 @@ public class ShortestDistancesMain {
   }
 
   private static void assertEquals(
-      Map<Vertex, Double> result1, Map<Vertex, Double> result2, Map<Vertex, Double> result3) {
-    Set<Map<Vertex, Double>> results = new HashSet<>();
-    results.add(result1);
-    results.add(result2);
-    results.add(result3);
-
-    if (results.size() > 1) {
-      throw new RuntimeException("Mismatch!");
+      IndexedDistancePredecessorMap result1,
+      IndexedDistancePredecessorMap result2,
+      IndexedDistancePredecessorMap result3) {
+    for (int vertex = 0; vertex < result1.getVertexCount(); vertex++) {
+      double distance = result1.getDistance(vertex);
+      if (distance != result2.getDistance(vertex) || distance != result3.getDistance(vertex)) {
+        throw new RuntimeException("Mismatch!");
+      }
     }
   }
 }
@@ -0,0 +1,167 @@
+package br.com.unifal.tcc.algorithms;
+
+import br.com.unifal.tcc.algorithms.dto.IndexedDistancePredecessorMap;
+import br.com.unifal.tcc.algorithms.dto.Landmarks;
+import br.com.unifal.tcc.algorithms.interfaces.ShortestPathAlgorithm;
+import br.com.unifal.tcc.algorithms.queues.IndexedDaryHeap;
+import br.com.unifal.tcc.model.graph.CsrGraph;
+import java.util.Objects;
+
+public class AltAlgorithm implements ShortestPathAlgorithm {
+
+  public static final int DEFAULT_LANDMARK_COUNT = 16;
+
+  private final ShortestPathAlgorithm oneToManyAlgorithm = new DijkstraHeapAlgorithm();
+  private final int landmarkCount;
+
+  /** Landmarks of the last graph searched, replaced when a search comes in for another graph. */
+  private volatile Landmarks landmarks;
+
+  /** Heap and target bounds reused by every search of the same thread. */
+  private final ThreadLocal<Scratch> scratches = new ThreadLocal<>();
+
+  public AltAlgorithm() {
+    this(DEFAULT_LANDMARK_COUNT);
+  }
+
+  /**
+   * @param landmarkCount the number of landmarks selected for each new graph
+   */
+  public AltAlgorithm(int landmarkCount) {
+    if (landmarkCount < 1) {
+      throw new IllegalArgumentException("Landmark count must be positive: " + landmarkCount);
+    }
+    this.landmarkCount = landmarkCount;
+  }
+
+  /**
+   * Uses precomputed landmarks, e.g. {@link Landmarks#read(java.nio.file.Path, CsrGraph) read}
+   * from disk, for their graph. Other graphs get {@code landmarks.getLandmarkCount()} new ones.
+   */
+  public AltAlgorithm(Landmarks landmarks) {
+    this(Math.max(1, landmarks.getLandmarkCount()));
+    this.landmarks = landmarks;
+  }
+
+  @Override
+  public String getName() {
+    return "ALT-Algorithm";
+  }
+
+  /**
+   * Full shortest path trees have no goal to direct the search to, so they are computed by {@link
+   * DijkstraHeapAlgorithm}.
+   */
+  @Override
+  public void computeDistancePredecessorMap(
+      CsrGraph graph, int source, IndexedDistancePredecessorMap result) {
+    oneToManyAlgorithm.computeDistancePredecessorMap(graph, source, result);
+  }
+
+  /**
+   * Runs an A* search guided by the landmark lower bounds when there is a single target, and
+   * {@link DijkstraHeapAlgorithm} with early exit otherwise.
+   *
+   * <p>Vertices are settled by distance plus lower bound to the target. The bound is consistent,
+   * so every settled vertex has its final distance and the search stops when the target is
+   * settled; vertices the landmarks prove unable to reach the target are never queued. Landmarks
+   * are selected on the first query against a graph (see {@link Landmarks#select(CsrGraph, int,
+   * ShortestPathAlgorithm)}). Complexity: O((V + E) (log V + k)) in the worst case, usually
+   * settling a small fraction of the vertices Dijkstra's algorithm would.
+   */
+  @Override
+  public void computeDistancePredecessorMap(
+      CsrGraph graph, int source, int[] targets, IndexedDistancePredecessorMap result) {
+    if (targets.length != 1) {
+      oneToManyAlgorithm.computeDistancePredecessorMap(graph, source, targets, result);
+      return;
+    }
+
+    int target = targets[0];
+    Landmarks graphLandmarks = getLandmarks(graph);
+    Scratch scratch = getScratch(graph.getVertexCount(), graphLandmarks.getLandmarkCount());
+    IndexedDaryHeap heap = scratch.heap;
+    double[] fromTarget = scratch.fromTarget;
+    double[] toTarget = scratch.toTarget;
+    graphLandmarks.loadTarget(target, fromTarget, toTarget);
+
+    result.reset();
+    result.setTargets(targets);
+
+    // Initialize source
+    result.update(source, 0.0, IndexedDistancePredecessorMap.NO_PREDECESSOR);
+    heap.insertOrDecrease(source, graphLandmarks.lowerBound(source, fromTarget, toTarget));
+
+    while (!heap.isEmpty()) {
+      int currentVertex = heap.pollMin();
+      result.markSettled(currentVertex);
+      if (result.hasSettledAllTargets()) {
+        heap.clear(); // Leave the shared heap empty for the next search
+        break;
+      }
+      double currentDistance = result.getDistance(currentVertex);
+
+      // Explore neighbors
+      for (int edge = graph.edgeStart(currentVertex); edge < graph.edgeEnd(currentVertex); edge++) {
+        int neighbor = graph.target(edge);
+        if (result.isSettled(neighbor)) {
+          continue;
+        }
+
+        double newDistance = currentDistance + graph.weight(edge);
+
+        if (newDistance < result.getDistance(neighbor)) {
+          double bound = graphLandmarks.lowerBound(neighbor, fromTarget, toTarget);
+          result.update(neighbor, newDistance, currentVertex);
+          if (bound < Double.POSITIVE_INFINITY) {
+            heap.insertOrDecrease(neighbor, newDistance + bound);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the landmarks used for {@code graph}, selecting them if the last ones were computed for
+   * another graph.
+   */
+  public Landmarks getLandmarks(CsrGraph graph) {
+    Landmarks current = landmarks;
+    if (Objects.nonNull(current) && current.getGraph() == graph) {
+      return current;
+    }
+
+    synchronized (this) {
+      current = landmarks;
+      if (Objects.isNull(current) || current.getGraph() != graph) {
+        current = Landmarks.select(graph, landmarkCount, oneToManyAlgorithm);
+        landmarks = current;
+      }
+      return current;
+    }
+  }
+
+  private Scratch getScratch(int vertexCount, int landmarkCount) {
+    Scratch scratch = scratches.get();
+    if (Objects.isNull(scratch)
+        || scratch.heap.capacity() < vertexCount
+        || scratch.fromTarget.length != landmarkCount) {
+      scratch = new Scratch(vertexCount, landmarkCount);
+      scratches.set(scratch);
+    }
+    return scratch;
+  }
+
+  private static final class Scratch {
+
+    private final IndexedDaryHeap heap;
+    private final double[] fromTarget;
+    private final double[] toTarget;
+
+    private Scratch(int vertexCount, int landmarkCount) {
+      this.heap = new IndexedDaryHeap(vertexCount);
+      this.fromTarget = new double[landmarkCount];
+      this.toTarget = new double[landmarkCount];
+    }
+  }
+}
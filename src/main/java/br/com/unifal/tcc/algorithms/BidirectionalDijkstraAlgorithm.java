@@ -0,0 +1,168 @@
+package br.com.unifal.tcc.algorithms;
+
+import br.com.unifal.tcc.algorithms.dto.IndexedDistancePredecessorMap;
+import br.com.unifal.tcc.algorithms.interfaces.ShortestPathAlgorithm;
+import br.com.unifal.tcc.algorithms.queues.IndexedDaryHeap;
+import br.com.unifal.tcc.model.graph.CsrGraph;
+import java.util.Objects;
+
+public class BidirectionalDijkstraAlgorithm implements ShortestPathAlgorithm {
+
+  private final ShortestPathAlgorithm oneToManyAlgorithm = new DijkstraHeapAlgorithm();
+
+  /** Queues and backward tree reused by every search of the same thread. */
+  private final ThreadLocal<Scratch> scratches = new ThreadLocal<>();
+
+  @Override
+  public String getName() {
+    return "Bidirectional-Dijkstra-Algorithm";
+  }
+
+  /**
+   * Full shortest path trees gain nothing from a backward search, so they are computed by {@link
+   * DijkstraHeapAlgorithm}.
+   */
+  @Override
+  public void computeDistancePredecessorMap(
+      CsrGraph graph, int source, IndexedDistancePredecessorMap result) {
+    oneToManyAlgorithm.computeDistancePredecessorMap(graph, source, result);
+  }
+
+  /**
+   * Runs a bidirectional search when there is a single target, and {@link DijkstraHeapAlgorithm}
+   * with early exit otherwise.
+   *
+   * <p>The forward search from {@code source} fills {@code result} over the outgoing edges, while
+   * the backward search from the target walks the incoming edges of {@link CsrGraph#reverse()};
+   * the side with the smaller queue head advances each step. Every edge relaxed between the two
+   * searches is a candidate path, and the search stops once the two queue heads add up to at least
+   * the best candidate, which is then the shortest path. Its backward half is spliced into {@code
+   * result}, so the target and every vertex on its path end up settled with final distances.
+   * Complexity: O((V + E) log V), settling roughly the vertices within half the distance around
+   * each endpoint.
+   */
+  @Override
+  public void computeDistancePredecessorMap(
+      CsrGraph graph, int source, int[] targets, IndexedDistancePredecessorMap result) {
+    if (targets.length != 1) {
+      oneToManyAlgorithm.computeDistancePredecessorMap(graph, source, targets, result);
+      return;
+    }
+
+    int target = targets[0];
+    result.reset();
+    result.update(source, 0.0, IndexedDistancePredecessorMap.NO_PREDECESSOR);
+    if (source == target) {
+      result.markSettled(source);
+      return;
+    }
+
+    CsrGraph reverse = graph.reverse();
+    Scratch scratch = getScratch(graph.getVertexCount());
+    IndexedDaryHeap forwardHeap = scratch.forwardHeap;
+    IndexedDaryHeap backwardHeap = scratch.backwardHeap;
+    IndexedDistancePredecessorMap backward = scratch.backward;
+    backward.reset();
+
+    // Initialize both endpoints
+    backward.update(target, 0.0, IndexedDistancePredecessorMap.NO_PREDECESSOR);
+    forwardHeap.insertOrDecrease(source, 0.0);
+    backwardHeap.insertOrDecrease(target, 0.0);
+
+    // Best path found so far: forward tree up to meetForward, edge, backward tree from meetBackward
+    double bestDistance = Double.POSITIVE_INFINITY;
+    int meetForward = IndexedDistancePredecessorMap.NO_PREDECESSOR;
+    int meetBackward = IndexedDistancePredecessorMap.NO_PREDECESSOR;
+
+    while (!forwardHeap.isEmpty()
+        && !backwardHeap.isEmpty()
+        && forwardHeap.peekMinKey() + backwardHeap.peekMinKey() < bestDistance) {
+      if (forwardHeap.peekMinKey() <= backwardHeap.peekMinKey()) {
+        int currentVertex = forwardHeap.pollMin();
+        result.markSettled(currentVertex);
+        double currentDistance = result.getDistance(currentVertex);
+
+        for (int edge = graph.edgeStart(currentVertex);
+            edge < graph.edgeEnd(currentVertex);
+            edge++) {
+          int neighbor = graph.target(edge);
+          double newDistance = currentDistance + graph.weight(edge);
+
+          if (newDistance < result.getDistance(neighbor)) {
+            result.update(neighbor, newDistance, currentVertex);
+            forwardHeap.insertOrDecrease(neighbor, newDistance);
+          }
+          if (newDistance + backward.getDistance(neighbor) < bestDistance) {
+            bestDistance = newDistance + backward.getDistance(neighbor);
+            meetForward = currentVertex;
+            meetBackward = neighbor;
+          }
+        }
+      } else {
+        int currentVertex = backwardHeap.pollMin();
+        backward.markSettled(currentVertex);
+        double currentDistance = backward.getDistance(currentVertex);
+
+        for (int edge = reverse.edgeStart(currentVertex);
+            edge < reverse.edgeEnd(currentVertex);
+            edge++) {
+          int neighbor = reverse.target(edge);
+          double newDistance = currentDistance + reverse.weight(edge);
+
+          if (newDistance < backward.getDistance(neighbor)) {
+            backward.update(neighbor, newDistance, currentVertex);
+            backwardHeap.insertOrDecrease(neighbor, newDistance);
+          }
+          if (result.getDistance(neighbor) + newDistance < bestDistance) {
+            bestDistance = result.getDistance(neighbor) + newDistance;
+            meetForward = neighbor;
+            meetBackward = currentVertex;
+          }
+        }
+      }
+    }
+
+    // Leave the shared heaps empty for the next search
+    forwardHeap.clear();
+    backwardHeap.clear();
+
+    if (bestDistance == Double.POSITIVE_INFINITY) {
+      return; // Target is unreachable
+    }
+
+    // Settle the forward half, then follow the backward tree from the meeting edge to the target
+    for (int current = meetForward;
+        current != IndexedDistancePredecessorMap.NO_PREDECESSOR;
+        current = result.getPredecessor(current)) {
+      result.markSettled(current);
+    }
+    for (int previous = meetForward, current = meetBackward;
+        current != IndexedDistancePredecessorMap.NO_PREDECESSOR;
+        previous = current, current = backward.getPredecessor(current)) {
+      result.update(current, bestDistance - backward.getDistance(current), previous);
+      result.markSettled(current);
+    }
+  }
+
+  private Scratch getScratch(int vertexCount) {
+    Scratch scratch = scratches.get();
+    if (Objects.isNull(scratch) || scratch.backward.getVertexCount() != vertexCount) {
+      scratch = new Scratch(vertexCount);
+      scratches.set(scratch);
+    }
+    return scratch;
+  }
+
+  private static final class Scratch {
+
+    private final IndexedDaryHeap forwardHeap;
+    private final IndexedDaryHeap backwardHeap;
+    private final IndexedDistancePredecessorMap backward;
+
+    private Scratch(int vertexCount) {
+      this.forwardHeap = new IndexedDaryHeap(vertexCount);
+      this.backwardHeap = new IndexedDaryHeap(vertexCount);
+      this.backward = new IndexedDistancePredecessorMap(vertexCount);
+    }
+  }
+}
@@ -0,0 +1,314 @@
+package br.com.unifal.tcc.algorithms;
+
+import br.com.unifal.tcc.algorithms.dto.IndexedDistancePredecessorMap;
+import br.com.unifal.tcc.algorithms.exceptions.UnreachableVertexException;
+import br.com.unifal.tcc.algorithms.interfaces.ShortestPathAlgorithm;
+import br.com.unifal.tcc.algorithms.interfaces.ShortestPathTree;
+import br.com.unifal.tcc.model.dto.PathResult;
+import br.com.unifal.tcc.model.graph.CsrGraph;
+import br.com.unifal.tcc.model.graph.Graph;
+import br.com.unifal.tcc.model.graph.Vertex;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Decorator that memoizes the shortest path tree of each source computed by another engine.
+ *
+ * <p>Trees are kept as plain distance/predecessor arrays in least-recently-used order and weighed
+ * by their size in bytes; the least recently used trees are evicted whenever the total exceeds the
+ * memory budget. Once a source is cached, {@link #findShortestPath(Graph, Vertex, Vertex)} costs a
+ * lookup plus the walk up the predecessor tree.
+ *
+ * <p>The cache belongs to one {@link CsrGraph} at a time and is dropped as soon as a search comes
+ * in for another one. Since {@link Graph#toCsrGraph()} builds a new snapshot after every {@link
+ * Graph#addEdge(br.com.unifal.tcc.model.graph.Edge)}, changing a graph invalidates every tree
+ * computed on it.
+ *
+ * <p>The batch API is forwarded: sources that are not cached yet are handed to the wrapped engine
+ * together, so an engine that searches several sources in one traversal still does.
+ *
+ * <p>Instances are thread-safe as long as the wrapped engine is. Closing the decorator closes the
+ * wrapped engine too.
+ */
+public class CachingShortestPathAlgorithm implements ShortestPathAlgorithm {
+
+  /** Estimated bytes taken by a cached tree on top of its arrays. */
+  static final long ENTRY_OVERHEAD_BYTES = 96;
+
+  private final ShortestPathAlgorithm delegate;
+  private final long memoryBudgetBytes;
+
+  /** Cached trees by source, in access order. Guarded by {@code this}. */
+  private final LinkedHashMap<Integer, CachedTree> trees = new LinkedHashMap<>(16, 0.75f, true);
+
+  private CsrGraph cachedGraph;
+  private long usedBytes;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /** Scratch map reused by every search of the same thread, replaced for other vertex counts. */
+  private final ThreadLocal<IndexedDistancePredecessorMap> scratchMaps = new ThreadLocal<>();
+
+  /**
+   * @param delegate the engine computing the trees that are not cached yet
+   * @param memoryBudgetBytes the largest number of bytes the cached trees may take
+   * @throws IllegalArgumentException if {@code memoryBudgetBytes} is negative
+   */
+  public CachingShortestPathAlgorithm(ShortestPathAlgorithm delegate, long memoryBudgetBytes) {
+    if (memoryBudgetBytes < 0) {
+      throw new IllegalArgumentException(
+          "Memory budget must not be negative: " + memoryBudgetBytes);
+    }
+    this.delegate = delegate;
+    this.memoryBudgetBytes = memoryBudgetBytes;
+  }
+
+  @Override
+  public String getName() {
+    return delegate.getName() + "-Cached";
+  }
+
+  /** @complexity O(L) on a hit, where L is the number of vertices in the path */
+  @Override
+  public PathResult findShortestPath(Graph graph, Vertex start, Vertex end) {
+    CsrGraph csrGraph = graph.toCsrGraph();
+    CachedTree tree = getTree(csrGraph, csrGraph.indexOf(start));
+    int target = csrGraph.indexOf(end);
+
+    double distance = tree.distances[target];
+    if (distance == Double.POSITIVE_INFINITY) {
+      throw new UnreachableVertexException(
+          String.format(
+              "Target vertex with id: %s is not reachable from start vertex!", end.getId()));
+    }
+
+    List<Vertex> path = new ArrayList<>();
+    for (int current = target;
+        current != IndexedDistancePredecessorMap.NO_PREDECESSOR;
+        current = tree.predecessors[current]) {
+      path.add(csrGraph.getVertex(current));
+    }
+
+    Collections.reverse(path);
+    return new PathResult(path, distance);
+  }
+
+  @Override
+  public Map<Vertex, Double> getDistanceMap(Graph graph, Vertex source) {
+    CsrGraph csrGraph = graph.toCsrGraph();
+    CachedTree tree = getTree(csrGraph, csrGraph.indexOf(source));
+
+    Map<Vertex, Double> result = new HashMap<>();
+    for (int v = 0; v < tree.distances.length; v++) {
+      if (tree.distances[v] < Double.POSITIVE_INFINITY) {
+        result.put(csrGraph.getVertex(v), tree.distances[v]);
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public double[] getDistances(CsrGraph graph, int source) {
+    return getTree(graph, source).distances.clone();
+  }
+
+  /** Copies the cached tree of {@code source} into {@code result}, computing it if needed. */
+  @Override
+  public void computeDistancePredecessorMap(
+      CsrGraph graph, int source, IndexedDistancePredecessorMap result) {
+    CachedTree tree = getTree(graph, source);
+
+    result.reset();
+    for (int v = 0; v < tree.distances.length; v++) {
+      if (tree.distances[v] < Double.POSITIVE_INFINITY) {
+        result.update(v, tree.distances[v], tree.predecessors[v]);
+        result.markSettled(v);
+      }
+    }
+  }
+
+  @Override
+  public int getBatchSize() {
+    return delegate.getBatchSize();
+  }
+
+  @Override
+  public int[] getBatchOrder(CsrGraph graph, int[] sources) {
+    return delegate.getBatchOrder(graph, sources);
+  }
+
+  /**
+   * Hands out the cached trees first, then searches the other sources together with the wrapped
+   * engine, caching their trees on the way.
+   */
+  @Override
+  public void computeShortestPathTrees(
+      CsrGraph graph,
+      int[] sources,
+      IndexedDistancePredecessorMap scratch,
+      ObjIntConsumer<ShortestPathTree> consumer) {
+    int[] missing = new int[sources.length];
+    int missingCount = 0;
+    for (int i = 0; i < sources.length; i++) {
+      CachedTree tree = getCachedTree(graph, sources[i]);
+      if (Objects.nonNull(tree)) {
+        consumer.accept(tree, i);
+      } else {
+        missing[missingCount++] = i;
+      }
+    }
+
+    int[] missingSources = new int[missingCount];
+    for (int j = 0; j < missingCount; j++) {
+      missingSources[j] = sources[missing[j]];
+    }
+    delegate.computeShortestPathTrees(
+        graph,
+        missingSources,
+        scratch,
+        (tree, j) -> consumer.accept(cache(graph, missingSources[j], tree), missing[j]));
+  }
+
+  /** Serves full trees, which are final at every target and are the ones worth caching. */
+  @Override
+  public void computeShortestPathTrees(
+      CsrGraph graph,
+      int[] sources,
+      int[] targets,
+      IndexedDistancePredecessorMap scratch,
+      ObjIntConsumer<ShortestPathTree> consumer) {
+    computeShortestPathTrees(graph, sources, scratch, consumer);
+  }
+
+  /** Drops every cached tree and closes the wrapped engine. */
+  @Override
+  public void close() {
+    invalidate();
+    delegate.close();
+  }
+
+  /** Drops every cached tree. */
+  public synchronized void invalidate() {
+    trees.clear();
+    usedBytes = 0;
+    cachedGraph = null;
+  }
+
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  public long getEvictionCount() {
+    return evictions.sum();
+  }
+
+  public synchronized long getUsedBytes() {
+    return usedBytes;
+  }
+
+  public synchronized int getCachedTreeCount() {
+    return trees.size();
+  }
+
+  private CachedTree getTree(CsrGraph graph, int source) {
+    CachedTree tree = getCachedTree(graph, source);
+    if (Objects.nonNull(tree)) {
+      return tree;
+    }
+
+    // Search outside of the lock, so other threads keep hitting the cache meanwhile
+    IndexedDistancePredecessorMap scratch = getScratchMap(graph.getVertexCount());
+    delegate.computeDistancePredecessorMap(graph, source, scratch);
+    return cache(graph, source, scratch);
+  }
+
+  /** Returns the cached tree of {@code source}, or null after counting a miss. */
+  private synchronized CachedTree getCachedTree(CsrGraph graph, int source) {
+    if (cachedGraph != graph) {
+      invalidate();
+      cachedGraph = graph;
+    }
+    CachedTree tree = trees.get(source);
+    if (Objects.nonNull(tree)) {
+      hits.increment();
+    } else {
+      misses.increment();
+    }
+    return tree;
+  }
+
+  /** Copies a freshly searched tree and caches the copy if it fits the budget. */
+  private CachedTree cache(CsrGraph graph, int source, ShortestPathTree searched) {
+    CachedTree tree = new CachedTree(searched.toDistanceArray(), searched.toPredecessorArray());
+
+    synchronized (this) {
+      if (cachedGraph == graph && tree.bytes() <= memoryBudgetBytes) {
+        CachedTree previous = trees.put(source, tree);
+        usedBytes += tree.bytes() - (Objects.isNull(previous) ? 0 : previous.bytes());
+        evictLeastRecentlyUsed();
+      }
+    }
+    return tree;
+  }
+
+  private void evictLeastRecentlyUsed() {
+    Iterator<CachedTree> iterator = trees.values().iterator();
+    while (usedBytes > memoryBudgetBytes && iterator.hasNext()) {
+      usedBytes -= iterator.next().bytes();
+      iterator.remove();
+      evictions.increment();
+    }
+  }
+
+  private IndexedDistancePredecessorMap getScratchMap(int vertexCount) {
+    IndexedDistancePredecessorMap scratch = scratchMaps.get();
+    if (Objects.isNull(scratch) || scratch.getVertexCount() != vertexCount) {
+      scratch = new IndexedDistancePredecessorMap(vertexCount);
+      scratchMaps.set(scratch);
+    }
+    return scratch;
+  }
+
+  private record CachedTree(double[] distances, int[] predecessors) implements ShortestPathTree {
+
+    @Override
+    public int getVertexCount() {
+      return distances.length;
+    }
+
+    @Override
+    public double getDistance(int vertex) {
+      return distances[vertex];
+    }
+
+    @Override
+    public int getPredecessor(int vertex) {
+      return predecessors[vertex];
+    }
+
+    @Override
+    public boolean isSettled(int vertex) {
+      return distances[vertex] < Double.POSITIVE_INFINITY;
+    }
+
+    long bytes() {
+      return ENTRY_OVERHEAD_BYTES
+          + (long) distances.length * Double.BYTES
+          + (long) predecessors.length * Integer.BYTES;
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package br.com.unifal.tcc.algorithms;
+
+import br.com.unifal.tcc.algorithms.contraction.ContractionHierarchy;
+import br.com.unifal.tcc.algorithms.dto.IndexedDistancePredecessorMap;
+import br.com.unifal.tcc.algorithms.interfaces.ShortestPathAlgorithm;
+import br.com.unifal.tcc.model.graph.CsrGraph;
+import java.util.Objects;
+
+public class ContractionHierarchyAlgorithm implements ShortestPathAlgorithm {
+
+  private final ShortestPathAlgorithm oneToManyAlgorithm = new DijkstraHeapAlgorithm();
+  private final int parallelism;
+
+  /** Hierarchy of the last graph searched, replaced when a search comes in for another graph. */
+  private volatile ContractionHierarchy hierarchy;
+
+  public ContractionHierarchyAlgorithm() {
+    this(Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * @param parallelism the number of workers contracting each new graph
+   */
+  public ContractionHierarchyAlgorithm(int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+    }
+    this.parallelism = parallelism;
+  }
+
+  /**
+   * Uses a prebuilt hierarchy, e.g. {@link ContractionHierarchy#read(java.nio.file.Path, CsrGraph)
+   * read} from disk, for its graph. Other graphs are contracted on all available processors.
+   */
+  public ContractionHierarchyAlgorithm(ContractionHierarchy hierarchy) {
+    this();
+    this.hierarchy = hierarchy;
+  }
+
+  @Override
+  public String getName() {
+    return "Contraction-Hierarchy-Algorithm";
+  }
+
+  /**
+   * Full shortest path trees gain nothing from the hierarchy, so they are computed by {@link
+   * DijkstraHeapAlgorithm}.
+   */
+  @Override
+  public void computeDistancePredecessorMap(
+      CsrGraph graph, int source, IndexedDistancePredecessorMap result) {
+    oneToManyAlgorithm.computeDistancePredecessorMap(graph, source, result);
+  }
+
+  /**
+   * Runs a bidirectional upward search in the contraction hierarchy when there is a single target,
+   * and {@link DijkstraHeapAlgorithm} with early exit otherwise.
+   *
+   * <p>Only the vertices of the unpacked shortest path are settled in {@code result}. The graph is
+   * contracted on the first query against it (see {@link ContractionHierarchy#build(CsrGraph,
+   * int)}). Complexity: O(S log S + L) per query, where S is the upward search space of the two
+   * endpoints and L the length of the path.
+   */
+  @Override
+  public void computeDistancePredecessorMap(
+      CsrGraph graph, int source, int[] targets, IndexedDistancePredecessorMap result) {
+    if (targets.length != 1) {
+      oneToManyAlgorithm.computeDistancePredecessorMap(graph, source, targets, result);
+      return;
+    }
+
+    getHierarchy(graph).computeShortestPath(source, targets[0], result);
+  }
+
+  /**
+   * Returns the hierarchy used for {@code graph}, contracting it if the last hierarchy was built
+   * for another graph.
+   */
+  public ContractionHierarchy getHierarchy(CsrGraph graph) {
+    ContractionHierarchy current = hierarchy;
+    if (Objects.nonNull(current) && current.getGraph() == graph) {
+      return current;
+    }
+
+    synchronized (this) {
+      current = hierarchy;
+      if (Objects.isNull(current) || current.getGraph() != graph) {
+        current = ContractionHierarchy.build(graph, parallelism);
+        hierarchy = current;
+      }
+      return current;
+    }
+  }
+}
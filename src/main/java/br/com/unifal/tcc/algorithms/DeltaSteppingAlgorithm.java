@@ -0,0 +1,546 @@
+package br.com.unifal.tcc.algorithms;
+
+import br.com.unifal.tcc.algorithms.dto.IndexedDistancePredecessorMap;
+import br.com.unifal.tcc.algorithms.interfaces.ShortestPathAlgorithm;
+import br.com.unifal.tcc.model.graph.CsrGraph;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Parallel Δ-stepping (Meyer and Sanders, "Δ-stepping: a parallelizable shortest path algorithm",
+ * 2003) on a {@link ForkJoinPool}.
+ *
+ * <p>Tentative distances live in buckets of width Δ. The lowest non-empty bucket is emptied in
+ * phases: all its vertices relax their light edges ({@code w <= Δ}) in parallel, and the vertices
+ * whose distance dropped into the same bucket form the next phase. Once the bucket stays empty its
+ * distances are final, and the heavy edges of the vertices it held are relaxed in one more
+ * parallel step; they can only reach later buckets. Distances are stored as {@code double} bits in
+ * an {@link AtomicLongArray}, which orders non-negative doubles like their bits, so relaxations are
+ * a compare-and-set minimum; every worker files the vertices it improved into its own buckets.
+ *
+ * <p>Predecessors are not tracked during the search, since a compare-and-set on the distance
+ * cannot update them atomically. Instead a parallel breadth-first search from the source follows
+ * tight edges ({@code d(u) + w = d(v)}) and gives every vertex the predecessor that discovered it
+ * first, which yields a tree even across zero-weight cycles.
+ *
+ * <p>Δ is chosen per graph from its weights (see {@link SplitGraph#chooseDelta(CsrGraph)}), and
+ * the edges of every vertex are copied light ones first, so each phase scans only the edges it
+ * relaxes. Small frontiers run on the calling thread; larger ones are split into chunks shared by
+ * the pool's workers.
+ *
+ * <p>Every instance owns its pool; {@link #close()} shuts it down once the engine is no longer
+ * needed, so callers should create it in a try-with-resources block.
+ */
+public class DeltaSteppingAlgorithm implements ShortestPathAlgorithm {
+
+  /** Most buckets a relaxation can jump ahead of the current one, capping the bucket array. */
+  static final int MAX_BUCKET_SPAN = 4096;
+
+  /** Number of items a worker takes at a time; frontiers up to this size are not split. */
+  static final int CHUNK_SIZE = 256;
+
+  private static final int DELTA_SAMPLE_SIZE = 4096;
+
+  private final ForkJoinPool pool;
+
+  /** Split edges of the last graph searched, replaced when a search comes in for another graph. */
+  private volatile SplitGraph splitGraph;
+
+  /** Distances, marks and worker buckets reused by every search started from the same thread. */
+  private final ThreadLocal<Search> searches = new ThreadLocal<>();
+
+  /** Runs on a pool with one worker per available processor. */
+  public DeltaSteppingAlgorithm() {
+    this(Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * @param parallelism the number of workers of the pool running every search
+   */
+  public DeltaSteppingAlgorithm(int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+    }
+    this.pool = new ForkJoinPool(parallelism);
+  }
+
+  @Override
+  public String getName() {
+    return "Delta-Stepping-Algorithm";
+  }
+
+  /**
+   * Shuts the pool down after the searches already running. Later searches still run frontiers
+   * small enough for the calling thread, but throw a {@link
+   * java.util.concurrent.RejectedExecutionException} on the first one they would split.
+   */
+  @Override
+  public void close() {
+    pool.shutdown();
+  }
+
+  /**
+   * Runs Δ-stepping from the given source and fills an {@link IndexedDistancePredecessorMap}, every
+   * reached vertex settled.
+   *
+   * <p>Complexity: O(V + E) work per bucket phase in the worst case, close to O(V + E) in total on
+   * graphs with bounded degree and spread-out weights, divided over the pool's workers.
+   */
+  @Override
+  public void computeDistancePredecessorMap(
+      CsrGraph graph, int source, IndexedDistancePredecessorMap result) {
+    result.reset();
+    getSearch(getSplitGraph(graph)).run(source, result);
+  }
+
+  /** Returns the split edges of {@code graph}, building them if the last ones were for another. */
+  private SplitGraph getSplitGraph(CsrGraph graph) {
+    SplitGraph current = splitGraph;
+    if (Objects.nonNull(current) && current.graph == graph) {
+      return current;
+    }
+
+    synchronized (this) {
+      current = splitGraph;
+      if (Objects.isNull(current) || current.graph != graph) {
+        current = new SplitGraph(graph);
+        splitGraph = current;
+      }
+      return current;
+    }
+  }
+
+  private Search getSearch(SplitGraph split) {
+    Search search = searches.get();
+    if (Objects.isNull(search)
+        || search.distances.length() != split.vertexCount
+        || search.workers[0].buckets.length != split.bucketSpan) {
+      search = new Search(split.vertexCount, split.bucketSpan, pool.getParallelism());
+      searches.set(search);
+    }
+    search.split = split;
+    return search;
+  }
+
+  /** Processes items {@code [start, end)} of a parallel step on behalf of {@code worker}. */
+  @FunctionalInterface
+  private interface RangeTask {
+    void process(Worker worker, int start, int end);
+  }
+
+  /** Processes one vertex of a parallel step on behalf of {@code worker}. */
+  @FunctionalInterface
+  private interface VertexTask {
+    void process(Worker worker, int vertex);
+  }
+
+  /** State of one single-source search; the workers run its parallel steps. */
+  private final class Search {
+
+    private final AtomicLongArray distances;
+    private final AtomicIntegerArray marks;
+    private final Worker[] workers;
+    private final IntList[] lists;
+    private SplitGraph split;
+    private int mark;
+
+    private Search(int vertexCount, int bucketSpan, int parallelism) {
+      this.distances = new AtomicLongArray(vertexCount);
+      this.marks = new AtomicIntegerArray(vertexCount);
+      this.workers = new Worker[parallelism];
+      this.lists = new IntList[parallelism];
+      for (int i = 0; i < parallelism; i++) {
+        workers[i] = new Worker(bucketSpan);
+      }
+    }
+
+    private void run(int source, IndexedDistancePredecessorMap result) {
+      for (Worker worker : workers) {
+        worker.clear(); // Only left dirty by a search that failed
+      }
+      long infinity = Double.doubleToRawLongBits(Double.POSITIVE_INFINITY);
+      forEachIndex(
+          split.vertexCount,
+          (worker, start, end) -> {
+            for (int v = start; v < end; v++) {
+              distances.set(v, infinity);
+            }
+          });
+
+      distances.set(source, Double.doubleToRawLongBits(0.0));
+      workers[0].bucket(0).add(source);
+      for (long bucket = 0; bucket >= 0; bucket = nextBucket(bucket)) {
+        settleBucket(bucket);
+      }
+      buildTree(source, result);
+    }
+
+    /**
+     * Empties {@code bucket} by phases of light edge relaxations, then relaxes the heavy edges of
+     * every vertex it held.
+     */
+    private void settleBucket(long bucket) {
+      int slot = split.slot(bucket);
+      int settledMark = nextMark();
+      while (true) {
+        int phaseMark = nextMark();
+        for (int i = 0; i < workers.length; i++) {
+          lists[i] = workers[i].swapFrontier(slot);
+        }
+        if (totalSize(lists) == 0) {
+          break;
+        }
+
+        forEachVertex(
+            lists,
+            (worker, vertex) -> {
+              double distance = distance(vertex);
+              if (split.bucketOf(distance) != bucket || !claim(vertex, phaseMark)) {
+                return; // Moved to an earlier bucket, or queued more than once in this phase
+              }
+              worker.settled.add(vertex);
+              for (int edge = split.offsets[vertex]; edge < split.lightEnds[vertex]; edge++) {
+                relax(worker, split.targets[edge], distance + split.weights[edge]);
+              }
+            });
+      }
+
+      // A vertex may have been processed in several phases, but its heavy edges only once
+      for (int i = 0; i < workers.length; i++) {
+        lists[i] = workers[i].settled;
+      }
+      forEachVertex(
+          lists,
+          (worker, vertex) -> {
+            if (!claim(vertex, settledMark)) {
+              return;
+            }
+            double distance = distance(vertex);
+            for (int edge = split.lightEnds[vertex]; edge < split.offsets[vertex + 1]; edge++) {
+              relax(worker, split.targets[edge], distance + split.weights[edge]);
+            }
+          });
+      for (Worker worker : workers) {
+        worker.settled.size = 0;
+      }
+    }
+
+    /**
+     * Returns the first non-empty bucket after {@code bucket}, or -1 if all are empty. Relaxations
+     * never jump more than {@code bucketSpan} buckets ahead, so that many slots are checked.
+     */
+    private long nextBucket(long bucket) {
+      for (long next = bucket + 1; next < bucket + split.bucketSpan; next++) {
+        int slot = split.slot(next);
+        for (Worker worker : workers) {
+          if (Objects.nonNull(worker.buckets[slot]) && worker.buckets[slot].size > 0) {
+            return next;
+          }
+        }
+      }
+      return -1;
+    }
+
+    /** Lowers the distance of {@code vertex} to {@code distance} if that is smaller. */
+    private void relax(Worker worker, int vertex, double distance) {
+      long bits = Double.doubleToRawLongBits(distance);
+      long current = distances.get(vertex);
+      while (bits < current) {
+        if (distances.compareAndSet(vertex, current, bits)) {
+          worker.bucket(split.slot(split.bucketOf(distance))).add(vertex);
+          return;
+        }
+        current = distances.get(vertex);
+      }
+    }
+
+    /**
+     * Fills {@code result} level by level from the source over tight edges. Each vertex is claimed
+     * by the first tight edge that reaches it, from a vertex of an earlier level, so the
+     * predecessors form a tree.
+     */
+    private void buildTree(int source, IndexedDistancePredecessorMap result) {
+      // Without targets, settling only writes the vertex's own slot and is safe in parallel
+      int treeMark = nextMark();
+      marks.set(source, treeMark);
+      result.update(source, 0.0, IndexedDistancePredecessorMap.NO_PREDECESSOR);
+      result.markSettled(source);
+      workers[0].next.add(source);
+
+      CsrGraph graph = split.graph;
+      while (true) {
+        for (int i = 0; i < workers.length; i++) {
+          lists[i] = workers[i].swapNext();
+        }
+        if (totalSize(lists) == 0) {
+          break;
+        }
+
+        forEachVertex(
+            lists,
+            (worker, vertex) -> {
+              double distance = distance(vertex);
+              for (int edge = graph.edgeStart(vertex); edge < graph.edgeEnd(vertex); edge++) {
+                int neighbor = graph.target(edge);
+                double neighborDistance = distance(neighbor);
+                if (neighborDistance < Double.POSITIVE_INFINITY
+                    && distance + graph.weight(edge) == neighborDistance
+                    && claim(neighbor, treeMark)) {
+                  result.update(neighbor, neighborDistance, vertex);
+                  result.markSettled(neighbor);
+                  worker.next.add(neighbor);
+                }
+              }
+            });
+      }
+    }
+
+    private double distance(int vertex) {
+      return Double.longBitsToDouble(distances.get(vertex));
+    }
+
+    /** Gives {@code vertex} the mark, telling whether this call was the one that did. */
+    private boolean claim(int vertex, int claimMark) {
+      int current = marks.get(vertex);
+      return current != claimMark && marks.compareAndSet(vertex, current, claimMark);
+    }
+
+    /** Returns a mark no vertex carries yet, clearing all marks when the counter wraps. */
+    private int nextMark() {
+      if (mark == Integer.MAX_VALUE) {
+        for (int v = 0; v < marks.length(); v++) {
+          marks.set(v, 0);
+        }
+        mark = 0;
+      }
+      return ++mark;
+    }
+
+    /** Runs {@code task} over every vertex of {@code vertexLists}, as if they were one list. */
+    private void forEachVertex(IntList[] vertexLists, VertexTask task) {
+      int[] offsets = new int[vertexLists.length + 1];
+      for (int i = 0; i < vertexLists.length; i++) {
+        offsets[i + 1] = offsets[i] + vertexLists[i].size;
+      }
+
+      forEachIndex(
+          offsets[vertexLists.length],
+          (worker, start, end) -> {
+            int list = 0;
+            while (offsets[list + 1] <= start) {
+              list++;
+            }
+            for (int index = start; index < end; index++) {
+              while (offsets[list + 1] <= index) {
+                list++;
+              }
+              task.process(worker, vertexLists[list].items[index - offsets[list]]);
+            }
+          });
+    }
+
+    /**
+     * Runs {@code task} over {@code [0, count)}: on the calling thread if it fits in one chunk,
+     * otherwise as chunks taken by one pool task per worker.
+     */
+    private void forEachIndex(int count, RangeTask task) {
+      if (count == 0) {
+        return;
+      }
+      if (count <= CHUNK_SIZE || workers.length == 1) {
+        task.process(workers[0], 0, count);
+        return;
+      }
+
+      AtomicInteger next = new AtomicInteger();
+      int taskCount = Math.min(workers.length, (count + CHUNK_SIZE - 1) / CHUNK_SIZE);
+      ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[taskCount];
+      for (int i = 0; i < taskCount; i++) {
+        Worker worker = workers[i];
+        tasks[i] =
+            ForkJoinTask.adapt(
+                () -> {
+                  int start;
+                  while ((start = next.getAndAdd(CHUNK_SIZE)) < count) {
+                    task.process(worker, start, Math.min(start + CHUNK_SIZE, count));
+                  }
+                });
+      }
+      pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+    }
+  }
+
+  private static int totalSize(IntList[] lists) {
+    int size = 0;
+    for (IntList list : lists) {
+      size += list.size;
+    }
+    return size;
+  }
+
+  /** Buckets and work lists of one worker, only ever written by the thread running it. */
+  private static final class Worker {
+
+    /** Cyclic buckets, indexed by bucket number modulo their count, allocated on first use. */
+    private final IntList[] buckets;
+
+    private final IntList settled = new IntList();
+    private IntList frontier = new IntList();
+    private IntList next = new IntList();
+    private IntList current = new IntList();
+
+    private Worker(int bucketSpan) {
+      this.buckets = new IntList[bucketSpan];
+    }
+
+    private void clear() {
+      for (IntList bucket : buckets) {
+        if (Objects.nonNull(bucket)) {
+          bucket.size = 0;
+        }
+      }
+      settled.size = 0;
+      next.size = 0;
+    }
+
+    private IntList bucket(int slot) {
+      IntList bucket = buckets[slot];
+      if (Objects.isNull(bucket)) {
+        bucket = new IntList();
+        buckets[slot] = bucket;
+      }
+      return bucket;
+    }
+
+    /** Takes the vertices filed into bucket {@code slot}, leaving the bucket empty. */
+    private IntList swapFrontier(int slot) {
+      IntList taken = bucket(slot);
+      frontier.size = 0;
+      buckets[slot] = frontier;
+      frontier = taken;
+      return taken;
+    }
+
+    /** Takes the vertices discovered in the last tree level, leaving the list empty. */
+    private IntList swapNext() {
+      IntList taken = next;
+      current.size = 0;
+      next = current;
+      current = taken;
+      return taken;
+    }
+  }
+
+  /**
+   * Copy of a graph's edges with the light ones ({@code w <= Δ}) of every vertex first, and the Δ
+   * chosen for it.
+   */
+  private static final class SplitGraph {
+
+    private final CsrGraph graph;
+    private final int vertexCount;
+    private final double delta;
+    private final int bucketSpan;
+    private final int[] offsets;
+    private final int[] lightEnds;
+    private final int[] targets;
+    private final double[] weights;
+
+    private SplitGraph(CsrGraph graph) {
+      this.graph = graph;
+      this.vertexCount = graph.getVertexCount();
+      this.delta = chooseDelta(graph);
+      this.bucketSpan = (int) Math.min(MAX_BUCKET_SPAN, maxWeight(graph) / delta) + 3;
+      this.offsets = new int[vertexCount + 1];
+      this.lightEnds = new int[vertexCount];
+      this.targets = new int[graph.getEdgeCount()];
+      this.weights = new double[graph.getEdgeCount()];
+
+      int position = 0;
+      for (int v = 0; v < vertexCount; v++) {
+        offsets[v] = position;
+        for (int edge = graph.edgeStart(v); edge < graph.edgeEnd(v); edge++) {
+          if (graph.weight(edge) <= delta) {
+            targets[position] = graph.target(edge);
+            weights[position++] = graph.weight(edge);
+          }
+        }
+        lightEnds[v] = position;
+        for (int edge = graph.edgeStart(v); edge < graph.edgeEnd(v); edge++) {
+          if (!(graph.weight(edge) <= delta)) {
+            targets[position] = graph.target(edge);
+            weights[position++] = graph.weight(edge);
+          }
+        }
+      }
+      offsets[vertexCount] = position;
+    }
+
+    /**
+     * Returns {@code w / d}, where {@code w} is the 99th percentile of a sample of the weights and
+     * {@code d} the average out-degree: the Δ = Θ(1 / d) of Meyer and Sanders for weights in
+     * [0, 1], scaled to the graph's weights and ignoring outliers. Δ is raised if needed so that no
+     * edge spans more than {@link #MAX_BUCKET_SPAN} buckets.
+     */
+    private static double chooseDelta(CsrGraph graph) {
+      int edgeCount = graph.getEdgeCount();
+      int step = Math.max(1, edgeCount / DELTA_SAMPLE_SIZE);
+      double[] sample = new double[(edgeCount + step - 1) / step];
+      int sampleSize = 0;
+      for (int edge = 0; edge < edgeCount; edge += step) {
+        double weight = graph.weight(edge);
+        if (weight < Double.POSITIVE_INFINITY) {
+          sample[sampleSize++] = weight;
+        }
+      }
+      if (sampleSize == 0) {
+        return 1.0;
+      }
+
+      Arrays.sort(sample, 0, sampleSize);
+      double highWeight = sample[(int) (0.99 * (sampleSize - 1))];
+      double averageDegree = Math.max(1.0, (double) edgeCount / graph.getVertexCount());
+      double delta = Math.max(highWeight / averageDegree, maxWeight(graph) / MAX_BUCKET_SPAN);
+      return delta > 0.0 ? delta : 1.0;
+    }
+
+    /** Returns the largest finite weight, or 0 if there is none. */
+    private static double maxWeight(CsrGraph graph) {
+      double max = 0.0;
+      for (int edge = 0; edge < graph.getEdgeCount(); edge++) {
+        double weight = graph.weight(edge);
+        if (weight > max && weight < Double.POSITIVE_INFINITY) {
+          max = weight;
+        }
+      }
+      return max;
+    }
+
+    private long bucketOf(double distance) {
+      return (long) (distance / delta);
+    }
+
+    private int slot(long bucket) {
+      return (int) (bucket % bucketSpan);
+    }
+  }
+
+  /** Growable list of vertex ids. */
+  private static final class IntList {
+
+    private int[] items = new int[8];
+    private int size;
+
+    private void add(int item) {
+      if (size == items.length) {
+        items = Arrays.copyOf(items, size * 2);
+      }
+      items[size++] = item;
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package br.com.unifal.tcc.algorithms;
+
+import br.com.unifal.tcc.algorithms.dense.DenseKernel;
+import br.com.unifal.tcc.algorithms.dense.DenseMatrix;
+import br.com.unifal.tcc.algorithms.dto.IndexedDistancePredecessorMap;
+import br.com.unifal.tcc.algorithms.interfaces.ShortestPathAlgorithm;
+import br.com.unifal.tcc.model.graph.CsrGraph;
+import java.util.Objects;
+
+public class DenseMatrixAlgorithm implements ShortestPathAlgorithm {
+
+  private final ShortestPathAlgorithm sparseAlgorithm = new DijkstraHeapAlgorithm();
+  private final DenseKernel kernel;
+
+  /** Matrix of the last graph searched, replaced when a search comes in for another graph. */
+  private volatile DenseMatrix matrix;
+
+  /** Uses the Vector API kernel when it is available (see {@link DenseKernel#best()}). */
+  public DenseMatrixAlgorithm() {
+    this(DenseKernel.best());
+  }
+
+  /**
+   * @param kernel the kernel sweeping the matrix rows
+   */
+  public DenseMatrixAlgorithm(DenseKernel kernel) {
+    this.kernel = kernel;
+  }
+
+  @Override
+  public String getName() {
+    return "Dense-Matrix-Algorithm";
+  }
+
+  /**
+   * Runs Dijkstra's algorithm with linear scans over the graph's adjacency matrix, built on the
+   * first search against the graph. Graphs above {@link DenseMatrix#MAX_VERTEX_COUNT} vertices are
+   * searched by {@link DijkstraHeapAlgorithm} instead. Complexity: O(V^2).
+   */
+  @Override
+  public void computeDistancePredecessorMap(
+      CsrGraph graph, int source, IndexedDistancePredecessorMap result) {
+    if (!DenseMatrix.fits(graph)) {
+      sparseAlgorithm.computeDistancePredecessorMap(graph, source, result);
+      return;
+    }
+
+    result.reset();
+    getMatrix(graph).computeShortestPaths(source, result);
+  }
+
+  /** Runs the same search, stopping as soon as every target is settled. */
+  @Override
+  public void computeDistancePredecessorMap(
+      CsrGraph graph, int source, int[] targets, IndexedDistancePredecessorMap result) {
+    if (!DenseMatrix.fits(graph)) {
+      sparseAlgorithm.computeDistancePredecessorMap(graph, source, targets, result);
+      return;
+    }
+
+    result.reset();
+    result.setTargets(targets);
+    getMatrix(graph).computeShortestPaths(source, result);
+  }
+
+  /**
+   * Returns the matrix used for {@code graph}, building it if the last matrix was built for another
+   * graph.
+   */
+  public DenseMatrix getMatrix(CsrGraph graph) {
+    DenseMatrix current = matrix;
+    if (Objects.nonNull(current) && current.getGraph() == graph) {
+      return current;
+    }
+
+    synchronized (this) {
+      current = matrix;
+      if (Objects.isNull(current) || current.getGraph() != graph) {
+        current = DenseMatrix.of(graph, kernel);
+        matrix = current;
+      }
+      return current;
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package br.com.unifal.tcc.algorithms;
+
+import br.com.unifal.tcc.algorithms.dto.IndexedDistancePredecessorMap;
+import br.com.unifal.tcc.algorithms.interfaces.ShortestPathAlgorithm;
+import br.com.unifal.tcc.algorithms.queues.IndexedDaryHeap;
+import br.com.unifal.tcc.model.graph.CsrGraph;
+import java.util.Objects;
+
+public class DijkstraHeapAlgorithm implements ShortestPathAlgorithm {
+
+  /** Heap reused by every search of the same thread, grown when a larger graph comes in. */
+  private final ThreadLocal<IndexedDaryHeap> heaps = new ThreadLocal<>();
+
+  @Override
+  public String getName() {
+    return "Dijkstra-IndexedHeap-Algorithm";
+  }
+
+  /**
+   * Runs Dijkstra's algorithm over an indexed 4-ary heap with decrease-key. Every vertex is in the
+   * heap at most once, so there are no stale entries and no allocation per relaxation. Complexity:
+   * O((V + E) log V).
+   */
+  @Override
+  public void computeDistancePredecessorMap(
+      CsrGraph graph, int source, IndexedDistancePredecessorMap result) {
+    result.reset();
+    search(graph, source, result);
+  }
+
+  /** Runs the same search, stopping as soon as every target is settled. */
+  @Override
+  public void computeDistancePredecessorMap(
+      CsrGraph graph, int source, int[] targets, IndexedDistancePredecessorMap result) {
+    result.reset();
+    result.setTargets(targets);
+    search(graph, source, result);
+  }
+
+  private void search(CsrGraph graph, int source, IndexedDistancePredecessorMap result) {
+    IndexedDaryHeap heap = getHeap(graph.getVertexCount());
+
+    // Initialize source
+    result.update(source, 0.0, IndexedDistancePredecessorMap.NO_PREDECESSOR);
+    heap.insertOrDecrease(source, 0.0);
+
+    while (!heap.isEmpty()) {
+      int currentVertex = heap.pollMin();
+      result.markSettled(currentVertex);
+      if (result.hasSettledAllTargets()) {
+        heap.clear(); // Leave the shared heap empty for the next search
+        break;
+      }
+      double currentDistance = result.getDistance(currentVertex);
+
+      // Explore neighbors
+      for (int edge = graph.edgeStart(currentVertex); edge < graph.edgeEnd(currentVertex); edge++) {
+        int neighbor = graph.target(edge);
+        double newDistance = currentDistance + graph.weight(edge);
+
+        if (newDistance < result.getDistance(neighbor)) {
+          result.update(neighbor, newDistance, currentVertex);
+          heap.insertOrDecrease(neighbor, newDistance);
+        }
+      }
+    }
+  }
+
+  private IndexedDaryHeap getHeap(int vertexCount) {
+    IndexedDaryHeap heap = heaps.get();
+    if (Objects.isNull(heap) || heap.capacity() < vertexCount) {
+      heap = new IndexedDaryHeap(vertexCount);
+      heaps.set(heap);
+    }
+    return heap;
+  }
+}
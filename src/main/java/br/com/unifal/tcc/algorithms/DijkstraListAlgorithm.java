@@ -1,13 +1,8 @@
 package br.com.unifal.tcc.algorithms;
 
 import br.com.unifal.tcc.algorithms.interfaces.ShortestPathAlgorithm;
-import br.com.unifal.tcc.algorithms.dto.DistancePredecessorMap;
-import br.com.unifal.tcc.model.graph.Graph;
-import br.com.unifal.tcc.model.graph.Vertex;
-import br.com.unifal.tcc.model.dto.PathResult;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
+import br.com.unifal.tcc.algorithms.dto.IndexedDistancePredecessorMap;
+import br.com.unifal.tcc.model.graph.CsrGraph;
 
 public class DijkstraListAlgorithm implements ShortestPathAlgorithm {
 
@@ -16,71 +11,66 @@ public class DijkstraListAlgorithm implements ShortestPathAlgorithm {
     return "Dijkstra-List-Algorithm";
   }
 
+  /**
+   * Runs Dijkstra's algorithm using a regular list (linear search for minimum). Complexity: O(V^2 +
+   * E). For dense graphs {@link DenseMatrixAlgorithm} runs the same scans over contiguous arrays.
+   */
   @Override
-  public PathResult findShortestPath(Graph graph, Vertex start, Vertex end) {
-    DistancePredecessorMap result = computeDistancePredecessorMap(graph, start);
-    return new PathResult(result.getPath(end), result.getPathCostTo(end));
+  public void computeDistancePredecessorMap(
+      CsrGraph graph, int source, IndexedDistancePredecessorMap result) {
+    result.reset();
+    search(graph, source, result);
   }
 
+  /** Runs the same search, stopping as soon as every target is settled. */
   @Override
-  public Map<Vertex, Double> getDistanceMap(Graph graph, Vertex source) {
-    return computeDistancePredecessorMap(graph, source).getDistances();
+  public void computeDistancePredecessorMap(
+      CsrGraph graph, int source, int[] targets, IndexedDistancePredecessorMap result) {
+    result.reset();
+    result.setTargets(targets);
+    search(graph, source, result);
   }
 
-  /**
-   * Runs Dijkstra's algorithm using a regular list (linear search for minimum). Complexity: O(V^2 +
-   * E).
-   */
-  private DistancePredecessorMap computeDistancePredecessorMap(Graph graph, Vertex source) {
-    DistancePredecessorMap result = new DistancePredecessorMap();
-    Set<Vertex> visited = new HashSet<>();
-
+  private void search(CsrGraph graph, int source, IndexedDistancePredecessorMap result) {
     // Initialize source
-    result.setDistance(source, 0.0);
-    result.setPredecessor(source, null);
+    result.update(source, 0.0, IndexedDistancePredecessorMap.NO_PREDECESSOR);
 
-    while (visited.size() < graph.getVerticesSet().size()) {
-      Vertex currentVertex = getClosestUnvisitedVertex(result, visited, graph);
+    for (int visitedCount = 0; visitedCount < graph.getVertexCount(); visitedCount++) {
+      int currentVertex = getClosestUnvisitedVertex(result);
 
-      if (currentVertex == null) {
+      if (currentVertex < 0) {
         break; // Remaining vertices are unreachable
       }
 
-      if (visited.contains(currentVertex)) {
-        continue;
+      result.markSettled(currentVertex);
+      if (result.hasSettledAllTargets()) {
+        break;
       }
-
-      visited.add(currentVertex);
+      double currentDistance = result.getDistance(currentVertex);
 
       // Explore neighbors
-      Map<Vertex, Double> neighbors = graph.getNeighbors(currentVertex);
-      neighbors.forEach(
-          (neighbor, cost) -> {
-            if (visited.contains(neighbor)) {
-              return;
-            }
+      for (int edge = graph.edgeStart(currentVertex); edge < graph.edgeEnd(currentVertex); edge++) {
+        int neighbor = graph.target(edge);
+        if (result.isSettled(neighbor)) {
+          continue;
+        }
 
-            double newDistance = result.getDistance(currentVertex) + cost;
+        double newDistance = currentDistance + graph.weight(edge);
 
-            if (newDistance < result.getDistance(neighbor)) {
-              result.setDistance(neighbor, newDistance);
-              result.setPredecessor(neighbor, currentVertex);
-            }
-          });
+        if (newDistance < result.getDistance(neighbor)) {
+          result.update(neighbor, newDistance, currentVertex);
+        }
+      }
     }
-
-    return result;
   }
 
-  /** Returns the unvisited vertex with the smallest tentative distance. */
-  private Vertex getClosestUnvisitedVertex(
-      DistancePredecessorMap result, Set<Vertex> visited, Graph graph) {
-
-    Vertex closest = null;
+  /** Returns the unvisited vertex with the smallest tentative distance, or -1 if none is reachable. */
+  private int getClosestUnvisitedVertex(IndexedDistancePredecessorMap result) {
+    int closest = -1;
     double minDistance = Double.POSITIVE_INFINITY;
 
-    for (Vertex vertex : graph.getVerticesSet()) {
-      if (!visited.contains(vertex)) {
+    for (int vertex = 0; vertex < result.getVertexCount(); vertex++) {
+      if (!result.isSettled(vertex)) {
         double distance = result.getDistance(vertex);
         if (distance < minDistance) {
           minDistance = distance;
@@ -1,15 +1,10 @@
 package br.com.unifal.tcc.algorithms;
 
 import java.util.Comparator;
-import java.util.HashSet;
-import java.util.Map;
 import java.util.PriorityQueue;
-import java.util.Set;
 import br.com.unifal.tcc.algorithms.interfaces.ShortestPathAlgorithm;
-import br.com.unifal.tcc.algorithms.dto.DistancePredecessorMap;
-import br.com.unifal.tcc.model.graph.Graph;
-import br.com.unifal.tcc.model.graph.Vertex;
-import br.com.unifal.tcc.model.dto.PathResult;
+import br.com.unifal.tcc.algorithms.dto.IndexedDistancePredecessorMap;
+import br.com.unifal.tcc.model.graph.CsrGraph;
 
 public class DijkstraPqAlgorithm implements ShortestPathAlgorithm {
 
@@ -18,67 +13,68 @@ public class DijkstraPqAlgorithm implements ShortestPathAlgorithm {
         return "Dijkstra-PriorityQueue-Algorithm";
     }
 
+    /**
+     * Runs Dijkstra's algorithm and fills an {@link IndexedDistancePredecessorMap} from the given source.
+     */
     @Override
-    public PathResult findShortestPath(Graph graph, Vertex start, Vertex end) {
-        DistancePredecessorMap result = computeDistancePredecessorMap(graph, start);
-        return new PathResult(result.getPath(end), result.getPathCostTo(end));
-    }
-
-    @Override
-    public Map<Vertex, Double> getDistanceMap(Graph graph, Vertex source) {
-        return computeDistancePredecessorMap(graph, source).getDistances();
+    public void computeDistancePredecessorMap(
+            CsrGraph graph, int source, IndexedDistancePredecessorMap result) {
+        result.reset();
+        search(graph, source, result);
     }
 
     /**
-     * Runs Dijkstra's algorithm and builds a {@link DistancePredecessorMap} from the given source.
+     * Runs Dijkstra's algorithm until every target is settled.
      */
-    private DistancePredecessorMap computeDistancePredecessorMap(Graph graph, Vertex source) {
-        DistancePredecessorMap result = new DistancePredecessorMap();
+    @Override
+    public void computeDistancePredecessorMap(
+            CsrGraph graph, int source, int[] targets, IndexedDistancePredecessorMap result) {
+        result.reset();
+        result.setTargets(targets);
+        search(graph, source, result);
+    }
 
+    private void search(CsrGraph graph, int source, IndexedDistancePredecessorMap result) {
         PriorityQueue<VertexDistance> pq =
                 new PriorityQueue<>(Comparator.comparingDouble(VertexDistance::distance));
-        Set<Vertex> visited = new HashSet<>();
 
         // Initialize source
-        result.setDistance(source, 0.0);
-        result.setPredecessor(source, null);
-
-        // Initialize distances
-        pq.offer(new VertexDistance(source, result.getDistance(source)));
+        result.update(source, 0.0, IndexedDistancePredecessorMap.NO_PREDECESSOR);
+        pq.offer(new VertexDistance(source, 0.0));
 
         while (!pq.isEmpty()) {
-            VertexDistance current = pq.poll();
-            Vertex currentVertex = current.vertex;
+            int currentVertex = pq.poll().vertex();
 
-            if (visited.contains(currentVertex)) {
+            if (result.isSettled(currentVertex)) {
                 continue;
             }
 
-            visited.add(currentVertex);
+            result.markSettled(currentVertex);
+            if (result.hasSettledAllTargets()) {
+                break;
+            }
+            double currentDistance = result.getDistance(currentVertex);
 
             // Explore neighbors
-            Map<Vertex, Double> neighbors = graph.getNeighbors(currentVertex);
-            neighbors.forEach((neighbor, cost) -> {
-                if (visited.contains(neighbor)) {
-                    return;
+            for (int edge = graph.edgeStart(currentVertex); edge < graph.edgeEnd(currentVertex); edge++) {
+                int neighbor = graph.target(edge);
+                if (result.isSettled(neighbor)) {
+                    continue;
                 }
 
-                double newDistance = result.getDistance(currentVertex) + cost;
+                double newDistance = currentDistance + graph.weight(edge);
 
                 if (newDistance < result.getDistance(neighbor)) {
-                    result.setDistance(neighbor, newDistance);
-                    result.setPredecessor(neighbor, currentVertex);
+                    result.update(neighbor, newDistance, currentVertex);
                     pq.offer(new VertexDistance(neighbor, newDistance));
                 }
-            });
+            }
         }
-
-        return result;
     }
 
     /**
      * Helper record to store vertex-distance pairs for the priority queue.
      */
-    private record VertexDistance(Vertex vertex, double distance) {
+    private record VertexDistance(int vertex, double distance) {
     }
 }
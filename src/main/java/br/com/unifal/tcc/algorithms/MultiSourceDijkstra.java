@@ -0,0 +1,363 @@
+package br.com.unifal.tcc.algorithms;
+
+import br.com.unifal.tcc.algorithms.dto.IndexedDistancePredecessorMap;
+import br.com.unifal.tcc.algorithms.interfaces.ShortestPathTree;
+import br.com.unifal.tcc.algorithms.queues.IndexedDaryHeap;
+import br.com.unifal.tcc.model.graph.CsrGraph;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Shortest path search from up to {@link #LANES} sources at once, sharing one traversal of the
+ * graph between all of them.
+ *
+ * <p>Every vertex holds one distance and one predecessor per source, interleaved into a row of
+ * {@code LANES} consecutive entries, and a bit mask of the lanes that changed since it was last
+ * scanned. Scanning a vertex loads each of its edges once and relaxes all of those lanes with reads
+ * and writes to the two rows the edge joins. A vertex is queued by the smallest of its changed
+ * distances; the other changed lanes are relaxed in the same scan but may not be final yet, and if
+ * one of them improves later the vertex is queued and scanned again. The search is therefore label
+ * correcting rather than label setting: a vertex is scanned at most once per lane, and only once
+ * when the sources are close enough for their shortest path trees to agree on the order in which
+ * to reach it. {@link #orderByLocality(CsrGraph, int[])} groups sources that way.
+ *
+ * <p>The rows take {@code LANES} times the memory of a single search, about 220 bytes per vertex
+ * and thread in all. Results are handed out as views of them rather than copied into one map per
+ * source.
+ */
+final class MultiSourceDijkstra {
+
+  /** Number of sources searched together, i.e. the width of a row. */
+  static final int LANES = 16;
+
+  private static final int UNVISITED = -2;
+
+  /** Rows, queue and marks reused by every batch of the same thread. */
+  private final ThreadLocal<Scratch> scratches = new ThreadLocal<>();
+
+  /**
+   * Hands the shortest path tree of {@code sources[i]} to {@code consumer} together with {@code
+   * i}, as a view of the rows that is only valid during that call.
+   *
+   * <p>With {@code targets}, the search stops once every lane has reached every target and the
+   * smallest queued key is no lower than the distances found to them: no queued vertex can improve
+   * them anymore. Vertices within that key count as settled and hold final distances; without
+   * targets every reached vertex does.
+   *
+   * @param graph the graph
+   * @param sources at most {@link #LANES} source ids
+   * @param targets the target ids, or {@code null} to search the whole graph
+   * @param consumer receives every lane with its position in {@code sources}
+   * @complexity O(LANES · (V log V + LANES · E)) in the worst case, when each lane of a vertex
+   *     changes again after every scan, and O(V log V + LANES · E) when every vertex is scanned
+   *     once
+   */
+  void search(
+      CsrGraph graph, int[] sources, int[] targets, ObjIntConsumer<ShortestPathTree> consumer) {
+    int laneCount = sources.length;
+    Scratch scratch = getScratch(graph.getVertexCount());
+    scratch.nextEpoch(graph.getVertexCount());
+    double[] distances = scratch.distances;
+    int[] predecessors = scratch.predecessors;
+    int[] pending = scratch.pending;
+    IndexedDaryHeap heap = scratch.heap;
+
+    // (target, lane) pairs not reached yet; once all are, the farthest of them bounds the search
+    int unreachedTargets = 0;
+    if (Objects.nonNull(targets)) {
+      for (int target : targets) {
+        if (scratch.markTarget(target)) {
+          unreachedTargets += laneCount;
+        }
+      }
+    }
+    int targetCount = unreachedTargets;
+    double targetBound = Double.POSITIVE_INFINITY;
+    boolean targetBoundStale = false;
+    int scansSinceTargetBound = 0;
+
+    for (int lane = 0; lane < laneCount; lane++) {
+      int source = sources[lane];
+      scratch.touch(source);
+      int slot = source * LANES + lane;
+      if (distances[slot] == Double.POSITIVE_INFINITY && scratch.isTarget(source)) {
+        unreachedTargets--;
+      }
+      distances[slot] = 0.0;
+      predecessors[slot] = IndexedDistancePredecessorMap.NO_PREDECESSOR;
+      pending[source] |= 1 << lane;
+      heap.insertOrDecrease(source, 0.0);
+    }
+
+    double settledBound = Double.POSITIVE_INFINITY;
+    while (!heap.isEmpty()) {
+      if (unreachedTargets == 0 && targetCount > 0) {
+        if (targetBoundStale
+            && (targetBound == Double.POSITIVE_INFINITY || scansSinceTargetBound >= targetCount)) {
+          // Refreshed at most once per targetCount scans, which keeps it O(1) amortized; a stale
+          // bound is only too high, which delays the stop but never makes it early
+          targetBound = scratch.getFarthestTarget(targets, laneCount);
+          targetBoundStale = false;
+          scansSinceTargetBound = 0;
+        }
+        if (heap.peekMinKey() >= targetBound) {
+          settledBound = heap.peekMinKey();
+          heap.clear(); // Leave the shared heap empty for the next batch
+          break;
+        }
+        scansSinceTargetBound++;
+      }
+
+      int vertex = heap.pollMin();
+      int changed = pending[vertex];
+      pending[vertex] = 0;
+      int row = vertex * LANES;
+
+      for (int edge = graph.edgeStart(vertex); edge < graph.edgeEnd(vertex); edge++) {
+        int neighbor = graph.target(edge);
+        double weight = graph.weight(edge);
+        scratch.touch(neighbor);
+        int neighborRow = neighbor * LANES;
+
+        // Lanes unchanged since the last scan of vertex were relaxed then and cannot improve
+        int improved = 0;
+        int newlyReached = 0;
+        double key = Double.POSITIVE_INFINITY;
+        for (int lanes = changed; lanes != 0; lanes &= lanes - 1) {
+          int lane = Integer.numberOfTrailingZeros(lanes);
+          double candidate = distances[row + lane] + weight;
+          double current = distances[neighborRow + lane];
+          if (candidate < current) {
+            distances[neighborRow + lane] = candidate;
+            predecessors[neighborRow + lane] = vertex;
+            improved |= 1 << lane;
+            newlyReached += current == Double.POSITIVE_INFINITY ? 1 : 0;
+            key = Math.min(key, candidate);
+          }
+        }
+
+        if (improved != 0) {
+          pending[neighbor] |= improved;
+          heap.insertOrDecrease(neighbor, key);
+          if (scratch.isTarget(neighbor)) {
+            unreachedTargets -= newlyReached;
+            if (unreachedTargets == 0) {
+              targetBoundStale = true;
+            }
+          }
+        }
+      }
+    }
+
+    for (int lane = 0; lane < laneCount; lane++) {
+      consumer.accept(scratch.getLane(lane, settledBound), lane);
+    }
+  }
+
+  /**
+   * Returns the positions of {@code sources} sorted so that sources close to each other in the
+   * graph come next to each other, which lets consecutive blocks share most of their scans.
+   *
+   * <p>The order is a depth-first preorder of a breadth-first spanning forest over the outgoing
+   * edges: every subtree is contiguous in it, so consecutive vertices are a few edges apart.
+   *
+   * @complexity O(V + E + s log s), where s is the number of sources
+   */
+  static int[] orderByLocality(CsrGraph graph, int[] sources) {
+    int vertexCount = graph.getVertexCount();
+    int[] parents = new int[vertexCount];
+    Arrays.fill(parents, UNVISITED);
+    int[] visitOrder = new int[vertexCount];
+    int visited = 0;
+
+    for (int root = 0; root < vertexCount; root++) {
+      if (parents[root] != UNVISITED) {
+        continue;
+      }
+      parents[root] = IndexedDistancePredecessorMap.NO_PREDECESSOR;
+      visitOrder[visited++] = root;
+      for (int head = visited - 1; head < visited; head++) {
+        int vertex = visitOrder[head];
+        for (int edge = graph.edgeStart(vertex); edge < graph.edgeEnd(vertex); edge++) {
+          int neighbor = graph.target(edge);
+          if (parents[neighbor] == UNVISITED) {
+            parents[neighbor] = vertex;
+            visitOrder[visited++] = neighbor;
+          }
+        }
+      }
+    }
+
+    // Children of every vertex as contiguous slices, in visit order
+    int[] childStarts = new int[vertexCount + 1];
+    for (int vertex = 0; vertex < vertexCount; vertex++) {
+      if (parents[vertex] != IndexedDistancePredecessorMap.NO_PREDECESSOR) {
+        childStarts[parents[vertex] + 1]++;
+      }
+    }
+    for (int vertex = 0; vertex < vertexCount; vertex++) {
+      childStarts[vertex + 1] += childStarts[vertex];
+    }
+    int[] children = new int[vertexCount];
+    int[] nextChild = Arrays.copyOf(childStarts, vertexCount);
+    for (int i = 0; i < vertexCount; i++) {
+      int vertex = visitOrder[i];
+      if (parents[vertex] != IndexedDistancePredecessorMap.NO_PREDECESSOR) {
+        children[nextChild[parents[vertex]]++] = vertex;
+      }
+    }
+
+    int[] ranks = new int[vertexCount];
+    int[] stack = new int[vertexCount];
+    int rank = 0;
+    for (int root = 0; root < vertexCount; root++) {
+      if (parents[root] != IndexedDistancePredecessorMap.NO_PREDECESSOR) {
+        continue;
+      }
+      int stackSize = 0;
+      stack[stackSize++] = root;
+      while (stackSize > 0) {
+        int vertex = stack[--stackSize];
+        ranks[vertex] = rank++;
+        for (int child = childStarts[vertex + 1] - 1; child >= childStarts[vertex]; child--) {
+          stack[stackSize++] = children[child];
+        }
+      }
+    }
+
+    // Rank in the high half and position in the low half, so a primitive sort does it
+    long[] keyed = new long[sources.length];
+    for (int position = 0; position < sources.length; position++) {
+      keyed[position] = (long) ranks[sources[position]] << Integer.SIZE | position;
+    }
+    Arrays.sort(keyed);
+    int[] order = new int[sources.length];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = (int) keyed[i];
+    }
+    return order;
+  }
+
+  private Scratch getScratch(int vertexCount) {
+    Scratch scratch = scratches.get();
+    if (Objects.isNull(scratch) || scratch.capacity() < vertexCount) {
+      scratch = new Scratch(vertexCount);
+      scratches.set(scratch);
+    }
+    return scratch;
+  }
+
+  private static final class Scratch {
+
+    private final double[] distances;
+    private final int[] predecessors;
+
+    /** Bit mask of the lanes of each vertex that changed since its last scan. */
+    private final int[] pending;
+
+    /** Epoch of the batch that last touched each vertex; rows of older ones are stale. */
+    private final int[] reachedEpochs;
+
+    private final int[] targetEpochs;
+    private final IndexedDaryHeap heap;
+    private final Lane lane = new Lane();
+    private int vertexCount;
+    private int epoch;
+
+    private Scratch(int vertexCount) {
+      this.distances = new double[vertexCount * LANES];
+      this.predecessors = new int[vertexCount * LANES];
+      this.pending = new int[vertexCount];
+      this.reachedEpochs = new int[vertexCount];
+      this.targetEpochs = new int[vertexCount];
+      this.heap = new IndexedDaryHeap(vertexCount);
+    }
+
+    private int capacity() {
+      return pending.length;
+    }
+
+    private void nextEpoch(int vertexCount) {
+      if (epoch == Integer.MAX_VALUE) {
+        Arrays.fill(reachedEpochs, 0);
+        Arrays.fill(targetEpochs, 0);
+        epoch = 0;
+      }
+      epoch++;
+      this.vertexCount = vertexCount;
+    }
+
+    /** Clears the row of {@code vertex} the first time the current batch reaches it. */
+    private void touch(int vertex) {
+      if (reachedEpochs[vertex] != epoch) {
+        reachedEpochs[vertex] = epoch;
+        Arrays.fill(distances, vertex * LANES, (vertex + 1) * LANES, Double.POSITIVE_INFINITY);
+        pending[vertex] = 0;
+      }
+    }
+
+    /** Marks a target, returning false if it was already marked by the current batch. */
+    private boolean markTarget(int vertex) {
+      if (targetEpochs[vertex] == epoch) {
+        return false;
+      }
+      targetEpochs[vertex] = epoch;
+      return true;
+    }
+
+    private boolean isTarget(int vertex) {
+      return targetEpochs[vertex] == epoch;
+    }
+
+    private double getFarthestTarget(int[] targets, int laneCount) {
+      double farthest = 0.0;
+      for (int target : targets) {
+        for (int lane = 0; lane < laneCount; lane++) {
+          farthest = Math.max(farthest, distances[target * LANES + lane]);
+        }
+      }
+      return farthest;
+    }
+
+    /** Points the shared view at one lane, settling the vertices within {@code settledBound}. */
+    private ShortestPathTree getLane(int index, double settledBound) {
+      lane.index = index;
+      lane.settledBound = settledBound;
+      return lane;
+    }
+
+    /** One column of the rows of the current batch. */
+    private final class Lane implements ShortestPathTree {
+
+      private int index;
+      private double settledBound;
+
+      @Override
+      public int getVertexCount() {
+        return vertexCount;
+      }
+
+      @Override
+      public double getDistance(int vertex) {
+        return reachedEpochs[vertex] == epoch
+            ? distances[vertex * LANES + index]
+            : Double.POSITIVE_INFINITY;
+      }
+
+      @Override
+      public int getPredecessor(int vertex) {
+        // A touched row keeps stale predecessors in the lanes that never reached the vertex
+        return isReached(vertex)
+            ? predecessors[vertex * LANES + index]
+            : IndexedDistancePredecessorMap.NO_PREDECESSOR;
+      }
+
+      @Override
+      public boolean isSettled(int vertex) {
+        double distance = getDistance(vertex);
+        return distance < Double.POSITIVE_INFINITY && distance <= settledBound;
+      }
+    }
+  }
+}
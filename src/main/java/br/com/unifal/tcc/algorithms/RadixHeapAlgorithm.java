@@ -0,0 +1,94 @@
+package br.com.unifal.tcc.algorithms;
+
+import br.com.unifal.tcc.algorithms.dto.IndexedDistancePredecessorMap;
+import br.com.unifal.tcc.algorithms.interfaces.ShortestPathAlgorithm;
+import br.com.unifal.tcc.algorithms.queues.DialBucketQueue;
+import br.com.unifal.tcc.algorithms.queues.MonotoneIntegerQueue;
+import br.com.unifal.tcc.algorithms.queues.RadixHeap;
+import br.com.unifal.tcc.model.graph.CsrGraph;
+
+public class RadixHeapAlgorithm implements ShortestPathAlgorithm {
+
+  /** Largest edge weight for which Dial's buckets are used instead of the radix heap. */
+  static final long DIAL_MAX_WEIGHT = 256;
+
+  private final ShortestPathAlgorithm fallbackAlgorithm = new DijkstraHeapAlgorithm();
+
+  @Override
+  public String getName() {
+    return "Radix-Heap-Algorithm";
+  }
+
+  /**
+   * Runs Dijkstra's algorithm over an integer bucket queue: Dial's buckets when the maximum weight
+   * is at most {@link #DIAL_MAX_WEIGHT}, a monotone radix heap otherwise. Complexity: O(E + D) with
+   * Dial's buckets, where D is the largest distance, and O(E + V log C) with the radix heap, where C
+   * is the maximum weight.
+   *
+   * <p>Both queues need non-negative integer weights; on any other graph the search is delegated
+   * to {@link DijkstraHeapAlgorithm}.
+   */
+  @Override
+  public void computeDistancePredecessorMap(
+      CsrGraph graph, int source, IndexedDistancePredecessorMap result) {
+    if (!graph.hasIntegerWeights()) {
+      fallbackAlgorithm.computeDistancePredecessorMap(graph, source, result);
+      return;
+    }
+
+    result.reset();
+    search(graph, source, result);
+  }
+
+  /** Runs the same search, stopping as soon as every target is settled. */
+  @Override
+  public void computeDistancePredecessorMap(
+      CsrGraph graph, int source, int[] targets, IndexedDistancePredecessorMap result) {
+    if (!graph.hasIntegerWeights()) {
+      fallbackAlgorithm.computeDistancePredecessorMap(graph, source, targets, result);
+      return;
+    }
+
+    result.reset();
+    result.setTargets(targets);
+    search(graph, source, result);
+  }
+
+  private void search(CsrGraph graph, int source, IndexedDistancePredecessorMap result) {
+    MonotoneIntegerQueue queue = createQueue(graph);
+
+    // Initialize source
+    result.update(source, 0.0, IndexedDistancePredecessorMap.NO_PREDECESSOR);
+    queue.push(source, 0L);
+
+    while (!queue.isEmpty()) {
+      int currentVertex = queue.pollMin();
+
+      if (result.isSettled(currentVertex)) {
+        continue; // Outdated copy of an already settled vertex
+      }
+
+      result.markSettled(currentVertex);
+      if (result.hasSettledAllTargets()) {
+        break;
+      }
+      long currentDistance = queue.lastKey();
+
+      // Explore neighbors
+      for (int edge = graph.edgeStart(currentVertex); edge < graph.edgeEnd(currentVertex); edge++) {
+        int neighbor = graph.target(edge);
+        long newDistance = currentDistance + (long) graph.weight(edge);
+
+        if (newDistance < result.getDistance(neighbor)) {
+          result.update(neighbor, newDistance, currentVertex);
+          queue.push(neighbor, newDistance);
+        }
+      }
+    }
+  }
+
+  private MonotoneIntegerQueue createQueue(CsrGraph graph) {
+    long maxWeight = (long) graph.getMaxWeight();
+    return maxWeight <= DIAL_MAX_WEIGHT ? new DialBucketQueue(maxWeight) : new RadixHeap();
+  }
+}
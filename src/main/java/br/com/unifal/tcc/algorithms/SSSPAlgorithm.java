@@ -1,196 +1,421 @@
 package br.com.unifal.tcc.algorithms;
 
-import br.com.unifal.tcc.algorithms.dto.DistancePredecessorMap;
+import br.com.unifal.tcc.algorithms.dto.IndexedDistancePredecessorMap;
 import br.com.unifal.tcc.algorithms.interfaces.ShortestPathAlgorithm;
-import br.com.unifal.tcc.model.dto.PathResult;
-import br.com.unifal.tcc.model.graph.Graph;
-import br.com.unifal.tcc.model.graph.Vertex;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
-
+import br.com.unifal.tcc.algorithms.queues.BlockPartitionQueue;
+import br.com.unifal.tcc.algorithms.queues.IndexedDaryHeap;
+import br.com.unifal.tcc.model.graph.CsrGraph;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Bounded multi-source shortest path (BMSSP) algorithm of Duan, Mao, Mao, Shu and Yin, "Breaking
+ * the Sorting Barrier for Directed Single-Source Shortest Paths" (STOC 2025).
+ *
+ * <p>{@code BMSSP(l, B, S)} completes every vertex whose shortest path below the bound {@code B}
+ * runs through the complete vertices {@code S}. It first runs {@code k} Bellman-Ford rounds from
+ * {@code S} (FindPivots), which completes the vertices close to {@code S} and leaves only the
+ * roots of large shortest path trees as pivots. The pivots go into a {@link BlockPartitionQueue},
+ * from which batches of {@code 2^((l - 1)t)} vertices are pulled and handed to {@code BMSSP(l - 1,
+ * ...)} with the bound separating them from the rest; level 0 is a Dijkstra search capped at
+ * {@code k + 1} vertices. With {@code k = log^(1/3) n} and {@code t = log^(2/3) n} this runs in
+ * O(m log^(2/3) n) on constant-degree graphs, below the O(n log n) sorting barrier of Dijkstra.
+ *
+ * <p>The paper assumes all path lengths distinct; here ties are handled at the two places where
+ * they matter: a pull returns all items tied with its largest one, and the base case keeps
+ * settling until the next distance is strictly larger, so returned bounds always strictly separate
+ * complete vertices from the others. Relaxations use {@code <=} as in the paper, skipping complete
+ * vertices, which are marked as settled in the result.
+ *
+ * <p>Work stays proportional to the relaxations performed: FindPivots only scans the vertices
+ * updated in the previous round, and every call appends the vertices it completes to one shared
+ * log and hands its caller their index range there instead of a copy, so completed vertices are
+ * never gathered again on the way up the recursion.
+ */
 public class SSSPAlgorithm implements ShortestPathAlgorithm {
 
-    private static final int K = 4;
+    /** Heap, vertex marks and worklists reused by every search of the same thread. */
+    private final ThreadLocal<Scratch> scratches = new ThreadLocal<>();
 
     @Override
     public String getName() {
         return "SSSP-Algorithm";
     }
 
+    /**
+     * Runs {@code BMSSP(ceil(log n / t), infinity, {source})} and fills an {@link
+     * IndexedDistancePredecessorMap} from the given source.
+     */
     @Override
-    public PathResult findShortestPath(Graph graph, Vertex start, Vertex end) {
-        DistancePredecessorMap result = computeDistancePredecessorMap(graph, start);
-        return new PathResult(result.getPath(end), result.getPathCostTo(end));
-    }
+    public void computeDistancePredecessorMap(
+            CsrGraph graph, int source, IndexedDistancePredecessorMap result) {
+        result.reset();
 
-    @Override
-    public Map<Vertex, Double> getDistanceMap(Graph graph, Vertex source) {
-        return computeDistancePredecessorMap(graph, source).getDistances();
+        // Initialize source
+        result.update(source, 0.0, IndexedDistancePredecessorMap.NO_PREDECESSOR);
+
+        new Search(graph, result, getScratch(graph.getVertexCount())).run(source);
     }
 
-    /**
-     * Runs SSSP's algorithm and builds a {@link DistancePredecessorMap} from the given source.
-     */
-    private DistancePredecessorMap computeDistancePredecessorMap(Graph graph, Vertex source) {
-        DistancePredecessorMap result = new DistancePredecessorMap();
+    private Scratch getScratch(int vertexCount) {
+        Scratch scratch = scratches.get();
+        if (Objects.isNull(scratch) || scratch.heap.capacity() < vertexCount) {
+            scratch = new Scratch(vertexCount);
+            scratches.set(scratch);
+        }
+        return scratch;
+    }
 
-        // Initialize source
-        result.setDistance(source, 0.0);
-        result.setPredecessor(source, null);
+    /** One single-source search: the parameters of the recursion and the tentative distances. */
+    private static final class Search {
+
+        private final CsrGraph graph;
+        private final IndexedDistancePredecessorMap result;
+        private final Scratch scratch;
+        private final int k;
+        private final int t;
+        private final int levels;
+
+        private Search(CsrGraph graph, IndexedDistancePredecessorMap result, Scratch scratch) {
+            this.graph = graph;
+            this.result = result;
+            this.scratch = scratch;
+
+            double log = Math.log(Math.max(2, graph.getVertexCount())) / Math.log(2);
+            this.k = Math.max(1, (int) Math.floor(Math.cbrt(log)));
+            this.t = Math.max(1, (int) Math.floor(Math.pow(log, 2.0 / 3.0)));
+            this.levels = (int) Math.ceil(log / t);
+        }
 
-        // Set of finished vertices
-        Set<Vertex> finished = new HashSet<>();
-        finished.add(source);
+        private void run(int source) {
+            scratch.completed.size = 0;
+            bmssp(levels, Double.POSITIVE_INFINITY, new int[] {source});
+        }
 
-        // Initial frontier
-        Set<Vertex> frontier = new HashSet<>();
-        frontier.add(source);
+        /**
+         * Completes every vertex whose shortest path below {@code bound} goes through {@code
+         * sources}, or, once more than {@code k 2^(level t)} vertices are complete, those below a
+         * smaller returned bound.
+         */
+        private Completion bmssp(int level, double bound, int[] sources) {
+            if (level == 0) {
+                return baseCase(bound, sources);
+            }
 
-        // Main loop
-        while (!frontier.isEmpty()) {
-            Set<Vertex> newlyFinishedVertices = performBoundedRelaxation(graph, frontier, result);
+            Pivots pivots = findPivots(bound, sources);
+            int blockSize = (int) Math.min(1L << Math.min(62, (level - 1) * t), Integer.MAX_VALUE);
+            long completionLimit = (level * t >= 62) ? Long.MAX_VALUE : (long) k << (level * t);
 
-            if (newlyFinishedVertices.isEmpty()) {
-                break; // No more progress possible
+            BlockPartitionQueue queue = new BlockPartitionQueue(blockSize, bound);
+            for (int pivot : pivots.pivots()) {
+                queue.insert(pivot, result.getDistance(pivot));
             }
 
-            finished.addAll(newlyFinishedVertices);
+            IntList completed = scratch.completed;
+            int from = completed.size;
+            double lastBound = bound;
+            while (completed.size - from < completionLimit && !queue.isEmpty()) {
+                BlockPartitionQueue.Pulled pulled = queue.pull();
+                int[] batch = incompleteDistinct(pulled.vertices());
+                if (batch.length == 0) {
+                    continue; // Only stale items
+                }
 
-            // Update frontier: vertices that border unfinished regions
-            frontier = computeNewFrontier(graph, finished);
+                double batchBound = pulled.bound();
+                Completion child = bmssp(level - 1, batchBound, batch);
+                lastBound = child.bound();
+
+                // Relax the edges of the newly complete vertices
+                IntList prependVertices = scratch.prependVertices;
+                DoubleList prependValues = scratch.prependValues;
+                prependVertices.size = 0;
+                prependValues.size = 0;
+                for (int i = child.from(); i < child.to(); i++) {
+                    int current = completed.items[i];
+                    double currentDistance = result.getDistance(current);
+                    for (int edge = graph.edgeStart(current); edge < graph.edgeEnd(current); edge++) {
+                        int neighbor = graph.target(edge);
+                        if (result.isSettled(neighbor)) {
+                            continue;
+                        }
 
-            // Recursive call for remaining unfinished vertices if needed
-            if (!frontier.isEmpty()) {
-                Set<Vertex> remaining = new HashSet<>();
-                for (Vertex vertex : graph.getVerticesSet()) {
-                    if (!finished.contains(vertex)
-                            && result.getDistance(vertex) == Double.POSITIVE_INFINITY) {
-                        remaining.add(vertex);
+                        double newDistance = currentDistance + graph.weight(edge);
+                        if (relax(neighbor, newDistance, current)) {
+                            if (newDistance >= batchBound && newDistance < bound) {
+                                queue.insert(neighbor, newDistance);
+                            } else if (newDistance >= child.bound() && newDistance < batchBound) {
+                                prependVertices.add(neighbor);
+                                prependValues.add(newDistance);
+                            }
+                        }
                     }
                 }
 
-                if (!remaining.isEmpty()) {
-                    // Perform recursive exploration with smaller k
-                    performRecursiveExploration(graph, frontier, result, finished, remaining);
+                // Batch vertices the child left incomplete go back in front
+                for (int vertex : batch) {
+                    double distance = result.getDistance(vertex);
+                    if (!result.isSettled(vertex)
+                            && distance >= child.bound()
+                            && distance < batchBound) {
+                        prependVertices.add(vertex);
+                        prependValues.add(distance);
+                    }
                 }
+                queue.batchPrepend(
+                        prependVertices.items, prependValues.items, prependVertices.size);
             }
-        } // end main loop
 
-        return result;
-    }
+            double completedBound = queue.isEmpty() ? bound : Math.min(lastBound, bound);
+            for (int vertex : pivots.reached()) {
+                if (!result.isSettled(vertex) && result.getDistance(vertex) < completedBound) {
+                    result.markSettled(vertex);
+                    completed.add(vertex);
+                }
+            }
+            return new Completion(completedBound, from, completed.size);
+        }
 
-    /**
-     * Performs up to {@code K} rounds of edge relaxation from the given frontier,
-     * updating tentative distances and predecessors in the result map.
-     */
-    private Set<Vertex> performBoundedRelaxation(
-            Graph graph, Set<Vertex> frontier, DistancePredecessorMap result) {
+        /**
+         * Runs {@code k} Bellman-Ford rounds from {@code sources} below {@code bound}. Sources
+         * whose tree of tight edges among the reached vertices has at least {@code k} vertices
+         * become pivots; if more than {@code k |S|} vertices are reached, every source does.
+         * Vertices only reachable through the other sources are within {@code k} edges, hence
+         * already exact.
+         */
+        private Pivots findPivots(double bound, int[] sources) {
+            int reachedMark = scratch.nextMark();
+            IntList reached = new IntList();
+            for (int source : sources) {
+                scratch.marks[source] = reachedMark;
+                reached.add(source);
+            }
 
-        Set<Vertex> newlyFinishedVertices = new HashSet<>();
+            IntList layer = scratch.layer;
+            IntList nextLayer = scratch.nextLayer;
+            layer.size = 0;
+            layer.addAll(sources);
+            for (int round = 1; round <= k && layer.size > 0; round++) {
+                int layerMark = scratch.nextMark();
+                nextLayer.size = 0;
+                for (int i = 0; i < layer.size; i++) {
+                    int current = layer.items[i];
+                    double currentDistance = result.getDistance(current);
+                    for (int edge = graph.edgeStart(current); edge < graph.edgeEnd(current); edge++) {
+                        int neighbor = graph.target(edge);
+                        if (result.isSettled(neighbor)) {
+                            continue;
+                        }
 
-        Map<Vertex, Double> reachableDistance = new HashMap<>();
-        Map<Vertex, Vertex> reachablePredecessor = new HashMap<>();
+                        double newDistance = currentDistance + graph.weight(edge);
+                        if (relax(neighbor, newDistance, current)) {
+                            if (newDistance < bound && scratch.layerMarks[neighbor] != layerMark) {
+                                scratch.layerMarks[neighbor] = layerMark;
+                                nextLayer.add(neighbor);
+                                if (scratch.marks[neighbor] != reachedMark) {
+                                    scratch.marks[neighbor] = reachedMark;
+                                    reached.add(neighbor);
+                                }
+                            }
+                        }
+                    }
+                }
 
-        // Initialize tentative distances with current known distances
-        for (Vertex vertex : graph.getVerticesSet()) {
-            if (result.getDistance(vertex) < Double.POSITIVE_INFINITY) {
-                reachableDistance.put(vertex, result.getDistance(vertex));
-                reachablePredecessor.put(vertex, result.getPredecessor(vertex));
+                if (reached.size > (long) k * sources.length) {
+                    return new Pivots(sources, reached.toArray());
+                }
+                IntList swap = layer;
+                layer = nextLayer;
+                nextLayer = swap;
             }
-        }
 
-        // Relax edges from all vertices discovered so far
-        Set<Vertex> activeVerticesForRelaxation = new HashSet<>(frontier);
-        for (Vertex vertex : reachableDistance.keySet()) {
-            activeVerticesForRelaxation.add(vertex);
+            // Pivots are the sources whose tree of tight edges within the reached set is large
+            IntList pivots = new IntList();
+            for (int source : sources) {
+                if (hasLargeTightTree(source, reachedMark)) {
+                    pivots.add(source);
+                }
+            }
+            return new Pivots(pivots.toArray(), reached.toArray());
         }
 
-        // Perform k rounds of relaxation
-        for (int round = 0; round < K; round++) {
-
-            // Relax edges from all vertices discovered so far
-            for (Vertex vertex: newlyFinishedVertices) {
-                activeVerticesForRelaxation.add(vertex);
+        /**
+         * Tells whether at least {@code k} reached vertices, {@code root} included, can be reached
+         * from {@code root} over tight edges ({@code d(v) = d(u) + w(u, v)}) between reached
+         * vertices. With ties these edges form a DAG rather than the paper's forest; counting
+         * everything reachable can only add pivots, never miss one.
+         */
+        private boolean hasLargeTightTree(int root, int reachedMark) {
+            int visitedMark = scratch.nextMark();
+            IntList stack = scratch.stack;
+            stack.size = 0;
+            stack.add(root);
+            scratch.layerMarks[root] = visitedMark;
+            int visited = 1;
+
+            while (stack.size > 0 && visited < k) {
+                int current = stack.items[--stack.size];
+                double currentDistance = result.getDistance(current);
+                for (int edge = graph.edgeStart(current); edge < graph.edgeEnd(current); edge++) {
+                    int neighbor = graph.target(edge);
+                    if (scratch.marks[neighbor] == reachedMark
+                            && scratch.layerMarks[neighbor] != visitedMark
+                            && currentDistance + graph.weight(edge)
+                                    == result.getDistance(neighbor)) {
+                        scratch.layerMarks[neighbor] = visitedMark;
+                        stack.add(neighbor);
+                        visited++;
+                    }
+                }
             }
+            return visited >= k;
+        }
 
-            for (Vertex currentVertex : activeVerticesForRelaxation) {
-                if (reachableDistance.containsKey(currentVertex)) {
-                    double currentVertexDistance = reachableDistance.get(currentVertex);
-
-                    Map<Vertex, Double> neighbors = graph.getNeighbors(currentVertex);
-                    for (Map.Entry<Vertex, Double> neighborEntry : neighbors.entrySet()) {
-
-                        Vertex neighbor = neighborEntry.getKey();
+        /**
+         * Dijkstra search from {@code sources} below {@code bound} that stops after {@code k + 1}
+         * vertices, once the next distance is strictly larger than the last settled one.
+         */
+        private Completion baseCase(double bound, int[] sources) {
+            IndexedDaryHeap heap = scratch.heap;
+            int settledMark = scratch.nextMark();
+            for (int source : sources) {
+                heap.insertOrDecrease(source, result.getDistance(source));
+            }
 
-                        double newNeighborDistance = currentVertexDistance + neighborEntry.getValue();
-                        double currentNeighborDistance =
-                                reachableDistance.getOrDefault(neighbor, Double.POSITIVE_INFINITY);
+            IntList completed = scratch.completed;
+            int from = completed.size;
+            double lastDistance = Double.NEGATIVE_INFINITY;
+            while (!heap.isEmpty()
+                    && (completed.size - from <= k || heap.peekMinKey() == lastDistance)) {
+                lastDistance = heap.peekMinKey();
+                int current = heap.pollMin();
+                scratch.marks[current] = settledMark;
+                completed.add(current);
+
+                for (int edge = graph.edgeStart(current); edge < graph.edgeEnd(current); edge++) {
+                    int neighbor = graph.target(edge);
+                    if (result.isSettled(neighbor) || scratch.marks[neighbor] == settledMark) {
+                        continue;
+                    }
 
-                        if (newNeighborDistance < currentNeighborDistance) {
-                            newlyFinishedVertices.add(neighbor);
-                            reachableDistance.put(neighbor, newNeighborDistance);
-                            reachablePredecessor.put(neighbor, currentVertex);
-                        }
+                    double newDistance = lastDistance + graph.weight(edge);
+                    if (newDistance < bound && relax(neighbor, newDistance, current)) {
+                        heap.insertOrDecrease(neighbor, newDistance);
                     }
                 }
             }
-        } // end K rounds of relaxation
 
-        // Apply relaxation
-        for (Vertex vertex : newlyFinishedVertices) {
-            result.setDistance(vertex, reachableDistance.get(vertex));
-            result.setPredecessor(vertex, reachablePredecessor.get(vertex));
+            double completedBound = heap.isEmpty() ? bound : heap.peekMinKey();
+            heap.clear(); // Leave the shared heap empty for the next base case
+            for (int i = from; i < completed.size; i++) {
+                result.markSettled(completed.items[i]);
+            }
+            return new Completion(completedBound, from, completed.size);
+        }
+
+        /**
+         * Relaxes an edge the paper's way, accepting paths as short as the current one so their
+         * endpoint is queued again, but only moves the predecessor on strict improvements, which
+         * keeps the predecessors acyclic even with zero-weight cycles.
+         */
+        private boolean relax(int vertex, double newDistance, int predecessor) {
+            double distance = result.getDistance(vertex);
+            if (newDistance < distance) {
+                result.update(vertex, newDistance, predecessor);
+            }
+            return newDistance <= distance;
         }
 
-        return newlyFinishedVertices;
+        /** Returns the pulled vertices that are not complete yet, without duplicates. */
+        private int[] incompleteDistinct(int[] vertices) {
+            int mark = scratch.nextMark();
+            IntList distinct = new IntList();
+            for (int vertex : vertices) {
+                if (!result.isSettled(vertex) && scratch.layerMarks[vertex] != mark) {
+                    scratch.layerMarks[vertex] = mark;
+                    distinct.add(vertex);
+                }
+            }
+            return distinct.toArray();
+        }
     }
 
     /**
-     * Computes new frontier: finished vertices that have edges to unfinished vertices
+     * Bound below which all vertices are complete after one call, and the range {@code [from, to)}
+     * of the completed log holding the vertices the call completed.
      */
-    private Set<Vertex> computeNewFrontier(Graph graph, Set<Vertex> finished) {
-        Set<Vertex> newFrontierVertices = new HashSet<>();
+    private record Completion(double bound, int from, int to) {}
 
-        for (Vertex finishedVertex : finished) {
-            for (Map.Entry<Vertex, Double> finishedNeighborEntry :
-                    graph.getNeighbors(finishedVertex).entrySet()) {
+    /** Pivots found by FindPivots and every vertex it reached below the bound. */
+    private record Pivots(int[] pivots, int[] reached) {}
 
-                Vertex finishedNeighbor = finishedNeighborEntry.getKey();
-                if (!finished.contains(finishedNeighbor)) {
-                    newFrontierVertices.add(finishedVertex);
-                    break;
-                }
-            }
+    private static final class Scratch {
+
+        private final IndexedDaryHeap heap;
+        private final int[] marks;
+        private final int[] layerMarks;
+        private final IntList stack = new IntList();
+        private final IntList layer = new IntList();
+        private final IntList nextLayer = new IntList();
+
+        /** Every vertex completed by the current search, in completion order. */
+        private final IntList completed = new IntList();
+
+        private final IntList prependVertices = new IntList();
+        private final DoubleList prependValues = new DoubleList();
+        private int mark;
+
+        private Scratch(int vertexCount) {
+            this.heap = new IndexedDaryHeap(vertexCount);
+            this.marks = new int[vertexCount];
+            this.layerMarks = new int[vertexCount];
         }
 
-        return newFrontierVertices;
+        /** Returns a mark no vertex carries yet, clearing all marks when the counter wraps. */
+        private int nextMark() {
+            if (mark == Integer.MAX_VALUE) {
+                Arrays.fill(marks, 0);
+                Arrays.fill(layerMarks, 0);
+                mark = 0;
+            }
+            return ++mark;
+        }
     }
 
-    /**
-     * Recursive exploration for remaining unfinished vertices
-     */
-    private void performRecursiveExploration(
-            Graph graph,
-            Set<Vertex> frontier,
-            DistancePredecessorMap result,
-            Set<Vertex> finished,
-            Set<Vertex> remaining) {
-
-        if (remaining.isEmpty()) {
-            return;
+    /** Growable list of vertex ids. */
+    private static final class IntList {
+
+        private int[] items = new int[8];
+        private int size;
+
+        private void add(int item) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            items[size++] = item;
+        }
+
+        private void addAll(int[] values) {
+            for (int value : values) {
+                add(value);
+            }
         }
 
-        Set<Vertex> newFinished = performBoundedRelaxation(graph, frontier, result);
-        finished.addAll(newFinished);
-        remaining.removeAll(newFinished);
+        private int[] toArray() {
+            return Arrays.copyOf(items, size);
+        }
+    }
+
+    /** Growable list of distances. */
+    private static final class DoubleList {
+
+        private double[] items = new double[8];
+        private int size;
 
-        if (!remaining.isEmpty()) {
-            Set<Vertex> newFrontier = computeNewFrontier(graph, finished);
-            if (!newFrontier.isEmpty()) {
-                performRecursiveExploration(graph, newFrontier, result, finished, remaining);
+        private void add(double item) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
             }
+            items[size++] = item;
         }
     }
 }
@@ -0,0 +1,439 @@
+package br.com.unifal.tcc.algorithms.contraction;
+
+import br.com.unifal.tcc.algorithms.dto.IndexedDistancePredecessorMap;
+import br.com.unifal.tcc.algorithms.queues.IndexedDaryHeap;
+import br.com.unifal.tcc.model.graph.CsrGraph;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Contraction hierarchy of one {@link CsrGraph}, answering point-to-point shortest path queries.
+ *
+ * <p>Every vertex has a rank, the order in which it was contracted. Contracting a vertex adds
+ * shortcut edges between its remaining neighbors wherever it lay on their only shortest path, so
+ * for every pair of vertices some shortest path climbs to its highest ranked vertex and then only
+ * descends. Queries therefore run two Dijkstra searches that only go upwards: a forward one from
+ * the source over the upward edges and a backward one from the target over the downward edges,
+ * meeting at that highest vertex. Both typically settle a few hundred vertices on road networks.
+ * Graphs too dense to contract fully keep an uncontracted core on top (see {@link
+ * ContractionHierarchyBuilder}), through which the two searches run as plain Dijkstra searches.
+ *
+ * <p>All edges, original and shortcuts, share one edge table; a shortcut records the two edges it
+ * replaces, so query results are unpacked back into original edges recursively. Upward and
+ * downward edges are laid out per vertex as CSR arrays of edge ids, with their far endpoint and
+ * weight copied alongside for locality.
+ *
+ * <p>Hierarchies can be {@link #write(Path) saved} next to the graph and {@link #read(Path,
+ * CsrGraph) read} back for the same graph, skipping the preprocessing of {@link #build(CsrGraph,
+ * int)}.
+ */
+public class ContractionHierarchy {
+
+  public static final String FILE_EXTENSION = ".ch";
+
+  /** Child edge id of original edges. */
+  static final int NO_EDGE = -1;
+
+  private static final int MAGIC = 0x43484731; // "CHG1"
+  private static final int VERSION = 1;
+
+  private final CsrGraph graph;
+  private final int[] ranks;
+
+  private final int[] edgeSources;
+  private final int[] edgeTargets;
+  private final double[] edgeWeights;
+  private final int[] edgeFirstChildren;
+  private final int[] edgeSecondChildren;
+
+  // Edges from each vertex to higher ranked vertices
+  private final int[] upOffsets;
+  private final int[] upEdges;
+  private final int[] upTargets;
+  private final double[] upWeights;
+
+  // Edges into each vertex from higher ranked vertices, by their source
+  private final int[] downOffsets;
+  private final int[] downEdges;
+  private final int[] downSources;
+  private final double[] downWeights;
+
+  /** Search state reused by every query of the same thread. */
+  private final ThreadLocal<Scratch> scratches = new ThreadLocal<>();
+
+  ContractionHierarchy(
+      CsrGraph graph,
+      int[] ranks,
+      int[] edgeSources,
+      int[] edgeTargets,
+      double[] edgeWeights,
+      int[] edgeFirstChildren,
+      int[] edgeSecondChildren,
+      int[] upOffsets,
+      int[] upEdges,
+      int[] downOffsets,
+      int[] downEdges) {
+    this.graph = graph;
+    this.ranks = ranks;
+    this.edgeSources = edgeSources;
+    this.edgeTargets = edgeTargets;
+    this.edgeWeights = edgeWeights;
+    this.edgeFirstChildren = edgeFirstChildren;
+    this.edgeSecondChildren = edgeSecondChildren;
+    this.upOffsets = upOffsets;
+    this.upEdges = upEdges;
+    this.downOffsets = downOffsets;
+    this.downEdges = downEdges;
+
+    this.upTargets = new int[upEdges.length];
+    this.upWeights = new double[upEdges.length];
+    for (int i = 0; i < upEdges.length; i++) {
+      upTargets[i] = edgeTargets[upEdges[i]];
+      upWeights[i] = edgeWeights[upEdges[i]];
+    }
+    this.downSources = new int[downEdges.length];
+    this.downWeights = new double[downEdges.length];
+    for (int i = 0; i < downEdges.length; i++) {
+      downSources[i] = edgeSources[downEdges[i]];
+      downWeights[i] = edgeWeights[downEdges[i]];
+    }
+  }
+
+  /**
+   * Contracts every vertex of {@code graph}, in order of edge difference, on {@code parallelism}
+   * workers (see {@link ContractionHierarchyBuilder}).
+   *
+   * @param graph the graph to preprocess
+   * @param parallelism the number of worker threads
+   * @return the hierarchy of {@code graph}
+   * @throws IllegalArgumentException if {@code parallelism} is less than 1
+   * @complexity dominated by bounded witness searches; near-linear on road-like graphs, much
+   *     worse on dense or expander-like ones
+   */
+  public static ContractionHierarchy build(CsrGraph graph, int parallelism) {
+    return new ContractionHierarchyBuilder(graph, parallelism).build();
+  }
+
+  /** Returns the graph this hierarchy was built for. */
+  public CsrGraph getGraph() {
+    return graph;
+  }
+
+  /** Returns the position of {@code vertex} in the contraction order. */
+  public int getRank(int vertex) {
+    return ranks[vertex];
+  }
+
+  public int getShortcutCount() {
+    int shortcuts = 0;
+    for (int child : edgeFirstChildren) {
+      shortcuts += child == NO_EDGE ? 0 : 1;
+    }
+    return shortcuts;
+  }
+
+  /**
+   * Finds a shortest path from {@code source} to {@code target} and stores it in {@code result}:
+   * afterwards exactly the vertices of the path, unpacked into original edges, are settled with
+   * their distance from {@code source} and their predecessor on the path. The target is left
+   * unreached if there is no path.
+   *
+   * @complexity O(S log S + L), where S is the size of the upward search spaces of both endpoints
+   *     and L the number of edges of the path
+   */
+  public void computeShortestPath(int source, int target, IndexedDistancePredecessorMap result) {
+    result.reset();
+    result.update(source, 0.0, IndexedDistancePredecessorMap.NO_PREDECESSOR);
+    result.markSettled(source);
+    if (source == target) {
+      return;
+    }
+
+    Scratch scratch = getScratch();
+    IndexedDistancePredecessorMap forward = scratch.forward; // predecessors are edge ids
+    IndexedDistancePredecessorMap backward = scratch.backward;
+    IndexedDaryHeap forwardHeap = scratch.forwardHeap;
+    IndexedDaryHeap backwardHeap = scratch.backwardHeap;
+    forward.reset();
+    backward.reset();
+
+    forward.update(source, 0.0, NO_EDGE);
+    forwardHeap.insertOrDecrease(source, 0.0);
+    backward.update(target, 0.0, NO_EDGE);
+    backwardHeap.insertOrDecrease(target, 0.0);
+
+    double bestDistance = Double.POSITIVE_INFINITY;
+    int meeting = -1;
+
+    while (true) {
+      // A side whose closest vertex is already as far as the best path cannot improve it
+      if (!forwardHeap.isEmpty() && forwardHeap.peekMinKey() >= bestDistance) {
+        forwardHeap.clear();
+      }
+      if (!backwardHeap.isEmpty() && backwardHeap.peekMinKey() >= bestDistance) {
+        backwardHeap.clear();
+      }
+      if (forwardHeap.isEmpty() && backwardHeap.isEmpty()) {
+        break;
+      }
+
+      boolean forwardStep =
+          backwardHeap.isEmpty()
+              || (!forwardHeap.isEmpty()
+                  && forwardHeap.peekMinKey() <= backwardHeap.peekMinKey());
+      IndexedDaryHeap heap = forwardStep ? forwardHeap : backwardHeap;
+      IndexedDistancePredecessorMap side = forwardStep ? forward : backward;
+      IndexedDistancePredecessorMap otherSide = forwardStep ? backward : forward;
+
+      int current = heap.pollMin();
+      side.markSettled(current);
+      double currentDistance = side.getDistance(current);
+
+      double throughCurrent = currentDistance + otherSide.getDistance(current);
+      if (throughCurrent < bestDistance) {
+        bestDistance = throughCurrent;
+        meeting = current;
+      }
+
+      int[] offsets = forwardStep ? upOffsets : downOffsets;
+      int[] edges = forwardStep ? upEdges : downEdges;
+      int[] neighbors = forwardStep ? upTargets : downSources;
+      double[] weights = forwardStep ? upWeights : downWeights;
+      for (int i = offsets[current]; i < offsets[current + 1]; i++) {
+        int neighbor = neighbors[i];
+        double newDistance = currentDistance + weights[i];
+        if (newDistance < side.getDistance(neighbor)) {
+          side.update(neighbor, newDistance, edges[i]);
+          heap.insertOrDecrease(neighbor, newDistance);
+        }
+      }
+    }
+
+    if (meeting >= 0) {
+      storePath(source, meeting, forward, backward, scratch, result);
+    }
+  }
+
+  /** Unpacks the hierarchy path through {@code meeting} into {@code result}. */
+  private void storePath(
+      int source,
+      int meeting,
+      IndexedDistancePredecessorMap forward,
+      IndexedDistancePredecessorMap backward,
+      Scratch scratch,
+      IndexedDistancePredecessorMap result) {
+    // Push the hierarchy edges last to first, so that they pop in path order
+    EdgeStack chain = scratch.chain;
+    EdgeStack pending = scratch.pending;
+    for (int vertex = meeting; backward.getPredecessor(vertex) != NO_EDGE; ) {
+      int edge = backward.getPredecessor(vertex);
+      chain.push(edge);
+      vertex = edgeTargets[edge];
+    }
+    while (!chain.isEmpty()) {
+      pending.push(chain.pop());
+    }
+    for (int vertex = meeting; vertex != source; ) {
+      int edge = forward.getPredecessor(vertex);
+      pending.push(edge);
+      vertex = edgeSources[edge];
+    }
+
+    // Replace each shortcut by the two edges it stands for until only original edges remain
+    int current = source;
+    double distance = 0.0;
+    while (!pending.isEmpty()) {
+      int edge = pending.pop();
+      if (edgeFirstChildren[edge] != NO_EDGE) {
+        pending.push(edgeSecondChildren[edge]);
+        pending.push(edgeFirstChildren[edge]);
+        continue;
+      }
+
+      int next = edgeTargets[edge];
+      distance += edgeWeights[edge];
+      result.update(next, distance, current);
+      result.markSettled(next);
+      current = next;
+    }
+  }
+
+  private Scratch getScratch() {
+    Scratch scratch = scratches.get();
+    if (Objects.isNull(scratch)) {
+      scratch = new Scratch(ranks.length);
+      scratches.set(scratch);
+    }
+    return scratch;
+  }
+
+  /**
+   * Writes the hierarchy to {@code file}, overwriting it if it exists.
+   *
+   * @throws IOException if the file cannot be written
+   * @complexity O(V + E'), where E' counts original edges and shortcuts
+   */
+  public void write(Path file) throws IOException {
+    try (DataOutputStream output =
+        new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+      output.writeInt(MAGIC);
+      output.writeInt(VERSION);
+      output.writeInt(graph.getVertexCount());
+      output.writeInt(graph.getEdgeCount());
+      output.writeInt(edgeSources.length);
+      writeInts(output, ranks);
+      writeInts(output, edgeSources);
+      writeInts(output, edgeTargets);
+      for (double weight : edgeWeights) {
+        output.writeDouble(weight);
+      }
+      writeInts(output, edgeFirstChildren);
+      writeInts(output, edgeSecondChildren);
+      writeInts(output, upOffsets);
+      writeInts(output, upEdges);
+      writeInts(output, downOffsets);
+      writeInts(output, downEdges);
+    }
+  }
+
+  /**
+   * Reads a hierarchy written by {@link #write(Path)} for {@code graph}.
+   *
+   * @param file the hierarchy file
+   * @param graph the graph the hierarchy was built for
+   * @return the hierarchy, bound to {@code graph}
+   * @throws IOException if the file cannot be read
+   * @throws IllegalArgumentException if the file is not a hierarchy file of a supported version,
+   *     or was built for a graph of another size
+   * @complexity O(V + E')
+   */
+  public static ContractionHierarchy read(Path file, CsrGraph graph) throws IOException {
+    try (DataInputStream input =
+        new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+      if (input.readInt() != MAGIC) {
+        throw new IllegalArgumentException("Not a contraction hierarchy file: " + file);
+      }
+      int version = input.readInt();
+      if (version != VERSION) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Unsupported contraction hierarchy file version %d in %s", version, file));
+      }
+      int vertexCount = input.readInt();
+      int edgeCount = input.readInt();
+      if (vertexCount != graph.getVertexCount() || edgeCount != graph.getEdgeCount()) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Contraction hierarchy in %s was built for a graph with %d vertices and %d edges",
+                file, vertexCount, edgeCount));
+      }
+
+      int hierarchyEdgeCount = input.readInt();
+      int[] ranks = readInts(input, vertexCount);
+      int[] edgeSources = readInts(input, hierarchyEdgeCount);
+      int[] edgeTargets = readInts(input, hierarchyEdgeCount);
+      double[] edgeWeights = new double[hierarchyEdgeCount];
+      for (int i = 0; i < hierarchyEdgeCount; i++) {
+        edgeWeights[i] = input.readDouble();
+      }
+      int[] edgeFirstChildren = readInts(input, hierarchyEdgeCount);
+      int[] edgeSecondChildren = readInts(input, hierarchyEdgeCount);
+      int[] upOffsets = readInts(input, vertexCount + 1);
+      int[] upEdges = readInts(input, upOffsets[vertexCount]);
+      int[] downOffsets = readInts(input, vertexCount + 1);
+      int[] downEdges = readInts(input, downOffsets[vertexCount]);
+      return new ContractionHierarchy(
+          graph,
+          ranks,
+          edgeSources,
+          edgeTargets,
+          edgeWeights,
+          edgeFirstChildren,
+          edgeSecondChildren,
+          upOffsets,
+          upEdges,
+          downOffsets,
+          downEdges);
+    }
+  }
+
+  private static void writeInts(DataOutputStream output, int[] values) throws IOException {
+    for (int value : values) {
+      output.writeInt(value);
+    }
+  }
+
+  private static int[] readInts(DataInputStream input, int length) throws IOException {
+    int[] values = new int[length];
+    for (int i = 0; i < length; i++) {
+      values[i] = input.readInt();
+    }
+    return values;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (!(o instanceof ContractionHierarchy that)) return false;
+    return Arrays.equals(ranks, that.ranks)
+        && Arrays.equals(edgeSources, that.edgeSources)
+        && Arrays.equals(edgeTargets, that.edgeTargets)
+        && Arrays.equals(edgeWeights, that.edgeWeights)
+        && Arrays.equals(edgeFirstChildren, that.edgeFirstChildren)
+        && Arrays.equals(edgeSecondChildren, that.edgeSecondChildren)
+        && Arrays.equals(upOffsets, that.upOffsets)
+        && Arrays.equals(upEdges, that.upEdges)
+        && Arrays.equals(downOffsets, that.downOffsets)
+        && Arrays.equals(downEdges, that.downEdges);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(ranks);
+  }
+
+  private static final class Scratch {
+
+    private final IndexedDistancePredecessorMap forward;
+    private final IndexedDistancePredecessorMap backward;
+    private final IndexedDaryHeap forwardHeap;
+    private final IndexedDaryHeap backwardHeap;
+    private final EdgeStack chain = new EdgeStack();
+    private final EdgeStack pending = new EdgeStack();
+
+    private Scratch(int vertexCount) {
+      this.forward = new IndexedDistancePredecessorMap(vertexCount);
+      this.backward = new IndexedDistancePredecessorMap(vertexCount);
+      this.forwardHeap = new IndexedDaryHeap(vertexCount);
+      this.backwardHeap = new IndexedDaryHeap(vertexCount);
+    }
+  }
+
+  /** Growable stack of edge ids. */
+  private static final class EdgeStack {
+
+    private int[] items = new int[16];
+    private int size;
+
+    void push(int edge) {
+      if (size == items.length) {
+        items = Arrays.copyOf(items, size * 2);
+      }
+      items[size++] = edge;
+    }
+
+    int pop() {
+      return items[--size];
+    }
+
+    boolean isEmpty() {
+      return size == 0;
+    }
+  }
+}
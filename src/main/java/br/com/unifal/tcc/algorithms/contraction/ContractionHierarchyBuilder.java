@@ -0,0 +1,522 @@
+package br.com.unifal.tcc.algorithms.contraction;
+
+import br.com.unifal.tcc.algorithms.dto.IndexedDistancePredecessorMap;
+import br.com.unifal.tcc.algorithms.queues.IndexedDaryHeap;
+import br.com.unifal.tcc.model.graph.CsrGraph;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * Contracts the vertices of a {@link CsrGraph} into a {@link ContractionHierarchy}.
+ *
+ * <p>Contraction runs in rounds. Each round contracts an independent set of the remaining graph:
+ * every vertex whose priority is lower than that of all its remaining neighbors (ties broken by
+ * id). No two of those vertices are adjacent, so their shortcuts are found in parallel against the
+ * same graph and then applied in id order. Priorities are twice the edge difference (shortcuts
+ * added minus edges removed) plus the number of contracted neighbors and the depth of the
+ * hierarchy below the vertex, the last two spreading contraction evenly over the graph. They are
+ * computed in parallel up front and refreshed after each round for the neighbors of the contracted
+ * vertices only.
+ *
+ * <p>A shortcut {@code u → w} is added for a contracted vertex {@code v} unless a witness search,
+ * a Dijkstra search from {@code u} that avoids {@code v} and the other vertices of its round,
+ * finds a path to {@code w} no longer than {@code u → v → w}. Witness searches give up after
+ * {@link #WITNESS_SETTLE_LIMIT} vertices, which can only add superfluous shortcuts, never lose a
+ * shortest path.
+ *
+ * <p>On expander-like graphs the remaining graph densifies quickly and shortcuts would grow
+ * quadratically, so contraction stops once its average out-degree exceeds {@link
+ * #MAX_CORE_DEGREE}. The vertices left form an uncontracted core ranked above all others, whose
+ * edges count as both upward and downward; queries simply run their Dijkstra searches through it.
+ */
+final class ContractionHierarchyBuilder {
+
+  /** Most vertices a witness search settles before assuming there is no witness. */
+  static final int WITNESS_SETTLE_LIMIT = 500;
+
+  /** Same limit while only estimating priorities, where a few extra shortcuts are harmless. */
+  static final int PRIORITY_SETTLE_LIMIT = 50;
+
+  /** Average out-degree of the remaining graph above which contraction stops. */
+  static final int MAX_CORE_DEGREE = 24;
+
+  private static final int CHUNK_SIZE = 64;
+  private static final int NO_EDGE = ContractionHierarchy.NO_EDGE;
+
+  private final CsrGraph graph;
+  private final int vertexCount;
+  private final int parallelism;
+
+  // Every edge ever created: original edges have no children, shortcuts have two
+  private int edgeCount;
+  private int[] edgeSources = new int[16];
+  private int[] edgeTargets = new int[16];
+  private double[] edgeWeights = new double[16];
+  private int[] edgeFirstChildren = new int[16];
+  private int[] edgeSecondChildren = new int[16];
+
+  // Edges of the remaining graph; once a vertex is contracted its lists are frozen and hold
+  // exactly its edges to and from higher ranked vertices
+  private final EdgeList[] outEdges;
+  private final EdgeList[] inEdges;
+
+  private final boolean[] contracted;
+  private final int[] contractedNeighbors;
+  private final int[] touchedRounds;
+  private final int[] priorities;
+  private final int[] depths; // Longest chain of contracted neighbors below each vertex
+  private final int[] ranks;
+
+  private final ThreadLocal<WitnessSearch> witnessSearches = new ThreadLocal<>();
+  private ExecutorService executor;
+
+  ContractionHierarchyBuilder(CsrGraph graph, int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+    }
+    this.graph = graph;
+    this.vertexCount = graph.getVertexCount();
+    this.parallelism = parallelism;
+    this.outEdges = new EdgeList[vertexCount];
+    this.inEdges = new EdgeList[vertexCount];
+    this.contracted = new boolean[vertexCount];
+    this.contractedNeighbors = new int[vertexCount];
+    this.touchedRounds = new int[vertexCount];
+    this.priorities = new int[vertexCount];
+    this.depths = new int[vertexCount];
+    this.ranks = new int[vertexCount];
+
+    for (int v = 0; v < vertexCount; v++) {
+      outEdges[v] = new EdgeList();
+      inEdges[v] = new EdgeList();
+    }
+    addOriginalEdges();
+  }
+
+  /** Copies the graph's edges, keeping the lightest of parallel edges and dropping self-loops. */
+  private void addOriginalEdges() {
+    int[] edgeTo = new int[vertexCount];
+    int[] seenFrom = new int[vertexCount];
+    Arrays.fill(seenFrom, -1);
+
+    for (int source = 0; source < vertexCount; source++) {
+      for (int edge = graph.edgeStart(source); edge < graph.edgeEnd(source); edge++) {
+        int target = graph.target(edge);
+        double weight = graph.weight(edge);
+        if (target == source) {
+          continue;
+        }
+
+        if (seenFrom[target] == source) {
+          int existing = edgeTo[target];
+          edgeWeights[existing] = Math.min(edgeWeights[existing], weight);
+        } else {
+          seenFrom[target] = source;
+          edgeTo[target] = addEdge(source, target, weight, NO_EDGE, NO_EDGE);
+        }
+      }
+    }
+  }
+
+  /**
+   * Contracts every vertex below the core and assembles the hierarchy.
+   *
+   * @complexity dominated by the witness searches; near-linear on road-like graphs
+   */
+  ContractionHierarchy build() {
+    executor = Executors.newFixedThreadPool(parallelism);
+    try {
+      parallelFor(vertexCount, v -> priorities[v] = computePriority(v));
+
+      int[] remaining = new int[vertexCount];
+      for (int v = 0; v < vertexCount; v++) {
+        remaining[v] = v;
+      }
+      int remainingCount = vertexCount;
+      int nextRank = 0;
+      int round = 0;
+
+      while (remainingCount > 0 && !isDenseCore(remaining, remainingCount)) {
+        round++;
+
+        // Independent set of local priority minima, in id order
+        int[] candidates = Arrays.copyOf(remaining, remainingCount);
+        boolean[] selected = new boolean[remainingCount];
+        parallelFor(remainingCount, i -> selected[i] = isLocalMinimum(candidates[i]));
+        int[] independentSet = new int[remainingCount];
+        int selectedCount = 0;
+        for (int i = 0; i < remainingCount; i++) {
+          if (selected[i]) {
+            independentSet[selectedCount++] = candidates[i];
+          }
+        }
+        int[] vertices = Arrays.copyOf(independentSet, selectedCount);
+
+        // Find the shortcuts of every selected vertex against the same graph. Witnesses must
+        // avoid all of them: two vertices could otherwise each witness for the other
+        for (int v : vertices) {
+          ranks[v] = nextRank++;
+          contracted[v] = true;
+        }
+        Shortcuts[] shortcuts = new Shortcuts[vertices.length];
+        parallelFor(vertices.length, i -> shortcuts[i] = findShortcuts(vertices[i], true));
+
+        // Apply them and detach the contracted vertices from the remaining graph
+        for (Shortcuts vertexShortcuts : shortcuts) {
+          for (int i = 0; i < vertexShortcuts.size; i++) {
+            addOrImproveShortcut(
+                vertexShortcuts.sources[i],
+                vertexShortcuts.targets[i],
+                vertexShortcuts.weights[i],
+                vertexShortcuts.firstChildren[i],
+                vertexShortcuts.secondChildren[i]);
+          }
+        }
+        List<Integer> touched = new ArrayList<>();
+        for (int v : vertices) {
+          for (int i = 0; i < outEdges[v].size; i++) {
+            int edge = outEdges[v].items[i];
+            detach(v, edgeTargets[edge], inEdges[edgeTargets[edge]], edge, round, touched);
+          }
+          for (int i = 0; i < inEdges[v].size; i++) {
+            int edge = inEdges[v].items[i];
+            detach(v, edgeSources[edge], outEdges[edgeSources[edge]], edge, round, touched);
+          }
+        }
+
+        // Refresh the priorities the contraction changed
+        int[] neighbors = touched.stream().mapToInt(Integer::intValue).toArray();
+        parallelFor(
+            neighbors.length, i -> priorities[neighbors[i]] = computePriority(neighbors[i]));
+
+        int kept = 0;
+        for (int i = 0; i < remainingCount; i++) {
+          if (!contracted[remaining[i]]) {
+            remaining[kept++] = remaining[i];
+          }
+        }
+        remainingCount = kept;
+      }
+
+      // Whatever is left forms the core, ranked above everything else in id order
+      for (int i = 0; i < remainingCount; i++) {
+        ranks[remaining[i]] = nextRank++;
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    return assemble();
+  }
+
+  /** Removes {@code edge} of contracted {@code v} from the edge list of {@code neighbor}. */
+  private void detach(
+      int v, int neighbor, EdgeList neighborEdges, int edge, int round, List<Integer> touched) {
+    neighborEdges.remove(edge);
+    contractedNeighbors[neighbor]++;
+    depths[neighbor] = Math.max(depths[neighbor], depths[v] + 1);
+    if (touchedRounds[neighbor] != round) {
+      touchedRounds[neighbor] = round;
+      touched.add(neighbor);
+    }
+  }
+
+  private boolean isDenseCore(int[] remaining, int remainingCount) {
+    long edges = 0;
+    for (int i = 0; i < remainingCount; i++) {
+      edges += outEdges[remaining[i]].size;
+    }
+    return edges > (long) MAX_CORE_DEGREE * remainingCount;
+  }
+
+  private boolean isLocalMinimum(int v) {
+    return isBelowAll(v, outEdges[v], edgeTargets) && isBelowAll(v, inEdges[v], edgeSources);
+  }
+
+  private boolean isBelowAll(int v, EdgeList edges, int[] endpoints) {
+    for (int i = 0; i < edges.size; i++) {
+      int neighbor = endpoints[edges.items[i]];
+      if (priorities[neighbor] < priorities[v]
+          || (priorities[neighbor] == priorities[v] && neighbor < v)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int computePriority(int v) {
+    int shortcutCount = findShortcuts(v, false).size;
+    int edgeDifference = shortcutCount - outEdges[v].size - inEdges[v].size;
+    return 2 * edgeDifference + contractedNeighbors[v] + depths[v];
+  }
+
+  /**
+   * Finds the shortcuts contracting {@code v} would need, reading the remaining graph only.
+   *
+   * @param keep whether to record the shortcuts or only count them
+   */
+  private Shortcuts findShortcuts(int v, boolean keep) {
+    Shortcuts shortcuts = new Shortcuts(keep);
+    WitnessSearch witnessSearch = getWitnessSearch();
+    EdgeList in = inEdges[v];
+    EdgeList out = outEdges[v];
+
+    for (int i = 0; i < in.size; i++) {
+      int inEdge = in.items[i];
+      int source = edgeSources[inEdge];
+
+      double maxOutWeight = Double.NEGATIVE_INFINITY;
+      for (int j = 0; j < out.size; j++) {
+        if (edgeTargets[out.items[j]] != source) {
+          maxOutWeight = Math.max(maxOutWeight, edgeWeights[out.items[j]]);
+        }
+      }
+      if (maxOutWeight == Double.NEGATIVE_INFINITY) {
+        continue;
+      }
+
+      witnessSearch.run(
+          source,
+          v,
+          edgeWeights[inEdge] + maxOutWeight,
+          keep ? WITNESS_SETTLE_LIMIT : PRIORITY_SETTLE_LIMIT);
+      for (int j = 0; j < out.size; j++) {
+        int outEdge = out.items[j];
+        int target = edgeTargets[outEdge];
+        double viaWeight = edgeWeights[inEdge] + edgeWeights[outEdge];
+        if (target != source && witnessSearch.distance(target) > viaWeight) {
+          shortcuts.add(source, target, viaWeight, inEdge, outEdge);
+        }
+      }
+    }
+    return shortcuts;
+  }
+
+  /** Adds a shortcut unless an edge at least as light already joins its endpoints. */
+  private void addOrImproveShortcut(
+      int source, int target, double weight, int firstChild, int secondChild) {
+    EdgeList out = outEdges[source];
+    for (int i = 0; i < out.size; i++) {
+      int edge = out.items[i];
+      if (edgeTargets[edge] == target) {
+        if (edgeWeights[edge] <= weight) {
+          return;
+        }
+        out.remove(edge);
+        inEdges[target].remove(edge);
+        break;
+      }
+    }
+    addEdge(source, target, weight, firstChild, secondChild);
+  }
+
+  private int addEdge(int source, int target, double weight, int firstChild, int secondChild) {
+    if (edgeCount == edgeSources.length) {
+      int capacity = Math.multiplyExact(edgeSources.length, 2);
+      edgeSources = Arrays.copyOf(edgeSources, capacity);
+      edgeTargets = Arrays.copyOf(edgeTargets, capacity);
+      edgeWeights = Arrays.copyOf(edgeWeights, capacity);
+      edgeFirstChildren = Arrays.copyOf(edgeFirstChildren, capacity);
+      edgeSecondChildren = Arrays.copyOf(edgeSecondChildren, capacity);
+    }
+
+    int edge = edgeCount++;
+    edgeSources[edge] = source;
+    edgeTargets[edge] = target;
+    edgeWeights[edge] = weight;
+    edgeFirstChildren[edge] = firstChild;
+    edgeSecondChildren[edge] = secondChild;
+    outEdges[source].add(edge);
+    inEdges[target].add(edge);
+    return edge;
+  }
+
+  /** Lays the frozen edge lists out as the upward and downward CSR arrays. */
+  private ContractionHierarchy assemble() {
+    int[] upOffsets = new int[vertexCount + 1];
+    int[] downOffsets = new int[vertexCount + 1];
+    for (int v = 0; v < vertexCount; v++) {
+      upOffsets[v + 1] = upOffsets[v] + outEdges[v].size;
+      downOffsets[v + 1] = downOffsets[v] + inEdges[v].size;
+    }
+
+    int[] upEdges = new int[upOffsets[vertexCount]];
+    int[] downEdges = new int[downOffsets[vertexCount]];
+    for (int v = 0; v < vertexCount; v++) {
+      System.arraycopy(outEdges[v].items, 0, upEdges, upOffsets[v], outEdges[v].size);
+      System.arraycopy(inEdges[v].items, 0, downEdges, downOffsets[v], inEdges[v].size);
+    }
+
+    return new ContractionHierarchy(
+        graph,
+        ranks,
+        Arrays.copyOf(edgeSources, edgeCount),
+        Arrays.copyOf(edgeTargets, edgeCount),
+        Arrays.copyOf(edgeWeights, edgeCount),
+        Arrays.copyOf(edgeFirstChildren, edgeCount),
+        Arrays.copyOf(edgeSecondChildren, edgeCount),
+        upOffsets,
+        upEdges,
+        downOffsets,
+        downEdges);
+  }
+
+  /** Runs {@code body} for every index in {@code [0, count)} on the builder's workers. */
+  private void parallelFor(int count, IntConsumer body) {
+    if (count <= CHUNK_SIZE || parallelism == 1) {
+      for (int i = 0; i < count; i++) {
+        body.accept(i);
+      }
+      return;
+    }
+
+    AtomicInteger next = new AtomicInteger();
+    Runnable worker =
+        () -> {
+          int start;
+          while ((start = next.getAndAdd(CHUNK_SIZE)) < count) {
+            int end = Math.min(start + CHUNK_SIZE, count);
+            for (int i = start; i < end; i++) {
+              body.accept(i);
+            }
+          }
+        };
+
+    List<Future<?>> futures = new ArrayList<>(parallelism);
+    for (int i = 0; i < parallelism; i++) {
+      futures.add(executor.submit(worker));
+    }
+    try {
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while contracting the graph", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("Error contracting the graph", e.getCause());
+    }
+  }
+
+  private WitnessSearch getWitnessSearch() {
+    WitnessSearch witnessSearch = witnessSearches.get();
+    if (Objects.isNull(witnessSearch)) {
+      witnessSearch = new WitnessSearch();
+      witnessSearches.set(witnessSearch);
+    }
+    return witnessSearch;
+  }
+
+  /** Bounded Dijkstra search over the remaining graph, reused by one worker thread. */
+  private final class WitnessSearch {
+
+    private final IndexedDaryHeap heap = new IndexedDaryHeap(vertexCount);
+    private final IndexedDistancePredecessorMap distances =
+        new IndexedDistancePredecessorMap(vertexCount);
+
+    /**
+     * Searches from {@code source} up to {@code limit}, settling at most {@code settleLimit}
+     * vertices, without entering {@code excluded} or any vertex being contracted.
+     */
+    void run(int source, int excluded, double limit, int settleLimit) {
+      distances.reset();
+      distances.update(source, 0.0, IndexedDistancePredecessorMap.NO_PREDECESSOR);
+      heap.insertOrDecrease(source, 0.0);
+
+      int settled = 0;
+      while (!heap.isEmpty() && heap.peekMinKey() <= limit && settled < settleLimit) {
+        int current = heap.pollMin();
+        settled++;
+        double currentDistance = distances.getDistance(current);
+
+        EdgeList out = outEdges[current];
+        for (int i = 0; i < out.size; i++) {
+          int edge = out.items[i];
+          int neighbor = edgeTargets[edge];
+          double newDistance = currentDistance + edgeWeights[edge];
+          if (neighbor != excluded
+              && !contracted[neighbor]
+              && newDistance < distances.getDistance(neighbor)) {
+            distances.update(neighbor, newDistance, current);
+            heap.insertOrDecrease(neighbor, newDistance);
+          }
+        }
+      }
+      heap.clear();
+    }
+
+    double distance(int vertex) {
+      return distances.getDistance(vertex);
+    }
+  }
+
+  /** Growable list of edge ids. */
+  private static final class EdgeList {
+
+    private int[] items = new int[4];
+    private int size;
+
+    void add(int edge) {
+      if (size == items.length) {
+        items = Arrays.copyOf(items, size * 2);
+      }
+      items[size++] = edge;
+    }
+
+    /** Removes {@code edge} by moving the last edge into its slot. */
+    void remove(int edge) {
+      for (int i = 0; i < size; i++) {
+        if (items[i] == edge) {
+          items[i] = items[--size];
+          return;
+        }
+      }
+    }
+  }
+
+  /** Shortcuts found for one vertex, or just their count. */
+  private static final class Shortcuts {
+
+    private final boolean keep;
+    private int size;
+    private int[] sources = new int[0];
+    private int[] targets = new int[0];
+    private double[] weights = new double[0];
+    private int[] firstChildren = new int[0];
+    private int[] secondChildren = new int[0];
+
+    Shortcuts(boolean keep) {
+      this.keep = keep;
+    }
+
+    void add(int source, int target, double weight, int firstChild, int secondChild) {
+      if (keep) {
+        if (size == sources.length) {
+          int capacity = Math.max(4, size * 2);
+          sources = Arrays.copyOf(sources, capacity);
+          targets = Arrays.copyOf(targets, capacity);
+          weights = Arrays.copyOf(weights, capacity);
+          firstChildren = Arrays.copyOf(firstChildren, capacity);
+          secondChildren = Arrays.copyOf(secondChildren, capacity);
+        }
+        sources[size] = source;
+        targets[size] = target;
+        weights[size] = weight;
+        firstChildren[size] = firstChild;
+        secondChildren[size] = secondChild;
+      }
+      size++;
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package br.com.unifal.tcc.algorithms.dense;
+
+/**
+ * Inner loop of Dijkstra's algorithm on a {@link DenseMatrix}: one sweep over a matrix row that
+ * relaxes every edge of the vertex just settled and finds the next vertex to settle.
+ *
+ * <p>Settled vertices hold {@link Double#NaN} as tentative distance, so a sweep needs no separate
+ * settled mask: every comparison against NaN is false, which keeps them from being either improved
+ * or selected.
+ */
+public interface DenseKernel {
+
+  /** Returns a kernel made of plain loops, available on every JVM. */
+  static DenseKernel scalar() {
+    return new ScalarDenseKernel();
+  }
+
+  /**
+   * Returns the kernel built on the Vector API if both the kernel, compiled by the {@code vector}
+   * Maven profile, and the {@code jdk.incubator.vector} module, added with {@code --add-modules},
+   * are present, and the {@link #scalar()} one otherwise.
+   */
+  static DenseKernel best() {
+    if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+      return scalar();
+    }
+
+    try {
+      return (DenseKernel)
+          Class.forName(DenseKernel.class.getPackageName() + ".VectorDenseKernel")
+              .getDeclaredConstructor()
+              .newInstance();
+    } catch (ReflectiveOperationException | LinkageError e) {
+      return scalar();
+    }
+  }
+
+  /** Returns a short name of the kernel, for reports. */
+  String getName();
+
+  /**
+   * Relaxes the edges of {@code vertex} and returns the unsettled vertex with the smallest
+   * tentative distance.
+   *
+   * @param weights the matrix, row by row, {@link Double#POSITIVE_INFINITY} where there is no edge
+   * @param rowOffset the index in {@code weights} of the row of {@code vertex}
+   * @param distance the final distance of {@code vertex}
+   * @param vertex the vertex just settled
+   * @param tentative the tentative distances, NaN for settled vertices
+   * @param predecessors the predecessors, overwritten for every improved vertex
+   * @param vertexCount the number of vertices, i.e. the row length
+   * @return the closest unsettled vertex, or -1 if no unsettled vertex is reachable
+   * @complexity O(V), in one pass over the row and the tentative distances
+   */
+  int relaxAndFindClosest(
+      double[] weights,
+      int rowOffset,
+      double distance,
+      int vertex,
+      double[] tentative,
+      int[] predecessors,
+      int vertexCount);
+}
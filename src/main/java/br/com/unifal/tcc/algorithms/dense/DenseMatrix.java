@@ -0,0 +1,145 @@
+package br.com.unifal.tcc.algorithms.dense;
+
+import br.com.unifal.tcc.algorithms.dto.IndexedDistancePredecessorMap;
+import br.com.unifal.tcc.model.graph.CsrGraph;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Adjacency matrix of a {@link CsrGraph} as one row-major {@code double[]}, searched by Dijkstra's
+ * algorithm with a linear scan instead of a priority queue.
+ *
+ * <p>Entry {@code (u, v)} holds the lightest edge {@code u -> v}, or {@link
+ * Double#POSITIVE_INFINITY} if there is none. Each step of the search is a single sweep of a
+ * {@link DenseKernel} over one row and the tentative distances, both contiguous, which relaxes the
+ * edges of the vertex just settled and finds the next one. On near-complete graphs this does the
+ * same O(V²) work as any Dijkstra variant, but at memory bandwidth rather than through heap
+ * operations. Memory is {@code 8 · V²} bytes, so graphs are capped at {@link #MAX_VERTEX_COUNT}
+ * vertices.
+ */
+public final class DenseMatrix {
+
+  /** Largest vertex count a matrix is built for, i.e. a 128 MiB matrix. */
+  public static final int MAX_VERTEX_COUNT = 4096;
+
+  private final CsrGraph graph;
+  private final int vertexCount;
+  private final double[] weights;
+  private final DenseKernel kernel;
+
+  /** Tentative distances and predecessors reused by every search of the same thread. */
+  private final ThreadLocal<Scratch> scratches = new ThreadLocal<>();
+
+  private DenseMatrix(CsrGraph graph, DenseKernel kernel) {
+    this.graph = graph;
+    this.vertexCount = graph.getVertexCount();
+    this.weights = new double[vertexCount * vertexCount];
+    this.kernel = kernel;
+
+    Arrays.fill(weights, Double.POSITIVE_INFINITY);
+    for (int source = 0; source < vertexCount; source++) {
+      int row = source * vertexCount;
+      for (int edge = graph.edgeStart(source); edge < graph.edgeEnd(source); edge++) {
+        int target = graph.target(edge);
+        if (target != source) {
+          weights[row + target] = Math.min(weights[row + target], graph.weight(edge));
+        }
+      }
+    }
+  }
+
+  /** Tells whether {@code graph} is small enough for a matrix. */
+  public static boolean fits(CsrGraph graph) {
+    return graph.getVertexCount() <= MAX_VERTEX_COUNT;
+  }
+
+  /**
+   * Builds the matrix of {@code graph}.
+   *
+   * @param graph the graph, with at most {@link #MAX_VERTEX_COUNT} vertices
+   * @param kernel the kernel running every search on the matrix
+   * @throws IllegalArgumentException if the graph has too many vertices
+   * @complexity O(V² + E)
+   */
+  public static DenseMatrix of(CsrGraph graph, DenseKernel kernel) {
+    if (!fits(graph)) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Graph with %d vertices exceeds the dense matrix limit of %d",
+              graph.getVertexCount(), MAX_VERTEX_COUNT));
+    }
+    return new DenseMatrix(graph, kernel);
+  }
+
+  /** Returns the graph this matrix was built from. */
+  public CsrGraph getGraph() {
+    return graph;
+  }
+
+  public DenseKernel getKernel() {
+    return kernel;
+  }
+
+  /** Returns the lightest edge {@code from -> to}, or infinity if there is none. */
+  public double getWeight(int from, int to) {
+    return weights[from * vertexCount + to];
+  }
+
+  /**
+   * Runs Dijkstra's algorithm from {@code source} into {@code result}, which must already be
+   * {@link IndexedDistancePredecessorMap#reset() reset}. Vertices are settled in {@code result} as
+   * the search goes, so it stops early once the {@link IndexedDistancePredecessorMap#setTargets(
+   * int[]) targets} set on it are settled; unsettled vertices are left unreached.
+   *
+   * @complexity O(V²), one sweep of V entries per settled vertex
+   */
+  public void computeShortestPaths(int source, IndexedDistancePredecessorMap result) {
+    Scratch scratch = getScratch();
+    double[] tentative = scratch.tentative;
+    int[] predecessors = scratch.predecessors;
+    Arrays.fill(tentative, Double.POSITIVE_INFINITY);
+    tentative[source] = 0.0;
+    predecessors[source] = IndexedDistancePredecessorMap.NO_PREDECESSOR;
+
+    int current = source;
+    while (current >= 0) {
+      double distance = tentative[current];
+      tentative[current] = Double.NaN; // Settled: never improved nor selected again
+      result.update(current, distance, predecessors[current]);
+      result.markSettled(current);
+      if (result.hasSettledAllTargets()) {
+        break;
+      }
+
+      current =
+          kernel.relaxAndFindClosest(
+              weights,
+              current * vertexCount,
+              distance,
+              current,
+              tentative,
+              predecessors,
+              vertexCount);
+    }
+  }
+
+  private Scratch getScratch() {
+    Scratch scratch = scratches.get();
+    if (Objects.isNull(scratch)) {
+      scratch = new Scratch(vertexCount);
+      scratches.set(scratch);
+    }
+    return scratch;
+  }
+
+  private static final class Scratch {
+
+    private final double[] tentative;
+    private final int[] predecessors;
+
+    private Scratch(int vertexCount) {
+      this.tentative = new double[vertexCount];
+      this.predecessors = new int[vertexCount];
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package br.com.unifal.tcc.algorithms.dense;
+
+/** {@link DenseKernel} made of plain loops, the fallback when the Vector API is unavailable. */
+final class ScalarDenseKernel implements DenseKernel {
+
+  @Override
+  public String getName() {
+    return "scalar";
+  }
+
+  @Override
+  public int relaxAndFindClosest(
+      double[] weights,
+      int rowOffset,
+      double distance,
+      int vertex,
+      double[] tentative,
+      int[] predecessors,
+      int vertexCount) {
+    int closest = -1;
+    double minDistance = Double.POSITIVE_INFINITY;
+
+    for (int v = 0; v < vertexCount; v++) {
+      double current = tentative[v];
+      double candidate = distance + weights[rowOffset + v];
+      if (candidate < current) {
+        current = candidate;
+        tentative[v] = candidate;
+        predecessors[v] = vertex;
+      }
+      if (current < minDistance) {
+        minDistance = current;
+        closest = v;
+      }
+    }
+    return closest;
+  }
+}
@@ -0,0 +1,157 @@
+package br.com.unifal.tcc.algorithms.dto;
+
+import br.com.unifal.tcc.algorithms.exceptions.UnreachableVertexException;
+import br.com.unifal.tcc.algorithms.interfaces.ShortestPathAlgorithm;
+import br.com.unifal.tcc.model.dto.PathResult;
+import br.com.unifal.tcc.model.graph.CsrGraph;
+import br.com.unifal.tcc.model.graph.Graph;
+import br.com.unifal.tcc.model.graph.Vertex;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Shortest path distances from a list of source vertices to a list of target vertices.
+ *
+ * <p>One shortest path tree is computed per source, up front, batching sources when the engine
+ * supports it, but only the distances between sources and targets are kept, in a flat row-major
+ * {@code double[]}: memory is O(s · t) whatever the size of the graph, and lookups are O(1). Paths
+ * are rebuilt on demand by a single-target search, which only pays off because callers ask for few
+ * of them, e.g. the pairs a matching picked.
+ *
+ * <p>Instances are not thread-safe: {@link #getPath(int, int)} reuses one search map.
+ */
+public class DistanceMatrix {
+
+  private final CsrGraph graph;
+  private final List<Vertex> sources;
+  private final List<Vertex> targets;
+  private final double[] distances;
+  private final ShortestPathAlgorithm pathAlgorithm;
+
+  /** Search map of {@link #getPath(int, int)}, allocated by its first call. */
+  private IndexedDistancePredecessorMap pathTree;
+
+  private DistanceMatrix(
+      CsrGraph graph,
+      List<Vertex> sources,
+      List<Vertex> targets,
+      double[] distances,
+      ShortestPathAlgorithm pathAlgorithm) {
+    this.graph = graph;
+    this.sources = sources;
+    this.targets = targets;
+    this.distances = distances;
+    this.pathAlgorithm = pathAlgorithm;
+  }
+
+  /**
+   * Computes the distance matrix between the given sources and targets. Sources are handed to the
+   * engine all at once, in its {@link ShortestPathAlgorithm#getBatchOrder(CsrGraph, int[]) batch
+   * order}, so engines that share one traversal between several sources do so; the others run one
+   * single-source search per source. Engines with an early exit stop each search once every target
+   * is settled.
+   *
+   * @param graph the graph in which the distances should be computed
+   * @param sources the row vertices
+   * @param targets the column vertices
+   * @param pathAlgorithm the engine used for the searches, kept to rebuild paths
+   * @return the computed matrix
+   * @complexity O(s · SSSP) time, O(s · t + V) memory while computing and O(s · t) after, where s
+   *     and t are the number of sources and targets
+   */
+  public static DistanceMatrix compute(
+      Graph graph,
+      List<Vertex> sources,
+      List<Vertex> targets,
+      ShortestPathAlgorithm pathAlgorithm) {
+    CsrGraph csrGraph = graph.toCsrGraph();
+    int[] sourceIndices = sources.stream().mapToInt(csrGraph::indexOf).toArray();
+    int[] targetIndices = targets.stream().mapToInt(csrGraph::indexOf).toArray();
+
+    int[] order = pathAlgorithm.getBatchOrder(csrGraph, sourceIndices);
+    int[] orderedSources = new int[order.length];
+    for (int i = 0; i < order.length; i++) {
+      orderedSources[i] = sourceIndices[order[i]];
+    }
+
+    double[] distances = new double[sources.size() * targets.size()];
+    pathAlgorithm.computeShortestPathTrees(
+        csrGraph,
+        orderedSources,
+        targetIndices,
+        new IndexedDistancePredecessorMap(csrGraph.getVertexCount()),
+        (tree, i) -> {
+          int row = order[i];
+          for (int column = 0; column < targetIndices.length; column++) {
+            distances[row * targetIndices.length + column] =
+                tree.getDistance(targetIndices[column]);
+          }
+        });
+
+    return new DistanceMatrix(
+        csrGraph, List.copyOf(sources), List.copyOf(targets), distances, pathAlgorithm);
+  }
+
+  public List<Vertex> getSources() {
+    return sources;
+  }
+
+  public List<Vertex> getTargets() {
+    return targets;
+  }
+
+  /**
+   * Returns the shortest distance from a source to a target.
+   *
+   * @param row the position of the source in {@link #getSources()}
+   * @param column the position of the target in {@link #getTargets()}
+   * @return the distance, or {@link Double#POSITIVE_INFINITY} if the target is unreachable
+   * @complexity O(1)
+   */
+  public double getDistance(int row, int column) {
+    return distances[row * targets.size() + column];
+  }
+
+  /**
+   * Copies the distances into a {@code double[sources][targets]} cost matrix.
+   *
+   * @complexity O(s · t)
+   */
+  public double[][] toCostMatrix() {
+    double[][] costs = new double[sources.size()][];
+    for (int row = 0; row < costs.length; row++) {
+      costs[row] =
+          Arrays.copyOfRange(distances, row * targets.size(), (row + 1) * targets.size());
+    }
+    return costs;
+  }
+
+  /**
+   * Builds the shortest path from a source to a target with a new search from the source, which
+   * engines with an early exit stop once the target is settled.
+   *
+   * @param row the position of the source in {@link #getSources()}
+   * @param column the position of the target in {@link #getTargets()}
+   * @return the path and its cost
+   * @throws UnreachableVertexException if the target is not reachable from the source
+   * @complexity O(SSSP)
+   */
+  public PathResult getPath(int row, int column) {
+    double distance = getDistance(row, column);
+    if (distance == Double.POSITIVE_INFINITY) {
+      throw new UnreachableVertexException(
+          String.format(
+              "Target vertex with id: %s is not reachable from start vertex!",
+              targets.get(column).getId()));
+    }
+
+    if (Objects.isNull(pathTree)) {
+      pathTree = new IndexedDistancePredecessorMap(graph.getVertexCount());
+    }
+    int target = graph.indexOf(targets.get(column));
+    pathAlgorithm.computeDistancePredecessorMap(
+        graph, graph.indexOf(sources.get(row)), new int[] {target}, pathTree);
+    return new PathResult(pathTree.getPath(graph, target), distance);
+  }
+}
@@ -0,0 +1,201 @@
+package br.com.unifal.tcc.algorithms.dto;
+
+import br.com.unifal.tcc.algorithms.exceptions.UnreachableVertexException;
+import br.com.unifal.tcc.algorithms.interfaces.ShortestPathTree;
+import br.com.unifal.tcc.model.graph.CsrGraph;
+import br.com.unifal.tcc.model.graph.Vertex;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Primitive-array variant of {@link DistancePredecessorMap} for searches on a {@link CsrGraph}.
+ *
+ * <p>Distances and predecessors are kept in {@code double[]}/{@code int[]} arrays indexed by dense
+ * vertex id. Every slot carries the epoch in which it was last written, so {@link #reset()} only
+ * bumps the current epoch: slots from older epochs read as unreached. One instance can therefore be
+ * reused for any number of sources on graphs with the same vertex count without clearing or
+ * reallocating the arrays.
+ *
+ * <p>A search can also be given a set of {@link #setTargets(int[]) targets}: the map then counts
+ * how many of them are still unsettled, so engines that settle vertices in distance order can stop
+ * as soon as {@link #hasSettledAllTargets()}. Only settled vertices hold final distances after
+ * such a search; the others keep their tentative ones.
+ *
+ * <p>Instances are not thread-safe; use one per thread.
+ */
+public class IndexedDistancePredecessorMap implements ShortestPathTree {
+
+  public static final int NO_PREDECESSOR = -1;
+
+  private final double[] distances;
+  private final int[] predecessors;
+  private final int[] reachedEpochs;
+  private final int[] settledEpochs;
+  private int epoch;
+
+  /**
+   * Stamps of the current targets, allocated by the first {@link #setTargets(int[])}. Every call
+   * stamps with a fresh {@link #targetStamp}, so targets of an earlier call are never counted.
+   */
+  private int[] targetEpochs;
+
+  private int targetStamp;
+  private int targetsEpoch;
+  private int remainingTargets;
+
+  public IndexedDistancePredecessorMap(int vertexCount) {
+    this(vertexCount, 1);
+  }
+
+  /** Starts at the given epoch, so tests can reach the wrap-around of {@link #reset()}. */
+  IndexedDistancePredecessorMap(int vertexCount, int epoch) {
+    this.distances = new double[vertexCount];
+    this.predecessors = new int[vertexCount];
+    this.reachedEpochs = new int[vertexCount];
+    this.settledEpochs = new int[vertexCount];
+    this.epoch = epoch;
+  }
+
+  @Override
+  public int getVertexCount() {
+    return distances.length;
+  }
+
+  /**
+   * Forgets every distance, predecessor, settled mark and target.
+   *
+   * @complexity O(1), except for a full clear once every {@link Integer#MAX_VALUE} resets
+   */
+  public void reset() {
+    if (epoch == Integer.MAX_VALUE) {
+      Arrays.fill(reachedEpochs, 0);
+      Arrays.fill(settledEpochs, 0);
+      targetsEpoch = 0;
+      epoch = 0;
+    }
+    epoch++;
+  }
+
+  /**
+   * Sets the vertices the current search has to settle, until the next {@link #reset()}. A later
+   * call replaces the targets of an earlier one.
+   *
+   * @param targets the target ids; duplicates and already settled vertices are ignored
+   * @complexity O(t), where t is the number of targets
+   */
+  public void setTargets(int[] targets) {
+    if (Objects.isNull(targetEpochs)) {
+      targetEpochs = new int[distances.length];
+    }
+
+    if (targetStamp == Integer.MAX_VALUE) {
+      Arrays.fill(targetEpochs, 0);
+      targetStamp = 0;
+    }
+    targetStamp++;
+    targetsEpoch = epoch;
+    remainingTargets = 0;
+    for (int target : targets) {
+      if (targetEpochs[target] != targetStamp && !isSettled(target)) {
+        targetEpochs[target] = targetStamp;
+        remainingTargets++;
+      }
+    }
+  }
+
+  /**
+   * Tells whether every vertex given to {@link #setTargets(int[])} is settled. Always false when no
+   * targets were set since the last {@link #reset()}.
+   */
+  public boolean hasSettledAllTargets() {
+    return targetsEpoch == epoch && remainingTargets == 0;
+  }
+
+  @Override
+  public boolean isReached(int vertex) {
+    return reachedEpochs[vertex] == epoch;
+  }
+
+  @Override
+  public double getDistance(int vertex) {
+    return reachedEpochs[vertex] == epoch ? distances[vertex] : Double.POSITIVE_INFINITY;
+  }
+
+  @Override
+  public int getPredecessor(int vertex) {
+    return reachedEpochs[vertex] == epoch ? predecessors[vertex] : NO_PREDECESSOR;
+  }
+
+  /**
+   * Records a new tentative distance for a vertex together with the predecessor it was reached
+   * from.
+   *
+   * @param vertex the vertex to update
+   * @param distance the new distance of {@code vertex}
+   * @param predecessor the previous vertex on the path, or {@link #NO_PREDECESSOR}
+   */
+  public void update(int vertex, double distance, int predecessor) {
+    reachedEpochs[vertex] = epoch;
+    distances[vertex] = distance;
+    predecessors[vertex] = predecessor;
+  }
+
+  @Override
+  public boolean isSettled(int vertex) {
+    return settledEpochs[vertex] == epoch;
+  }
+
+  /** Marks the distance of a vertex as final, e.g. once Dijkstra removes it from its queue. */
+  public void markSettled(int vertex) {
+    settledEpochs[vertex] = epoch;
+    if (targetsEpoch == epoch && targetEpochs[vertex] == targetStamp) {
+      targetEpochs[vertex] = 0;
+      remainingTargets--;
+    }
+  }
+
+  public List<Vertex> getPath(CsrGraph graph, int target) {
+    checkReachable(graph, target);
+
+    List<Vertex> path = new ArrayList<>();
+    for (int current = target; current != NO_PREDECESSOR; current = getPredecessor(current)) {
+      path.add(graph.getVertex(current));
+    }
+
+    Collections.reverse(path);
+    return path;
+  }
+
+  public double getPathCostTo(CsrGraph graph, int target) {
+    checkReachable(graph, target);
+    return distances[target];
+  }
+
+  /**
+   * Converts the current distances into a map keyed by {@link Vertex}. Unreached vertices are left
+   * out, as they are in {@link DistancePredecessorMap#getDistances()}.
+   */
+  public Map<Vertex, Double> toDistanceMap(CsrGraph graph) {
+    Map<Vertex, Double> result = new HashMap<>();
+    for (int v = 0; v < distances.length; v++) {
+      if (isReached(v)) {
+        result.put(graph.getVertex(v), distances[v]);
+      }
+    }
+    return result;
+  }
+
+  private void checkReachable(CsrGraph graph, int target) {
+    if (!isReached(target)) {
+      throw new UnreachableVertexException(
+          String.format(
+              "Target vertex with id: %s is not reachable from start vertex!",
+              graph.getVertex(target).getId()));
+    }
+  }
+}
@@ -0,0 +1,242 @@
+package br.com.unifal.tcc.algorithms.dto;
+
+import br.com.unifal.tcc.algorithms.interfaces.ShortestPathAlgorithm;
+import br.com.unifal.tcc.model.graph.CsrGraph;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Landmark distances for ALT (A*, landmarks and triangle inequality) searches on one {@link
+ * CsrGraph}.
+ *
+ * <p>For every landmark {@code L} the distances {@code d(L, v)} and {@code d(v, L)} to and from
+ * every vertex are stored, interleaved per vertex so that all landmark distances of one vertex sit
+ * on the same cache lines. By the triangle inequality, {@code d(L, t) - d(L, v)} and {@code d(v, L)
+ * - d(t, L)} are both lower bounds of {@code d(v, t)}, and their maximum over all landmarks is a
+ * consistent A* heuristic. Memory is {@code 16 · k · V} bytes for {@code k} landmarks.
+ *
+ * <p>Landmarks can be {@link #write(Path) saved} next to the graph and {@link #read(Path,
+ * CsrGraph) read} back for the same graph, skipping the {@code 2k} searches of {@link
+ * #select(CsrGraph, int, ShortestPathAlgorithm)}.
+ */
+public class Landmarks {
+
+  public static final String FILE_EXTENSION = ".landmarks";
+
+  private static final int MAGIC = 0x414c5431; // "ALT1"
+  private static final int VERSION = 1;
+
+  private final CsrGraph graph;
+  private final int[] landmarks;
+  private final double[] fromLandmarks;
+  private final double[] toLandmarks;
+
+  private Landmarks(
+      CsrGraph graph, int[] landmarks, double[] fromLandmarks, double[] toLandmarks) {
+    this.graph = graph;
+    this.landmarks = landmarks;
+    this.fromLandmarks = fromLandmarks;
+    this.toLandmarks = toLandmarks;
+  }
+
+  /**
+   * Selects landmarks by farthest-point sampling and computes their distances.
+   *
+   * <p>The first landmark is the vertex farthest from vertex 0; each next one is the vertex whose
+   * round-trip distance to its closest landmark so far is largest, vertices no landmark reaches
+   * first. Landmarks thus spread over the periphery of the graph, where their bounds are tightest.
+   *
+   * @param graph the graph to preprocess
+   * @param count the number of landmarks, capped at the vertex count
+   * @param pathAlgorithm the engine running the {@code 2 · count} one-to-all searches
+   * @return the landmarks of {@code graph}
+   * @complexity O(count · (SSSP + V))
+   */
+  public static Landmarks select(CsrGraph graph, int count, ShortestPathAlgorithm pathAlgorithm) {
+    int vertexCount = graph.getVertexCount();
+    int landmarkCount = Math.min(count, vertexCount);
+    int[] landmarks = new int[landmarkCount];
+    double[] fromLandmarks = new double[landmarkCount * vertexCount];
+    double[] toLandmarks = new double[landmarkCount * vertexCount];
+    if (landmarkCount == 0) {
+      return new Landmarks(graph, landmarks, fromLandmarks, toLandmarks);
+    }
+
+    // Round-trip distance of every vertex to its closest landmark so far
+    double[] closest = new double[vertexCount];
+    double[] start = pathAlgorithm.getDistances(graph, 0);
+    for (int v = 0; v < vertexCount; v++) {
+      closest[v] = start[v] == Double.POSITIVE_INFINITY ? -1.0 : start[v];
+    }
+
+    CsrGraph reverse = graph.reverse();
+    for (int i = 0; i < landmarkCount; i++) {
+      int landmark = farthest(closest);
+      landmarks[i] = landmark;
+
+      double[] from = pathAlgorithm.getDistances(graph, landmark);
+      double[] to = pathAlgorithm.getDistances(reverse, landmark);
+      for (int v = 0; v < vertexCount; v++) {
+        fromLandmarks[v * landmarkCount + i] = from[v];
+        toLandmarks[v * landmarkCount + i] = to[v];
+        closest[v] = i == 0 ? from[v] + to[v] : Math.min(closest[v], from[v] + to[v]);
+      }
+      closest[landmark] = Double.NEGATIVE_INFINITY; // Never pick a landmark twice
+    }
+
+    return new Landmarks(graph, landmarks, fromLandmarks, toLandmarks);
+  }
+
+  /** Returns the vertex with the largest score, the lowest id on ties. */
+  private static int farthest(double[] scores) {
+    int farthest = 0;
+    for (int v = 1; v < scores.length; v++) {
+      if (scores[v] > scores[farthest]) {
+        farthest = v;
+      }
+    }
+    return farthest;
+  }
+
+  /** Returns the graph these landmarks were computed for. */
+  public CsrGraph getGraph() {
+    return graph;
+  }
+
+  public int getLandmarkCount() {
+    return landmarks.length;
+  }
+
+  /** Returns the vertex id of the {@code index}-th landmark. */
+  public int getLandmark(int index) {
+    return landmarks[index];
+  }
+
+  /**
+   * Copies the landmark distances of {@code target} into {@code fromTarget}/{@code toTarget},
+   * which {@link #lowerBound(int, double[], double[])} then compares every vertex against.
+   */
+  public void loadTarget(int target, double[] fromTarget, double[] toTarget) {
+    int offset = target * landmarks.length;
+    System.arraycopy(fromLandmarks, offset, fromTarget, 0, landmarks.length);
+    System.arraycopy(toLandmarks, offset, toTarget, 0, landmarks.length);
+  }
+
+  /**
+   * Returns a lower bound of the distance from {@code vertex} to the target loaded by {@link
+   * #loadTarget(int, double[], double[])}, or {@link Double#POSITIVE_INFINITY} if the landmarks
+   * prove the target unreachable from {@code vertex}.
+   *
+   * @complexity O(k)
+   */
+  public double lowerBound(int vertex, double[] fromTarget, double[] toTarget) {
+    int offset = vertex * landmarks.length;
+    double bound = 0.0;
+    for (int i = 0; i < landmarks.length; i++) {
+      // d(L, t) <= d(L, v) + d(v, t) and d(v, L) <= d(v, t) + d(t, L); inf - inf says nothing
+      double forward = fromTarget[i] - fromLandmarks[offset + i];
+      double backward = toLandmarks[offset + i] - toTarget[i];
+      if (forward > bound) {
+        bound = forward;
+      }
+      if (backward > bound) {
+        bound = backward;
+      }
+    }
+    return bound;
+  }
+
+  /**
+   * Writes the landmarks to {@code file}, overwriting it if it exists.
+   *
+   * @throws IOException if the file cannot be written
+   * @complexity O(k · V)
+   */
+  public void write(Path file) throws IOException {
+    try (DataOutputStream output =
+        new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+      output.writeInt(MAGIC);
+      output.writeInt(VERSION);
+      output.writeInt(graph.getVertexCount());
+      output.writeInt(graph.getEdgeCount());
+      output.writeInt(landmarks.length);
+      for (int landmark : landmarks) {
+        output.writeInt(landmark);
+      }
+      for (double distance : fromLandmarks) {
+        output.writeDouble(distance);
+      }
+      for (double distance : toLandmarks) {
+        output.writeDouble(distance);
+      }
+    }
+  }
+
+  /**
+   * Reads landmarks written by {@link #write(Path)} for {@code graph}.
+   *
+   * @param file the landmarks file
+   * @param graph the graph the landmarks were computed for
+   * @return the landmarks, bound to {@code graph}
+   * @throws IOException if the file cannot be read
+   * @throws IllegalArgumentException if the file is not a landmarks file of a supported version,
+   *     or was computed for a graph of another size
+   * @complexity O(k · V)
+   */
+  public static Landmarks read(Path file, CsrGraph graph) throws IOException {
+    try (DataInputStream input =
+        new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+      if (input.readInt() != MAGIC) {
+        throw new IllegalArgumentException("Not a landmarks file: " + file);
+      }
+      int version = input.readInt();
+      if (version != VERSION) {
+        throw new IllegalArgumentException(
+            String.format("Unsupported landmarks file version %d in %s", version, file));
+      }
+      int vertexCount = input.readInt();
+      int edgeCount = input.readInt();
+      if (vertexCount != graph.getVertexCount() || edgeCount != graph.getEdgeCount()) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Landmarks in %s were computed for a graph with %d vertices and %d edges",
+                file, vertexCount, edgeCount));
+      }
+
+      int[] landmarks = new int[input.readInt()];
+      for (int i = 0; i < landmarks.length; i++) {
+        landmarks[i] = input.readInt();
+      }
+      double[] fromLandmarks = readDoubles(input, landmarks.length * vertexCount);
+      double[] toLandmarks = readDoubles(input, landmarks.length * vertexCount);
+      return new Landmarks(graph, landmarks, fromLandmarks, toLandmarks);
+    }
+  }
+
+  private static double[] readDoubles(DataInputStream input, int length) throws IOException {
+    double[] values = new double[length];
+    for (int i = 0; i < length; i++) {
+      values[i] = input.readDouble();
+    }
+    return values;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (!(o instanceof Landmarks that)) return false;
+    return Arrays.equals(landmarks, that.landmarks)
+        && Arrays.equals(fromLandmarks, that.fromLandmarks)
+        && Arrays.equals(toLandmarks, that.toLandmarks);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(landmarks);
+  }
+}
@@ -1,12 +1,16 @@
 package br.com.unifal.tcc.algorithms.interfaces;
 
 import java.util.Map;
+import java.util.function.ObjIntConsumer;
+import java.util.stream.IntStream;
+import br.com.unifal.tcc.algorithms.dto.IndexedDistancePredecessorMap;
 import br.com.unifal.tcc.algorithms.exceptions.UnreachableVertexException;
+import br.com.unifal.tcc.model.graph.CsrGraph;
 import br.com.unifal.tcc.model.graph.Graph;
 import br.com.unifal.tcc.model.graph.Vertex;
 import br.com.unifal.tcc.model.dto.PathResult;
 
-public interface ShortestPathAlgorithm {
+public interface ShortestPathAlgorithm extends AutoCloseable {
     /**
      * Returns the name of the shortest path algorithm.
      *
@@ -26,7 +30,17 @@ public interface ShortestPathAlgorithm {
      * sequence of vertices and total cost
      * @throws UnreachableVertexException if no path exists between {@code start} and {@code end}
      */
-    PathResult findShortestPath(Graph graph, Vertex start, Vertex end);
+    default PathResult findShortestPath(Graph graph, Vertex start, Vertex end) {
+        CsrGraph csrGraph = graph.toCsrGraph();
+        IndexedDistancePredecessorMap result =
+                new IndexedDistancePredecessorMap(csrGraph.getVertexCount());
+        int target = csrGraph.indexOf(end);
+        computeDistancePredecessorMap(
+                csrGraph, csrGraph.indexOf(start), new int[] {target}, result);
+
+        return new PathResult(
+                result.getPath(csrGraph, target), result.getPathCostTo(csrGraph, target));
+    }
 
     /**
      * Computes the shortest distance from a given source vertex to all other reachable vertices in the graph.
@@ -40,5 +54,185 @@ public interface ShortestPathAlgorithm {
      * @param source the vertex from which distances to all other vertices should be calculated
      * @return a map of vertices to their minimum distance from {@code source}
      */
-    Map<Vertex, Double> getDistanceMap(Graph graph, Vertex source);
+    default Map<Vertex, Double> getDistanceMap(Graph graph, Vertex source) {
+        CsrGraph csrGraph = graph.toCsrGraph();
+        IndexedDistancePredecessorMap result =
+                new IndexedDistancePredecessorMap(csrGraph.getVertexCount());
+        computeDistancePredecessorMap(csrGraph, csrGraph.indexOf(source), result);
+        return result.toDistanceMap(csrGraph);
+    }
+
+    /**
+     * Computes the shortest distance from a given source vertex to every vertex of a
+     * {@link CsrGraph} snapshot.
+     *
+     * <p>This is the int-indexed counterpart of {@link #getDistanceMap(Graph, Vertex)}: it works
+     * on dense vertex ids only, without {@link Vertex} objects or boxed distances.
+     *
+     * @param graph  the CSR snapshot in which the distances should be computed
+     * @param source the dense id of the source vertex
+     * @return an array indexed by vertex id holding the minimum distance from {@code source}, or
+     * {@link Double#POSITIVE_INFINITY} for unreachable vertices
+     */
+    default double[] getDistances(CsrGraph graph, int source) {
+        IndexedDistancePredecessorMap result =
+                new IndexedDistancePredecessorMap(graph.getVertexCount());
+        computeDistancePredecessorMap(graph, source, result);
+        return result.toDistanceArray();
+    }
+
+    /**
+     * Computes the shortest path tree of a source vertex into a reusable
+     * {@link IndexedDistancePredecessorMap}.
+     *
+     * <p>The map is {@link IndexedDistancePredecessorMap#reset() reset} before the search starts,
+     * so callers running many sources can pass the same instance every time and avoid allocating
+     * per-source distance storage.
+     *
+     * @param graph  the CSR snapshot in which the distances should be computed
+     * @param source the dense id of the source vertex
+     * @param result the map to fill, sized for {@code graph}
+     */
+    void computeDistancePredecessorMap(
+            CsrGraph graph, int source, IndexedDistancePredecessorMap result);
+
+    /**
+     * Computes the shortest paths from a source vertex to the given target vertices into a
+     * reusable {@link IndexedDistancePredecessorMap}.
+     *
+     * <p>Engines that settle vertices in distance order stop as soon as every target is settled,
+     * which skips most of the search when the targets are close to the source. Afterwards only the
+     * settled vertices, which include every target and every vertex on their shortest paths, are
+     * guaranteed to hold final distances and predecessors. Engines without an early exit run the
+     * full {@link #computeDistancePredecessorMap(CsrGraph, int, IndexedDistancePredecessorMap)}
+     * search, which is what this default does.
+     *
+     * @param graph   the CSR snapshot in which the distances should be computed
+     * @param source  the dense id of the source vertex
+     * @param targets the dense ids of the vertices whose distances are needed
+     * @param result  the map to fill, sized for {@code graph}
+     */
+    default void computeDistancePredecessorMap(
+            CsrGraph graph, int source, int[] targets, IndexedDistancePredecessorMap result) {
+        computeDistancePredecessorMap(graph, source, result);
+    }
+
+    /**
+     * Returns how many sources {@link #computeShortestPathTrees(CsrGraph, int[],
+     * IndexedDistancePredecessorMap, ObjIntConsumer) computeShortestPathTrees} shares one traversal
+     * of the graph between.
+     *
+     * <p>Callers that split many sources between workers get the most out of an engine by handing
+     * them over in multiples of this size, in {@link #getBatchOrder(CsrGraph, int[]) batch order}.
+     * The default of 1 means that every source is searched on its own.
+     *
+     * @return the number of sources searched together
+     */
+    default int getBatchSize() {
+        return 1;
+    }
+
+    /**
+     * Returns the order in which sources should be handed over, so that the sources searched
+     * together share as much of their traversal as possible. The default keeps the given order.
+     *
+     * @param graph   the CSR snapshot in which the distances will be computed
+     * @param sources the dense ids of the sources
+     * @return the positions in {@code sources}, each once, in the order they should be searched
+     */
+    default int[] getBatchOrder(CsrGraph graph, int[] sources) {
+        return IntStream.range(0, sources.length).toArray();
+    }
+
+    /**
+     * Computes the shortest path trees of several source vertices and hands each one to
+     * {@code consumer}, together with the position of its source in {@code sources}.
+     *
+     * <p>A tree is only valid during its call to {@code consumer}: copy whatever outlives it. The
+     * default runs
+     * {@link #computeDistancePredecessorMap(CsrGraph, int, IndexedDistancePredecessorMap)} into
+     * {@code scratch} once per source and hands {@code scratch} over. Engines with a
+     * {@link #getBatchSize() batch size} above 1 search that many sources in one traversal and
+     * hand out views of their own storage instead, so no per-source map is filled.
+     *
+     * @param graph    the CSR snapshot in which the distances should be computed
+     * @param sources  the dense ids of the source vertices
+     * @param scratch  a map sized for {@code graph} that the engine may fill and hand over
+     * @param consumer receives every tree with the position of its source
+     */
+    default void computeShortestPathTrees(
+            CsrGraph graph,
+            int[] sources,
+            IndexedDistancePredecessorMap scratch,
+            ObjIntConsumer<ShortestPathTree> consumer) {
+        for (int i = 0; i < sources.length; i++) {
+            computeDistancePredecessorMap(graph, sources[i], scratch);
+            consumer.accept(scratch, i);
+        }
+    }
+
+    /**
+     * Computes the shortest paths from several source vertices to the given target vertices and
+     * hands the tree of each source to {@code consumer}, as
+     * {@link #computeShortestPathTrees(CsrGraph, int[], IndexedDistancePredecessorMap,
+     * ObjIntConsumer) the full search} does.
+     *
+     * <p>As with a single source, only the settled vertices are guaranteed to hold final distances
+     * and predecessors. The default runs
+     * {@link #computeDistancePredecessorMap(CsrGraph, int, int[], IndexedDistancePredecessorMap)}
+     * into {@code scratch} once per source.
+     *
+     * @param graph    the CSR snapshot in which the distances should be computed
+     * @param sources  the dense ids of the source vertices
+     * @param targets  the dense ids of the vertices whose distances are needed
+     * @param scratch  a map sized for {@code graph} that the engine may fill and hand over
+     * @param consumer receives every tree with the position of its source
+     */
+    default void computeShortestPathTrees(
+            CsrGraph graph,
+            int[] sources,
+            int[] targets,
+            IndexedDistancePredecessorMap scratch,
+            ObjIntConsumer<ShortestPathTree> consumer) {
+        for (int i = 0; i < sources.length; i++) {
+            computeDistancePredecessorMap(graph, sources[i], targets, scratch);
+            consumer.accept(scratch, i);
+        }
+    }
+
+    /**
+     * Computes the shortest distance from several source vertices to every vertex of a
+     * {@link CsrGraph} snapshot.
+     *
+     * <p>This is the multi-source counterpart of {@link #getDistances(CsrGraph, int)}: sources are
+     * searched in {@link #getBatchOrder(CsrGraph, int[]) batch order}.
+     *
+     * @param graph   the CSR snapshot in which the distances should be computed
+     * @param sources the dense ids of the source vertices
+     * @return one row per source, in the order of {@code sources}, indexed by vertex id as in
+     * {@link #getDistances(CsrGraph, int)}
+     */
+    default double[][] getDistanceMatrix(CsrGraph graph, int[] sources) {
+        int[] order = getBatchOrder(graph, sources);
+        int[] orderedSources = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            orderedSources[i] = sources[order[i]];
+        }
+
+        double[][] rows = new double[sources.length][];
+        computeShortestPathTrees(
+                graph,
+                orderedSources,
+                new IndexedDistancePredecessorMap(graph.getVertexCount()),
+                (tree, i) -> rows[order[i]] = tree.toDistanceArray());
+        return rows;
+    }
+
+    /**
+     * Releases the threads or other resources the engine holds. Engines that hold none, which is
+     * what this default assumes, stay usable afterwards.
+     */
+    @Override
+    default void close() {
+    }
 }
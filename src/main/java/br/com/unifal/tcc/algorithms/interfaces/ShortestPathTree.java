@@ -0,0 +1,59 @@
+package br.com.unifal.tcc.algorithms.interfaces;
+
+import br.com.unifal.tcc.algorithms.dto.IndexedDistancePredecessorMap;
+
+/**
+ * Read-only view of the shortest path tree of one source, indexed by the dense vertex ids of a
+ * {@link br.com.unifal.tcc.model.graph.CsrGraph}.
+ *
+ * <p>{@link IndexedDistancePredecessorMap} is the usual implementation. Engines that search several
+ * sources in one traversal hand out views of their own storage instead, which only stay valid
+ * until their next search.
+ */
+public interface ShortestPathTree {
+
+  int getVertexCount();
+
+  /** Returns the distance of a vertex, or {@link Double#POSITIVE_INFINITY} if it is unreached. */
+  double getDistance(int vertex);
+
+  /**
+   * Returns the previous vertex on the path to a vertex, or {@link
+   * IndexedDistancePredecessorMap#NO_PREDECESSOR} for the source and unreached vertices.
+   */
+  int getPredecessor(int vertex);
+
+  /**
+   * Tells whether the distance and predecessor of a vertex are final. After a full search every
+   * reached vertex is; after a search with targets only the vertices it settled are.
+   */
+  boolean isSettled(int vertex);
+
+  default boolean isReached(int vertex) {
+    return getDistance(vertex) < Double.POSITIVE_INFINITY;
+  }
+
+  /**
+   * Copies the distances into a new array, with {@link Double#POSITIVE_INFINITY} for unreached
+   * vertices.
+   */
+  default double[] toDistanceArray() {
+    double[] result = new double[getVertexCount()];
+    for (int v = 0; v < result.length; v++) {
+      result[v] = getDistance(v);
+    }
+    return result;
+  }
+
+  /**
+   * Copies the predecessors into a new array, with {@link
+   * IndexedDistancePredecessorMap#NO_PREDECESSOR} for the source and unreached vertices.
+   */
+  default int[] toPredecessorArray() {
+    int[] result = new int[getVertexCount()];
+    for (int v = 0; v < result.length; v++) {
+      result[v] = getPredecessor(v);
+    }
+    return result;
+  }
+}
@@ -0,0 +1,125 @@
+package br.com.unifal.tcc.algorithms.matching;
+
+import java.util.Arrays;
+
+/**
+ * Hungarian algorithm for the assignment problem: match every row of a dense cost matrix to a
+ * distinct column at minimum total cost.
+ *
+ * <p>This is the shortest augmenting path form with row and column potentials: each row is added
+ * with one Dijkstra-like sweep over the columns, so a k × k instance takes O(k³) time and O(k)
+ * memory besides the matrix.
+ *
+ * <p>Infinite costs mark pairs that cannot be matched. They are replaced by a penalty larger than
+ * any finite assignment, so the solver always finds a perfect matching and the rows that could only
+ * be matched through a forbidden pair come back as {@link #UNASSIGNED}.
+ */
+public final class HungarianAssignmentSolver {
+
+  public static final int UNASSIGNED = -1;
+
+  private static final double INFINITY = Double.POSITIVE_INFINITY;
+
+  private HungarianAssignmentSolver() {}
+
+  /**
+   * Finds a minimum cost assignment.
+   *
+   * @param costs the cost of assigning each row to each column, {@link Double#POSITIVE_INFINITY} if
+   *     not allowed; there must be no more rows than columns
+   * @return the column assigned to each row, or {@link #UNASSIGNED}
+   * @throws IllegalArgumentException if there are more rows than columns
+   * @complexity O(R² · C) time and O(R + C) extra memory, where R is the number of rows and C the
+   *     number of columns
+   */
+  public static int[] solve(double[][] costs) {
+    int rows = costs.length;
+    int columns = rows == 0 ? 0 : costs[0].length;
+    if (rows > columns) {
+      throw new IllegalArgumentException(
+          String.format("Cannot assign %d rows to only %d columns!", rows, columns));
+    }
+
+    double penalty = forbiddenPairPenalty(costs);
+
+    // 1-based arrays: column 0 is a virtual column holding the row being inserted
+    double[] rowPotentials = new double[rows + 1];
+    double[] columnPotentials = new double[columns + 1];
+    int[] rowOfColumn = new int[columns + 1];
+    int[] previousColumn = new int[columns + 1];
+    double[] minSlack = new double[columns + 1];
+    boolean[] visited = new boolean[columns + 1];
+
+    for (int row = 1; row <= rows; row++) {
+      rowOfColumn[0] = row;
+      int column = 0;
+      Arrays.fill(minSlack, INFINITY);
+      Arrays.fill(visited, false);
+
+      // Grow the alternating tree until it reaches a free column
+      do {
+        visited[column] = true;
+        int treeRow = rowOfColumn[column];
+        double[] rowCosts = costs[treeRow - 1];
+        double delta = INFINITY;
+        int nextColumn = 0;
+
+        for (int j = 1; j <= columns; j++) {
+          if (visited[j]) {
+            continue;
+          }
+          double cost = rowCosts[j - 1] == INFINITY ? penalty : rowCosts[j - 1];
+          double slack = cost - rowPotentials[treeRow] - columnPotentials[j];
+          if (slack < minSlack[j]) {
+            minSlack[j] = slack;
+            previousColumn[j] = column;
+          }
+          if (minSlack[j] < delta) {
+            delta = minSlack[j];
+            nextColumn = j;
+          }
+        }
+
+        for (int j = 0; j <= columns; j++) {
+          if (visited[j]) {
+            rowPotentials[rowOfColumn[j]] += delta;
+            columnPotentials[j] -= delta;
+          } else {
+            minSlack[j] -= delta;
+          }
+        }
+        column = nextColumn;
+      } while (rowOfColumn[column] != 0);
+
+      // Flip the alternating path back to the virtual column
+      do {
+        int previous = previousColumn[column];
+        rowOfColumn[column] = rowOfColumn[previous];
+        column = previous;
+      } while (column != 0);
+    }
+
+    int[] assignment = new int[rows];
+    Arrays.fill(assignment, UNASSIGNED);
+    for (int j = 1; j <= columns; j++) {
+      int row = rowOfColumn[j];
+      if (row != 0 && costs[row - 1][j - 1] < INFINITY) {
+        assignment[row - 1] = j - 1;
+      }
+    }
+    return assignment;
+  }
+
+  /** Returns a cost that exceeds every assignment made only of finite pairs. */
+  private static double forbiddenPairPenalty(double[][] costs) {
+    double maxCost = 0.0;
+    for (double[] rowCosts : costs) {
+      for (double cost : rowCosts) {
+        if (cost < INFINITY) {
+          maxCost = Math.max(maxCost, Math.abs(cost));
+        }
+      }
+    }
+    return (maxCost + 1.0) * (costs.length + 1);
+  }
+}
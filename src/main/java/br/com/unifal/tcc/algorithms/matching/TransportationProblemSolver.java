@@ -0,0 +1,517 @@
+package br.com.unifal.tcc.algorithms.matching;
+
+import java.util.Arrays;
+
+/**
+ * Exact solver for the transportation problem: ship integer supplies to integer demands over a
+ * dense cost matrix at minimum total cost.
+ *
+ * <p>It is a primal-dual method on the residual network of supply rows and demand columns. Row and
+ * column potentials keep every reduced cost {@code cost + rowPotential - columnPotential}
+ * non-negative, and units only ever move along tight arcs (reduced cost zero), so the plan stays
+ * optimal for the units shipped so far. Each phase:
+ *
+ * <ol>
+ *   <li>runs one multi-source Dijkstra from every row with remaining supply, scanning the dense
+ *       matrix directly (O((R + C)²), no heap), until every column with remaining demand is
+ *       settled;
+ *   <li>adds the distances to the potentials, which makes every shortest path tight;
+ *   <li>pushes as many units as it can along tight paths with a depth-first search that keeps one
+ *       cursor per node, so each arc is inspected about once per phase.
+ * </ol>
+ *
+ * <p>A phase usually serves many rows at once, which is what keeps thousands of unbalanced vertices
+ * within seconds. Row and column minima seed the potentials, so the first phase already ships every
+ * unit whose cheapest option is free.
+ *
+ * <p>That shortcut treats every remaining supply and demand alike, which is only optimal when all
+ * of them end up used: then adding a constant to every cost of a row or column changes the cost of
+ * every plan by the same amount. Otherwise, when the totals differ or infinite costs strand some
+ * units, the solver keeps a potential for the sink that all demands drain into, stops each phase at
+ * the demand closest to it and only ships into demands whose arc to it is tight.
+ *
+ * <p>Infinite costs mark pairs that cannot be matched.
+ */
+public final class TransportationProblemSolver {
+
+  private static final double INFINITY = Double.POSITIVE_INFINITY;
+  private static final int NONE = -1;
+
+  /** Relative slack under which a reduced cost counts as zero, absorbing rounding on potentials. */
+  private static final double TIGHTNESS_TOLERANCE = 1e-9;
+
+  private final int rows;
+  private final int columns;
+  private final double[][] costs;
+  private final int[] remainingSupply;
+  private final int[] remainingDemand;
+  private final int[][] flows;
+  private final double tolerance;
+
+  /**
+   * Whether every supply and demand is expected to be used up, so that the arcs from the source
+   * and into the sink cannot affect optimality.
+   */
+  private final boolean balanced;
+
+  // Rows with flow into each column, i.e. the backward arcs of the residual network
+  private final int[][] flowRows;
+  private final int[] flowRowCounts;
+
+  private final double[] rowPotentials;
+  private final double[] columnPotentials;
+  private double sinkPotential;
+
+  // Dijkstra state
+  private final double[] rowDistances;
+  private final double[] columnDistances;
+  private final boolean[] rowSettled;
+  private final boolean[] columnSettled;
+  private final int[] rowParents;
+  private final int[] columnParents;
+  private double sinkDistance;
+
+  // Tight path search state; path nodes are rows in [0, rows) and columns in [rows, rows + columns)
+  private final int[] rowCursors;
+  private final int[] columnCursors;
+  private final boolean[] onPath;
+  private final int[] path;
+
+  private TransportationProblemSolver(
+      int[] supplies, int[] demands, double[][] costs, boolean balanced) {
+    this.rows = supplies.length;
+    this.columns = demands.length;
+    this.costs = costs;
+    this.remainingSupply = supplies.clone();
+    this.remainingDemand = demands.clone();
+    this.flows = new int[rows][columns];
+
+    double maxCost = 1.0;
+    for (double[] rowCosts : costs) {
+      for (double cost : rowCosts) {
+        if (cost < INFINITY) {
+          maxCost = Math.max(maxCost, Math.abs(cost));
+        }
+      }
+    }
+    this.tolerance = maxCost * TIGHTNESS_TOLERANCE;
+    this.balanced = balanced;
+
+    this.flowRows = new int[columns][2];
+    this.flowRowCounts = new int[columns];
+
+    this.rowPotentials = new double[rows];
+    this.columnPotentials = new double[columns];
+
+    this.rowDistances = new double[rows];
+    this.columnDistances = new double[columns];
+    this.rowSettled = new boolean[rows];
+    this.columnSettled = new boolean[columns];
+    this.rowParents = new int[rows];
+    this.columnParents = new int[columns];
+
+    this.rowCursors = new int[rows];
+    this.columnCursors = new int[columns];
+    this.onPath = new boolean[rows + columns];
+    this.path = new int[rows + columns];
+  }
+
+  /**
+   * Finds a minimum cost transportation plan.
+   *
+   * @param supplies the units available at each row
+   * @param demands the units required at each column
+   * @param costs the cost of shipping one unit from each row to each column, {@link
+   *     Double#POSITIVE_INFINITY} if not allowed
+   * @return the number of units shipped from each row to each column; when not everything can be
+   *     shipped, the cheapest of the plans that ship the most units
+   * @complexity O(P · (R + C)²) time, where P is the number of phases (at most the total supply, in
+   *     practice far fewer), R the rows and C the columns; O(R · C) memory for the plan
+   */
+  public static int[][] solve(int[] supplies, int[] demands, double[][] costs) {
+    long totalSupply = Arrays.stream(supplies).asLongStream().sum();
+    long totalDemand = Arrays.stream(demands).asLongStream().sum();
+    if (totalSupply == totalDemand) {
+      TransportationProblemSolver solver =
+          new TransportationProblemSolver(supplies, demands, costs, true);
+      solver.run();
+      if (solver.hasShippedEverything()) {
+        return solver.flows;
+      }
+      // Infinite costs stranded some units, so the balanced shortcut may not be optimal
+    }
+
+    TransportationProblemSolver solver =
+        new TransportationProblemSolver(supplies, demands, costs, false);
+    solver.run();
+    return solver.flows;
+  }
+
+  private void run() {
+    initializePotentials();
+    pushAlongTightPaths();
+
+    int closestDemand;
+    while ((closestDemand = computeShortestPaths()) != NONE) {
+      updatePotentials();
+      if (pushAlongTightPaths() == 0) {
+        // Rounding may leave a shortest path just above the tolerance; take it explicitly
+        pushAlongShortestPath(closestDemand);
+      }
+    }
+  }
+
+  private boolean hasShippedEverything() {
+    return Arrays.stream(remainingSupply).allMatch(supply -> supply == 0);
+  }
+
+  /**
+   * Seeds the potentials with column and then row minima, keeping reduced costs >= 0. Unless
+   * balanced, rows keep a zero potential, the same as the source, and the sink takes the lowest
+   * potential of a column with demand.
+   */
+  private void initializePotentials() {
+    for (int column = 0; column < columns; column++) {
+      double min = INFINITY;
+      for (int row = 0; row < rows; row++) {
+        min = Math.min(min, costs[row][column]);
+      }
+      columnPotentials[column] = min < INFINITY ? min : 0.0;
+    }
+
+    if (!balanced) {
+      double min = INFINITY;
+      for (int column = 0; column < columns; column++) {
+        if (remainingDemand[column] > 0) {
+          min = Math.min(min, columnPotentials[column]);
+        }
+      }
+      sinkPotential = min < INFINITY ? min : 0.0;
+      return;
+    }
+
+    for (int row = 0; row < rows; row++) {
+      double min = INFINITY;
+      for (int column = 0; column < columns; column++) {
+        min = Math.min(min, costs[row][column] - columnPotentials[column]);
+      }
+      rowPotentials[row] = min < INFINITY ? -min : 0.0;
+    }
+  }
+
+  private double reducedCost(int row, int column) {
+    return costs[row][column] + rowPotentials[row] - columnPotentials[column];
+  }
+
+  /** Reduced cost of the arc from a column with remaining demand into the sink. */
+  private double sinkCost(int column) {
+    // Rounding on the potentials may leave tiny negative reduced costs
+    return balanced ? 0.0 : Math.max(0.0, columnPotentials[column] - sinkPotential);
+  }
+
+  /**
+   * Runs a multi-source Dijkstra on reduced costs from every row with remaining supply, stopping
+   * once every column with remaining demand is settled or nothing else is reachable. Unless
+   * balanced, it stops instead once nothing left is closer than {@link #sinkDistance}, so that
+   * every node within it is settled before the potentials move by it.
+   *
+   * @return the column with remaining demand closest to the sink, or {@link #NONE} if none is
+   *     reachable
+   */
+  private int computeShortestPaths() {
+    Arrays.fill(rowDistances, INFINITY);
+    Arrays.fill(columnDistances, INFINITY);
+    Arrays.fill(rowSettled, false);
+    Arrays.fill(columnSettled, false);
+    Arrays.fill(rowParents, NONE);
+    Arrays.fill(columnParents, NONE);
+
+    int pendingDemands = 0;
+    for (int column = 0; column < columns; column++) {
+      if (remainingDemand[column] > 0) {
+        pendingDemands++;
+      }
+    }
+    for (int row = 0; row < rows; row++) {
+      if (remainingSupply[row] > 0) {
+        rowDistances[row] = 0.0;
+      }
+    }
+
+    int closestDemand = NONE;
+    sinkDistance = INFINITY;
+    while (pendingDemands > 0 || !balanced) {
+      int row = closestUnsettled(rowDistances, rowSettled);
+      int column = closestUnsettled(columnDistances, columnSettled);
+      boolean rowFirst =
+          row != NONE && (column == NONE || rowDistances[row] <= columnDistances[column]);
+
+      double next =
+          rowFirst ? rowDistances[row] : column == NONE ? INFINITY : columnDistances[column];
+      if (!balanced && next >= sinkDistance) {
+        break; // Reduced costs are >= 0, so nothing left gets closer to the sink
+      }
+
+      if (rowFirst) {
+        rowSettled[row] = true;
+        relaxForwardArcs(row);
+      } else if (column != NONE) {
+        columnSettled[column] = true;
+        if (remainingDemand[column] > 0) {
+          pendingDemands--;
+          double distance = columnDistances[column] + sinkCost(column);
+          if (distance < sinkDistance) {
+            sinkDistance = distance;
+            closestDemand = column;
+          }
+        }
+        relaxBackwardArcs(column);
+      } else {
+        break; // Nothing else is reachable
+      }
+    }
+    return closestDemand;
+  }
+
+  private static int closestUnsettled(double[] distances, boolean[] settled) {
+    int closest = NONE;
+    double min = INFINITY;
+    for (int node = 0; node < distances.length; node++) {
+      if (!settled[node] && distances[node] < min) {
+        min = distances[node];
+        closest = node;
+      }
+    }
+    return closest;
+  }
+
+  private void relaxForwardArcs(int row) {
+    double distance = rowDistances[row];
+    double[] rowCosts = costs[row];
+    for (int column = 0; column < columns; column++) {
+      if (columnSettled[column] || rowCosts[column] == INFINITY) {
+        continue;
+      }
+      // Rounding on the potentials may leave tiny negative reduced costs
+      double candidate = distance + Math.max(0.0, reducedCost(row, column));
+      if (candidate < columnDistances[column]) {
+        columnDistances[column] = candidate;
+        columnParents[column] = row;
+      }
+    }
+  }
+
+  private void relaxBackwardArcs(int column) {
+    double distance = columnDistances[column];
+    for (int i = 0; i < flowRowCounts[column]; i++) {
+      int row = flowRows[column][i];
+      if (rowSettled[row] || flows[row][column] == 0) {
+        continue;
+      }
+      double candidate = distance + Math.max(0.0, -reducedCost(row, column));
+      if (candidate < rowDistances[row]) {
+        rowDistances[row] = candidate;
+        rowParents[row] = column;
+      }
+    }
+  }
+
+  /**
+   * Adds min(distance, last settled distance) to every potential, which keeps reduced costs >= 0
+   * and makes every arc of the shortest path forest tight. Unless balanced, the limit is the
+   * distance to the sink instead.
+   */
+  private void updatePotentials() {
+    if (!balanced) {
+      addToPotentials(sinkDistance);
+      sinkPotential += sinkDistance;
+      return;
+    }
+
+    double limit = 0.0;
+    for (int row = 0; row < rows; row++) {
+      if (rowSettled[row]) {
+        limit = Math.max(limit, rowDistances[row]);
+      }
+    }
+    for (int column = 0; column < columns; column++) {
+      if (columnSettled[column]) {
+        limit = Math.max(limit, columnDistances[column]);
+      }
+    }
+    addToPotentials(limit);
+  }
+
+  private void addToPotentials(double limit) {
+    for (int row = 0; row < rows; row++) {
+      rowPotentials[row] += Math.min(rowDistances[row], limit);
+    }
+    for (int column = 0; column < columns; column++) {
+      columnPotentials[column] += Math.min(columnDistances[column], limit);
+    }
+  }
+
+  /**
+   * Ships as many units as possible along tight paths from rows with remaining supply to columns
+   * with remaining demand.
+   *
+   * @return the number of paths used
+   */
+  private int pushAlongTightPaths() {
+    Arrays.fill(rowCursors, 0);
+    Arrays.fill(columnCursors, 0);
+    compactFlowRows();
+
+    int pushed = 0;
+    for (int row = 0; row < rows; row++) {
+      while (remainingSupply[row] > 0) {
+        int length = findTightPath(row);
+        if (length == 0) {
+          break;
+        }
+        pushAlongPath(length);
+        pushed++;
+      }
+    }
+    return pushed;
+  }
+
+  /**
+   * Depth-first search over tight arcs. A node whose cursor runs out has no way left to a demand in
+   * this phase, so it is never expanded again.
+   *
+   * @return the length of the path stored in {@link #path}, or 0 if there is none
+   */
+  private int findTightPath(int start) {
+    int depth = 0;
+    path[depth++] = start;
+    onPath[start] = true;
+
+    while (depth > 0) {
+      int node = path[depth - 1];
+      if (node >= rows
+          && remainingDemand[node - rows] > 0
+          && sinkCost(node - rows) <= tolerance) {
+        for (int i = 0; i < depth; i++) {
+          onPath[path[i]] = false;
+        }
+        return depth;
+      }
+
+      int next = node < rows ? nextTightColumn(node) : nextTightRow(node - rows);
+      if (next == NONE) {
+        // Dead end: drop it and move the parent past it
+        onPath[node] = false;
+        depth--;
+        if (depth > 0) {
+          advanceCursor(path[depth - 1]);
+        }
+      } else {
+        path[depth++] = next;
+        onPath[next] = true;
+      }
+    }
+    return 0;
+  }
+
+  private int nextTightColumn(int row) {
+    for (; rowCursors[row] < columns; rowCursors[row]++) {
+      int column = rowCursors[row];
+      if (!onPath[rows + column]
+          && columnCursors[column] <= flowRowCounts[column]
+          && costs[row][column] < INFINITY
+          && reducedCost(row, column) <= tolerance) {
+        return rows + column;
+      }
+    }
+    return NONE;
+  }
+
+  private int nextTightRow(int column) {
+    for (; columnCursors[column] < flowRowCounts[column]; columnCursors[column]++) {
+      int row = flowRows[column][columnCursors[column]];
+      if (!onPath[row] && flows[row][column] > 0 && rowCursors[row] < columns) {
+        return row;
+      }
+    }
+    // Past the end: the column itself is a dead end from now on
+    columnCursors[column] = flowRowCounts[column] + 1;
+    return NONE;
+  }
+
+  private void advanceCursor(int node) {
+    if (node < rows) {
+      rowCursors[node]++;
+    } else {
+      columnCursors[node - rows]++;
+    }
+  }
+
+  /** Ships the bottleneck along {@code path[0..length)}, which alternates rows and columns. */
+  private void pushAlongPath(int length) {
+    int firstRow = path[0];
+    int lastColumn = path[length - 1] - rows;
+
+    int units = Math.min(remainingSupply[firstRow], remainingDemand[lastColumn]);
+    for (int i = 1; i + 1 < length; i += 2) {
+      units = Math.min(units, flows[path[i + 1]][path[i] - rows]); // backward arc
+    }
+
+    remainingSupply[firstRow] -= units;
+    remainingDemand[lastColumn] -= units;
+    for (int i = 0; i + 1 < length; i += 2) {
+      int row = path[i];
+      int column = path[i + 1] - rows;
+      if (flows[row][column] == 0) {
+        addFlowRow(column, row);
+      }
+      flows[row][column] += units;
+      if (i + 2 < length) {
+        flows[path[i + 2]][column] -= units;
+      }
+    }
+  }
+
+  /** Ships along the shortest path that Dijkstra found to the given column. */
+  private void pushAlongShortestPath(int column) {
+    int length = 0;
+    while (column != NONE) {
+      int row = columnParents[column];
+      path[length++] = rows + column;
+      path[length++] = row;
+      column = rowParents[row];
+    }
+    for (int i = 0, j = length - 1; i < j; i++, j--) {
+      int swap = path[i];
+      path[i] = path[j];
+      path[j] = swap;
+    }
+    pushAlongPath(length);
+  }
+
+  private void addFlowRow(int column, int row) {
+    for (int i = 0; i < flowRowCounts[column]; i++) {
+      if (flowRows[column][i] == row) {
+        return; // Listed already, its flow dropped to zero earlier in this phase
+      }
+    }
+    if (flowRowCounts[column] == flowRows[column].length) {
+      flowRows[column] = Arrays.copyOf(flowRows[column], flowRowCounts[column] * 2);
+    }
+    flowRows[column][flowRowCounts[column]++] = row;
+  }
+
+  /** Drops the rows whose flow into a column went back to zero. */
+  private void compactFlowRows() {
+    for (int column = 0; column < columns; column++) {
+      int kept = 0;
+      for (int i = 0; i < flowRowCounts[column]; i++) {
+        int row = flowRows[column][i];
+        if (flows[row][column] > 0) {
+          flowRows[column][kept++] = row;
+        }
+      }
+      flowRowCounts[column] = kept;
+    }
+  }
+}
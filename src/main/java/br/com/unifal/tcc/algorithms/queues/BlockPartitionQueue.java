@@ -0,0 +1,347 @@
+package br.com.unifal.tcc.algorithms.queues;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+
+/**
+ * Block-based partial sorting structure of the BMSSP algorithm (Duan et al., "Breaking the Sorting
+ * Barrier for Directed Single-Source Shortest Paths", Lemma 3.3).
+ *
+ * <p>Items are vertices with a {@code double} value below a fixed upper bound. Instead of keeping
+ * them sorted, the queue keeps blocks of at most {@code M} items that are only ordered between each
+ * other, so that {@link #pull()} can hand out the {@code M} smallest items at once:
+ *
+ * <ul>
+ *   <li>{@code D1} holds the {@link #insert(int, double) inserted} items in blocks sorted by an
+ *       upper bound: every item of a block is greater than the bound of the block before it. A
+ *       block that grows past {@code M} items is split around its median in O(M).
+ *   <li>{@code D0} holds the {@link #batchPrepend(int[], double[], int) batch prepended} items,
+ *       which are smaller than everything already queued, as a sequence of blocks of at most {@code
+ *       M / 2} items.
+ * </ul>
+ *
+ * <p>Items are never updated in place: inserting a vertex again adds a second item, and callers
+ * skip the stale ones they pull. Ties are kept on one side of every boundary, so pulled items are
+ * always strictly smaller than the bound returned with them.
+ */
+public class BlockPartitionQueue {
+
+  private static final Comparator<Block> BY_BOUND =
+      Comparator.comparingDouble((Block block) -> block.bound).thenComparingLong(block -> block.id);
+
+  private final int blockSize;
+  private final double upperBound;
+  private final Deque<Block> prepended = new ArrayDeque<>();
+  private final TreeSet<Block> inserted = new TreeSet<>(BY_BOUND);
+  private final Block probe = new Block(0, Double.NaN, Long.MIN_VALUE);
+  private long nextBlockId;
+  private int size;
+
+  /**
+   * @param blockSize the number of items {@link #pull()} returns at most, barring ties
+   * @param upperBound the bound every item value is below
+   */
+  public BlockPartitionQueue(int blockSize, double upperBound) {
+    if (blockSize < 1) {
+      throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+    }
+    this.blockSize = blockSize;
+    this.upperBound = upperBound;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Adds an item.
+   *
+   * @complexity O(log(N / M)) amortized, plus O(M) when its block has to be split
+   */
+  public void insert(int vertex, double value) {
+    probe.bound = value;
+    Block block = inserted.ceiling(probe);
+    if (Objects.isNull(block)) {
+      block = newBlock(upperBound);
+      inserted.add(block);
+    }
+
+    block.add(vertex, value);
+    size++;
+    if (block.size > blockSize) {
+      split(block);
+    }
+  }
+
+  /**
+   * Adds items whose values are all smaller than every queued value.
+   *
+   * @complexity O(L log(L / M)) for L items
+   */
+  public void batchPrepend(int[] vertices, double[] values, int count) {
+    if (count == 0) {
+      return;
+    }
+
+    Block batch = newBlock(Double.NaN);
+    for (int i = 0; i < count; i++) {
+      batch.add(vertices[i], values[i]);
+    }
+    List<Block> blocks = new ArrayList<>();
+    partition(batch, Math.max(1, blockSize / 2), blocks);
+    for (int i = blocks.size() - 1; i >= 0; i--) {
+      prepended.addFirst(blocks.get(i));
+    }
+    size += count;
+  }
+
+  /**
+   * Removes the {@code M} smallest items, or every item if there are fewer, together with all items
+   * tied with the largest of them.
+   *
+   * @return the removed items and the smallest value left, or the upper bound if none is
+   * @complexity O(M) amortized
+   */
+  public Pulled pull() {
+    List<Block> fromPrepended = new ArrayList<>();
+    int prependedCount = 0;
+    while (prependedCount < blockSize && !prepended.isEmpty()) {
+      Block block = prepended.pollFirst();
+      fromPrepended.add(block);
+      prependedCount += block.size;
+    }
+    List<Block> fromInserted = new ArrayList<>();
+    int insertedCount = 0;
+    while (insertedCount < blockSize && !inserted.isEmpty()) {
+      Block block = inserted.pollFirst();
+      fromInserted.add(block);
+      insertedCount += block.size;
+    }
+
+    Block candidates = newBlock(Double.NaN);
+    fromPrepended.forEach(candidates::addAll);
+    fromInserted.forEach(candidates::addAll);
+
+    if (prepended.isEmpty() && inserted.isEmpty() && candidates.size <= blockSize) {
+      size = 0;
+      return new Pulled(
+          Arrays.copyOf(candidates.vertices, candidates.size),
+          Arrays.copyOf(candidates.values, candidates.size),
+          upperBound);
+    }
+
+    // Everything not collected is larger than the collected blocks, so the threshold is exact
+    double threshold = candidates.kthSmallest(Math.min(blockSize, candidates.size) - 1);
+    Block pulled = newBlock(Double.NaN);
+    Block prependedRest = newBlock(Double.NaN);
+    Block insertedRest = newBlock(fromInserted.isEmpty() ? upperBound : last(fromInserted).bound);
+    for (Block block : fromPrepended) {
+      block.splitAround(threshold, pulled, prependedRest);
+    }
+    for (Block block : fromInserted) {
+      block.splitAround(threshold, pulled, insertedRest);
+    }
+
+    if (prependedRest.size > 0) {
+      prepended.addFirst(prependedRest);
+    }
+    if (insertedRest.size > 0) {
+      inserted.add(insertedRest);
+    }
+    size -= pulled.size;
+
+    return new Pulled(
+        Arrays.copyOf(pulled.vertices, pulled.size),
+        Arrays.copyOf(pulled.values, pulled.size),
+        Math.min(prependedRest.min(), Math.min(insertedRest.min(), peekBlockMin())));
+  }
+
+  /** Returns the smallest value of the first block of each sequence, which holds its minimum. */
+  private double peekBlockMin() {
+    double min = upperBound;
+    if (!prepended.isEmpty()) {
+      min = Math.min(min, prepended.peekFirst().min());
+    }
+    if (!inserted.isEmpty()) {
+      min = Math.min(min, inserted.first().min());
+    }
+    return min;
+  }
+
+  /** Splits an inserted block around its median, keeping the bound order of the sequence. */
+  private void split(Block block) {
+    Block lower = newBlock(Double.NaN);
+    Block upper = newBlock(block.bound);
+    if (!block.splitAtMedian(lower, upper)) {
+      return; // All values are equal, so the block cannot be split
+    }
+
+    inserted.remove(block);
+    lower.bound = lower.max();
+    inserted.add(lower);
+    inserted.add(upper);
+  }
+
+  /** Splits {@code block} into ordered blocks of at most {@code maxSize} items. */
+  private void partition(Block block, int maxSize, List<Block> out) {
+    if (block.size <= maxSize) {
+      out.add(block);
+      return;
+    }
+
+    Block lower = newBlock(Double.NaN);
+    Block upper = newBlock(Double.NaN);
+    if (!block.splitAtMedian(lower, upper)) {
+      out.add(block);
+      return;
+    }
+    partition(lower, maxSize, out);
+    partition(upper, maxSize, out);
+  }
+
+  private Block newBlock(double bound) {
+    return new Block(4, bound, nextBlockId++);
+  }
+
+  private static Block last(List<Block> blocks) {
+    return blocks.get(blocks.size() - 1);
+  }
+
+  /**
+   * Items removed by {@link #pull()}, all strictly smaller than {@code bound}.
+   *
+   * @param vertices the vertices of the items, in no particular order
+   * @param values the values of the items, aligned with {@code vertices}
+   * @param bound the smallest value still queued, or the upper bound if the queue is empty
+   */
+  public record Pulled(int[] vertices, double[] values, double bound) {}
+
+  private static final class Block {
+
+    private final long id;
+    private double bound;
+    private int[] vertices;
+    private double[] values;
+    private int size;
+
+    private Block(int capacity, double bound, long id) {
+      this.vertices = new int[capacity];
+      this.values = new double[capacity];
+      this.bound = bound;
+      this.id = id;
+    }
+
+    private void add(int vertex, double value) {
+      if (size == vertices.length) {
+        vertices = Arrays.copyOf(vertices, size * 2);
+        values = Arrays.copyOf(values, size * 2);
+      }
+      vertices[size] = vertex;
+      values[size] = value;
+      size++;
+    }
+
+    private void addAll(Block other) {
+      for (int i = 0; i < other.size; i++) {
+        add(other.vertices[i], other.values[i]);
+      }
+    }
+
+    private double min() {
+      double min = Double.POSITIVE_INFINITY;
+      for (int i = 0; i < size; i++) {
+        min = Math.min(min, values[i]);
+      }
+      return min;
+    }
+
+    private double max() {
+      double max = Double.NEGATIVE_INFINITY;
+      for (int i = 0; i < size; i++) {
+        max = Math.max(max, values[i]);
+      }
+      return max;
+    }
+
+    /** Moves the items up to {@code threshold} to {@code lower} and the others to {@code upper}. */
+    private void splitAround(double threshold, Block lower, Block upper) {
+      for (int i = 0; i < size; i++) {
+        (values[i] <= threshold ? lower : upper).add(vertices[i], values[i]);
+      }
+    }
+
+    /**
+     * Splits the items into two non-empty halves, every value of {@code lower} smaller than every
+     * value of {@code upper}; ties with the median go to whichever half keeps both non-empty.
+     *
+     * @return false, leaving both blocks empty, if all values are equal
+     */
+    private boolean splitAtMedian(Block lower, Block upper) {
+      double median = kthSmallest((size - 1) / 2);
+      splitAround(median, lower, upper);
+      if (upper.size > 0) {
+        return true;
+      }
+
+      // The median is the maximum: put its ties on the upper side instead
+      lower.size = 0;
+      for (int i = 0; i < size; i++) {
+        (values[i] < median ? lower : upper).add(vertices[i], values[i]);
+      }
+      if (lower.size > 0) {
+        return true;
+      }
+      upper.size = 0;
+      return false;
+    }
+
+    /**
+     * Returns the {@code k}-th smallest value (0-based) by quickselect on a copy of the values.
+     *
+     * @complexity O(size) expected
+     */
+    private double kthSmallest(int k) {
+      double[] copy = Arrays.copyOf(values, size);
+      int low = 0;
+      int high = size - 1;
+      while (low < high) {
+        double pivot = copy[(low + high) >>> 1];
+        int i = low;
+        int j = high;
+        while (i <= j) {
+          while (copy[i] < pivot) {
+            i++;
+          }
+          while (copy[j] > pivot) {
+            j--;
+          }
+          if (i <= j) {
+            double swap = copy[i];
+            copy[i] = copy[j];
+            copy[j] = swap;
+            i++;
+            j--;
+          }
+        }
+        if (k <= j) {
+          high = j;
+        } else if (k >= i) {
+          low = i;
+        } else {
+          return copy[k];
+        }
+      }
+      return copy[k];
+    }
+  }
+}
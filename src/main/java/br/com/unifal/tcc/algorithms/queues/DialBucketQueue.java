@@ -0,0 +1,65 @@
+package br.com.unifal.tcc.algorithms.queues;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Dial's bucket queue for monotone integer keys with a small maximum edge weight {@code C}.
+ *
+ * <p>Pending keys always fall inside {@code [lastKey, lastKey + C]}, so {@code C + 1} buckets used
+ * as a circular array hold them all, one bucket per distinct key. Push is O(1) and polling scans
+ * forward over empty buckets, for O(E + D) total work where D is the largest distance found.
+ */
+public class DialBucketQueue implements MonotoneIntegerQueue {
+
+  private final int[][] buckets;
+  private final int[] bucketSizes;
+  private long currentKey;
+  private int size;
+
+  public DialBucketQueue(long maxWeight) {
+    int bucketCount = Math.toIntExact(maxWeight + 1);
+    this.buckets = new int[bucketCount][];
+    this.bucketSizes = new int[bucketCount];
+  }
+
+  @Override
+  public void push(int item, long key) {
+    int bucket = (int) (key % buckets.length);
+    int bucketSize = bucketSizes[bucket];
+    if (buckets[bucket] == null) {
+      buckets[bucket] = new int[4];
+    } else if (bucketSize == buckets[bucket].length) {
+      buckets[bucket] = Arrays.copyOf(buckets[bucket], bucketSize * 2);
+    }
+    buckets[bucket][bucketSize] = item;
+    bucketSizes[bucket] = bucketSize + 1;
+    size++;
+  }
+
+  @Override
+  public int pollMin() {
+    if (size == 0) {
+      throw new NoSuchElementException("Queue is empty!");
+    }
+
+    int bucket = (int) (currentKey % buckets.length);
+    while (bucketSizes[bucket] == 0) {
+      currentKey++;
+      bucket = bucket + 1 == buckets.length ? 0 : bucket + 1;
+    }
+
+    size--;
+    return buckets[bucket][--bucketSizes[bucket]];
+  }
+
+  @Override
+  public long lastKey() {
+    return currentKey;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+}
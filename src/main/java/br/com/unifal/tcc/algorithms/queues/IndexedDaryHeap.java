@@ -0,0 +1,179 @@
+package br.com.unifal.tcc.algorithms.queues;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Indexed d-ary min-heap over the integers {@code [0, capacity)} with {@code double} keys.
+ *
+ * <p>Items and keys live side by side in primitive arrays and a position index maps every item to
+ * its slot, so the heap supports a real decrease-key instead of lazy deletion: each item is stored
+ * at most once and no object is allocated per operation. A wider node (arity 4 by default) makes the
+ * tree shallower and keeps the children compared in one sift-down step on the same cache lines.
+ *
+ * <p>Instances are not thread-safe.
+ */
+public class IndexedDaryHeap {
+
+  public static final int DEFAULT_ARITY = 4;
+
+  private static final int ABSENT = -1;
+
+  private final int arity;
+  private final int[] items;
+  private final double[] keys;
+  private final int[] positions;
+  private int size;
+
+  public IndexedDaryHeap(int capacity) {
+    this(capacity, DEFAULT_ARITY);
+  }
+
+  public IndexedDaryHeap(int capacity, int arity) {
+    if (arity < 2) {
+      throw new IllegalArgumentException("Heap arity must be at least 2!");
+    }
+    this.arity = arity;
+    this.items = new int[capacity];
+    this.keys = new double[capacity];
+    this.positions = new int[capacity];
+    Arrays.fill(positions, ABSENT);
+  }
+
+  public int capacity() {
+    return positions.length;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public boolean contains(int item) {
+    return positions[item] != ABSENT;
+  }
+
+  /**
+   * Inserts an item, or lowers its key if it is already in the heap with a larger one.
+   *
+   * @param item the item to insert
+   * @param key the new key of {@code item}
+   * @complexity O(log_d n)
+   */
+  public void insertOrDecrease(int item, double key) {
+    int position = positions[item];
+    if (position == ABSENT) {
+      position = size++;
+      items[position] = item;
+      keys[position] = key;
+      positions[item] = position;
+    } else if (key < keys[position]) {
+      keys[position] = key;
+    } else {
+      return;
+    }
+    siftUp(position);
+  }
+
+  public double peekMinKey() {
+    if (size == 0) {
+      throw new NoSuchElementException("Heap is empty!");
+    }
+    return keys[0];
+  }
+
+  public int peekMin() {
+    if (size == 0) {
+      throw new NoSuchElementException("Heap is empty!");
+    }
+    return items[0];
+  }
+
+  /**
+   * Removes and returns the item with the smallest key.
+   *
+   * @complexity O(d log_d n)
+   */
+  public int pollMin() {
+    int min = peekMin();
+    positions[min] = ABSENT;
+
+    size--;
+    if (size > 0) {
+      items[0] = items[size];
+      keys[0] = keys[size];
+      positions[items[0]] = 0;
+      siftDown(0);
+    }
+    return min;
+  }
+
+  /**
+   * Removes every remaining item.
+   *
+   * @complexity O(n), where n is the current size
+   */
+  public void clear() {
+    for (int i = 0; i < size; i++) {
+      positions[items[i]] = ABSENT;
+    }
+    size = 0;
+  }
+
+  private void siftUp(int position) {
+    int item = items[position];
+    double key = keys[position];
+
+    while (position > 0) {
+      int parent = (position - 1) / arity;
+      if (keys[parent] <= key) {
+        break;
+      }
+      move(parent, position);
+      position = parent;
+    }
+    place(item, key, position);
+  }
+
+  private void siftDown(int position) {
+    int item = items[position];
+    double key = keys[position];
+
+    while (true) {
+      int firstChild = position * arity + 1;
+      if (firstChild >= size) {
+        break;
+      }
+
+      int lastChild = Math.min(firstChild + arity, size);
+      int minChild = firstChild;
+      for (int child = firstChild + 1; child < lastChild; child++) {
+        if (keys[child] < keys[minChild]) {
+          minChild = child;
+        }
+      }
+
+      if (key <= keys[minChild]) {
+        break;
+      }
+      move(minChild, position);
+      position = minChild;
+    }
+    place(item, key, position);
+  }
+
+  private void move(int from, int to) {
+    items[to] = items[from];
+    keys[to] = keys[from];
+    positions[items[to]] = to;
+  }
+
+  private void place(int item, double key, int position) {
+    items[position] = item;
+    keys[position] = key;
+    positions[item] = position;
+  }
+}
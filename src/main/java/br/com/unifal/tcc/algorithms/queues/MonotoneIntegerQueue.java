@@ -0,0 +1,32 @@
+package br.com.unifal.tcc.algorithms.queues;
+
+/**
+ * Priority queue of integer items with non-negative {@code long} keys, restricted to monotone use:
+ * a pushed key is never smaller than the last key removed. Dijkstra's algorithm on non-negative
+ * integer weights satisfies this, which lets bucket-based queues avoid comparisons altogether.
+ *
+ * <p>An item may be pushed more than once; callers skip the extra copies when they are polled.
+ */
+public interface MonotoneIntegerQueue {
+
+  /**
+   * Adds an item with the given key.
+   *
+   * @param item the item to add
+   * @param key the key of {@code item}, at least the key of the last polled item
+   */
+  void push(int item, long key);
+
+  /**
+   * Removes an item with the smallest key.
+   *
+   * @return the removed item
+   * @throws java.util.NoSuchElementException if the queue is empty
+   */
+  int pollMin();
+
+  /** Returns the key of the last item removed by {@link #pollMin()}. */
+  long lastKey();
+
+  boolean isEmpty();
+}
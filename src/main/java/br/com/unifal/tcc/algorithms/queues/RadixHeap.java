@@ -0,0 +1,96 @@
+package br.com.unifal.tcc.algorithms.queues;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Monotone radix heap for non-negative {@code long} keys.
+ *
+ * <p>An entry lives in the bucket given by the highest bit in which its key differs from the last
+ * polled key, so bucket {@code 0} holds the keys equal to it and bucket {@code i} the keys sharing
+ * its {@code 64 - i} top bits. When bucket {@code 0} runs empty, the first non-empty bucket is
+ * redistributed around its minimum and every entry drops to a strictly lower bucket. Each entry
+ * moves at most 64 times, so the heap costs O(E + V log C) for Dijkstra with maximum weight C, and
+ * no comparison-based sift is ever done.
+ */
+public class RadixHeap implements MonotoneIntegerQueue {
+
+  private static final int BUCKET_COUNT = Long.SIZE + 1;
+
+  private final int[][] items = new int[BUCKET_COUNT][];
+  private final long[][] keys = new long[BUCKET_COUNT][];
+  private final int[] bucketSizes = new int[BUCKET_COUNT];
+  private long last;
+  private int size;
+
+  @Override
+  public void push(int item, long key) {
+    append(bucketOf(key), item, key);
+    size++;
+  }
+
+  @Override
+  public int pollMin() {
+    if (size == 0) {
+      throw new NoSuchElementException("Heap is empty!");
+    }
+
+    if (bucketSizes[0] == 0) {
+      redistribute();
+    }
+
+    size--;
+    return items[0][--bucketSizes[0]];
+  }
+
+  @Override
+  public long lastKey() {
+    return last;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /** Moves the entries of the first non-empty bucket down around their minimum key. */
+  private void redistribute() {
+    int bucket = 1;
+    while (bucketSizes[bucket] == 0) {
+      bucket++;
+    }
+
+    int[] bucketItems = items[bucket];
+    long[] bucketKeys = keys[bucket];
+    int bucketSize = bucketSizes[bucket];
+
+    long min = bucketKeys[0];
+    for (int i = 1; i < bucketSize; i++) {
+      min = Math.min(min, bucketKeys[i]);
+    }
+
+    last = min;
+    bucketSizes[bucket] = 0;
+    for (int i = 0; i < bucketSize; i++) {
+      append(bucketOf(bucketKeys[i]), bucketItems[i], bucketKeys[i]);
+    }
+  }
+
+  private int bucketOf(long key) {
+    return key == last ? 0 : Long.SIZE - Long.numberOfLeadingZeros(key ^ last);
+  }
+
+  private void append(int bucket, int item, long key) {
+    int bucketSize = bucketSizes[bucket];
+    if (items[bucket] == null) {
+      items[bucket] = new int[4];
+      keys[bucket] = new long[4];
+    } else if (bucketSize == items[bucket].length) {
+      items[bucket] = Arrays.copyOf(items[bucket], bucketSize * 2);
+      keys[bucket] = Arrays.copyOf(keys[bucket], bucketSize * 2);
+    }
+    items[bucket][bucketSize] = item;
+    keys[bucket][bucketSize] = key;
+    bucketSizes[bucket] = bucketSize + 1;
+  }
+}
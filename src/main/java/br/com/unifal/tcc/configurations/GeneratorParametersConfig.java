@@ -0,0 +1,31 @@
+package br.com.unifal.tcc.configurations;
+
+import br.com.unifal.tcc.generators.GraphTopology;
+import br.com.unifal.tcc.generators.dto.GraphSpec;
+import lombok.Getter;
+
+@Getter
+public class GeneratorParametersConfig {
+
+  private final String outputFile;
+  private final GraphSpec graphSpec;
+
+  public GeneratorParametersConfig(String[] args) {
+    if (args.length < 4) {
+      throw new IllegalArgumentException(
+          "Usage: java GraphGeneratorMain <outputFile> <topology> <vertexCount> <averageDegree>"
+              + " [unbalancedVertices] [seed] [maxImbalance]");
+    }
+
+    this.outputFile = args[0];
+    this.graphSpec =
+        new GraphSpec(
+            GraphTopology.valueOf(args[1].toUpperCase()),
+            Integer.parseInt(args[2]),
+            Integer.parseInt(args[3]),
+            args.length > 4 ? Integer.parseInt(args[4]) : GraphSpec.NATURAL_IMBALANCE,
+            args.length > 6 ? Integer.parseInt(args[6]) : GraphSpec.DEFAULT_MAX_IMBALANCE,
+            GraphSpec.DEFAULT_MAX_WEIGHT,
+            args.length > 5 ? Long.parseLong(args[5]) : GraphSpec.DEFAULT_SEED);
+  }
+}
@@ -1,5 +1,6 @@
 package br.com.unifal.tcc.configurations;
 
+import br.com.unifal.tcc.services.MatchingStrategy;
 import br.com.unifal.tcc.solvers.factories.PathAlgorithmFactory;
 import lombok.Getter;
 
@@ -8,13 +9,19 @@ public class ParametersConfig {
 
   private final String graphFile;
   private final PathAlgorithmFactory algorithmType;
+  private final MatchingStrategy matchingStrategy;
 
   public ParametersConfig(String[] args) {
     if (args.length < 2) {
-      throw new IllegalArgumentException("Usage: java Main <graphFile> <algorithmType>");
+      throw new IllegalArgumentException(
+          "Usage: java Main <graphFile> <algorithmType> [matchingStrategy]");
     }
 
     this.graphFile = args[0];
     this.algorithmType = PathAlgorithmFactory.valueOf(args[1].toUpperCase());
+    this.matchingStrategy =
+        args.length > 2
+            ? MatchingStrategy.valueOf(args[2].toUpperCase())
+            : MatchingStrategy.GREEDY;
   }
 }
@@ -0,0 +1,220 @@
+package br.com.unifal.tcc.generators;
+
+import br.com.unifal.tcc.generators.dto.GraphSpec;
+import br.com.unifal.tcc.model.graph.CsrGraph;
+import br.com.unifal.tcc.model.graph.CsrGraphFile;
+import br.com.unifal.tcc.model.graph.Graph;
+import br.com.unifal.tcc.model.graph.RealEdge;
+import br.com.unifal.tcc.model.graph.Vertex;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Generates reproducible synthetic graphs for scaling experiments.
+ *
+ * <p>Edges are streamed to a {@link WeightedEdgeSink} as they are generated, so a graph can be
+ * written to disk without ever being held in memory, which keeps 10⁷-edge files cheap to produce.
+ * {@link #toGraph(GraphSpec)}, {@link #writeJson(GraphSpec, Path)} and {@link #writeCsr(GraphSpec,
+ * Path)} are the usual sinks; both files are formats read by {@code InputService}.
+ *
+ * <p>When the spec asks for an exact number of unbalanced vertices, the generator first balances
+ * the topology by adding edges from every vertex with surplus in-degree to vertices with surplus
+ * out-degree, then links pairs of randomly chosen vertices (a triple when the count is odd), which
+ * unbalances exactly those vertices. Each link is a bundle of parallel edges, one per unit of
+ * imbalance, whose size is drawn from {@code [1, maxImbalance]}.
+ */
+public final class GraphGenerator {
+
+  private GraphGenerator() {}
+
+  /** Receives the generated edges as dense vertex ids in {@code [0, vertexCount)}. */
+  @FunctionalInterface
+  public interface WeightedEdgeSink {
+    void accept(int source, int target, int weight);
+  }
+
+  /**
+   * Generates the graph described by {@code spec}.
+   *
+   * @param spec the graph parameters
+   * @param sink receives every edge, in a deterministic order
+   * @complexity O(V + E) time and O(V) memory (O(E) for {@link GraphTopology#SCALE_FREE})
+   */
+  public static void generate(GraphSpec spec, WeightedEdgeSink sink) {
+    Random random = new Random(spec.seed());
+    int maxWeight = spec.maxWeight();
+
+    if (spec.unbalancedVertices() == GraphSpec.NATURAL_IMBALANCE) {
+      spec.topology()
+          .generate(
+              spec.vertexCount(),
+              spec.averageDegree(),
+              random,
+              (source, target) -> sink.accept(source, target, 1 + random.nextInt(maxWeight)));
+      return;
+    }
+
+    // In-degree minus out-degree, as in Vertex#getDegree
+    int[] degrees = new int[spec.vertexCount()];
+    spec.topology()
+        .generate(
+            spec.vertexCount(),
+            spec.averageDegree(),
+            random,
+            (source, target) -> {
+              degrees[source]--;
+              degrees[target]++;
+              sink.accept(source, target, 1 + random.nextInt(maxWeight));
+            });
+
+    balance(degrees, random, maxWeight, sink);
+    unbalance(spec, random, sink);
+  }
+
+  /** Pairs every unit of surplus in-degree with a unit of surplus out-degree. */
+  private static void balance(int[] degrees, Random random, int maxWeight, WeightedEdgeSink sink) {
+    int negative = 0;
+    for (int positive = 0; positive < degrees.length; positive++) {
+      while (degrees[positive] > 0) {
+        while (degrees[negative] >= 0) {
+          negative++;
+        }
+        sink.accept(positive, negative, 1 + random.nextInt(maxWeight));
+        degrees[positive]--;
+        degrees[negative]++;
+      }
+    }
+  }
+
+  private static void unbalance(GraphSpec spec, Random random, WeightedEdgeSink sink) {
+    int count = spec.unbalancedVertices();
+    int vertexCount = spec.vertexCount();
+    // Partial Fisher-Yates shuffle: the first `count` entries are distinct random vertices
+    int[] vertices = new int[vertexCount];
+    for (int i = 0; i < vertexCount; i++) {
+      vertices[i] = i;
+    }
+    for (int i = 0; i < count; i++) {
+      int j = i + random.nextInt(vertexCount - i);
+      int swap = vertices[i];
+      vertices[i] = vertices[j];
+      vertices[j] = swap;
+    }
+
+    int pairs = count % 2 == 0 ? count / 2 : (count - 3) / 2;
+    for (int i = 0; i < pairs; i++) {
+      link(vertices[2 * i], vertices[2 * i + 1], spec, random, sink);
+    }
+    if (count % 2 != 0) {
+      int last = count - 1;
+      link(vertices[last - 2], vertices[last], spec, random, sink);
+      link(vertices[last - 1], vertices[last], spec, random, sink);
+    }
+  }
+
+  /**
+   * Adds between 1 and {@code maxImbalance} parallel edges, each with its own weight. Single-unit
+   * specs draw no count, so they keep generating the same graphs as before multi-unit imbalances.
+   */
+  private static void link(
+      int source, int target, GraphSpec spec, Random random, WeightedEdgeSink sink) {
+    int units = spec.maxImbalance() == 1 ? 1 : 1 + random.nextInt(spec.maxImbalance());
+    for (int unit = 0; unit < units; unit++) {
+      sink.accept(source, target, 1 + random.nextInt(spec.maxWeight()));
+    }
+  }
+
+  /** Returns the id of the {@code vertex}-th generated vertex. */
+  public static String vertexId(int vertex) {
+    return Integer.toString(vertex);
+  }
+
+  /**
+   * Generates the graph described by {@code spec} in memory.
+   *
+   * @complexity O(V + E)
+   */
+  public static Graph toGraph(GraphSpec spec) {
+    Vertex[] vertices = new Vertex[spec.vertexCount()];
+    for (int i = 0; i < vertices.length; i++) {
+      vertices[i] = new Vertex(vertexId(i));
+    }
+
+    Graph graph = new Graph();
+    generate(
+        spec,
+        (source, target, weight) ->
+            graph.addEdge(new RealEdge(vertices[source], vertices[target], weight)));
+    return graph;
+  }
+
+  /**
+   * Streams the graph described by {@code spec} to a JSON file readable by {@code InputService}.
+   *
+   * @param spec the graph parameters
+   * @param file the output file, overwritten if it exists
+   * @throws IOException if the file cannot be written
+   * @complexity O(V + E) time, O(V) memory
+   */
+  public static void writeJson(GraphSpec spec, Path file) throws IOException {
+    try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+      writer.write("{\"directed\": true, \"multigraph\": true, \"graph\": {}, \"nodes\": [");
+      for (int vertex = 0; vertex < spec.vertexCount(); vertex++) {
+        writer.write(vertex == 0 ? "\n" : ",\n");
+        writer.write("{\"id\": \"" + vertexId(vertex) + "\"}");
+      }
+
+      writer.write("\n], \"links\": [");
+      boolean[] first = {true};
+      try {
+        generate(
+            spec,
+            (source, target, weight) -> {
+              try {
+                writer.write(first[0] ? "\n" : ",\n");
+                writer.write("{\"weight\": ");
+                writer.write(Integer.toString(weight));
+                writer.write(", \"source\": \"");
+                writer.write(vertexId(source));
+                writer.write("\", \"target\": \"");
+                writer.write(vertexId(target));
+                writer.write("\"}");
+                first[0] = false;
+              } catch (IOException e) {
+                throw new UncheckedIOException(e);
+              }
+            });
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+      writer.write("\n]}\n");
+    }
+  }
+
+  /**
+   * Writes the graph described by {@code spec} to a binary {@link CsrGraphFile}.
+   *
+   * <p>Unlike {@link #writeJson(GraphSpec, Path)}, the graph is assembled in primitive arrays
+   * before it is written, since the file stores edges grouped by source.
+   *
+   * @param spec the graph parameters
+   * @param file the output file, overwritten if it exists
+   * @throws IOException if the file cannot be written
+   * @complexity O(V log V + E) time, O(V + E) memory
+   */
+  public static void writeCsr(GraphSpec spec, Path file) throws IOException {
+    String[] ids = new String[spec.vertexCount()];
+    for (int i = 0; i < ids.length; i++) {
+      ids[i] = vertexId(i);
+    }
+
+    CsrGraph.Builder builder = CsrGraph.builder();
+    generate(spec, (source, target, weight) -> builder.addEdge(ids[source], ids[target], weight));
+    CsrGraphFile.write(builder.build(), file);
+  }
+}
@@ -0,0 +1,109 @@
+package br.com.unifal.tcc.generators;
+
+import java.util.Random;
+
+/**
+ * Shapes of synthetic graphs. Every topology is strongly connected, so any Chinese Postman
+ * instance built from it is solvable.
+ */
+public enum GraphTopology {
+  /**
+   * Hamiltonian cycle over a random permutation plus uniformly random edges, for an average
+   * out-degree of {@code averageDegree}.
+   */
+  RANDOM_SPARSE {
+    @Override
+    void generate(int vertexCount, int averageDegree, Random random, EdgeSink sink) {
+      int[] order = randomPermutation(vertexCount, random);
+      for (int i = 0; i < vertexCount; i++) {
+        sink.accept(order[i], order[(i + 1) % vertexCount]);
+      }
+
+      long extraEdges = (long) vertexCount * (averageDegree - 1);
+      for (long i = 0; i < extraEdges; i++) {
+        int source = random.nextInt(vertexCount);
+        int target = random.nextInt(vertexCount - 1);
+        sink.accept(source, target < source ? target : target + 1); // No self loops
+      }
+    }
+  },
+
+  /**
+   * Road-like grid as close to square as possible, with two-way streets between 4-neighbours, so
+   * every vertex is balanced and the out-degree is at most 4. {@code averageDegree} is ignored.
+   */
+  GRID {
+    @Override
+    void generate(int vertexCount, int averageDegree, Random random, EdgeSink sink) {
+      int width = Math.max(1, (int) Math.round(Math.sqrt(vertexCount)));
+      for (int vertex = 0; vertex < vertexCount; vertex++) {
+        int right = vertex + 1;
+        if (right % width != 0 && right < vertexCount) {
+          sink.accept(vertex, right);
+          sink.accept(right, vertex);
+        }
+        int below = vertex + width;
+        if (below < vertexCount) {
+          sink.accept(vertex, below);
+          sink.accept(below, vertex);
+        }
+      }
+    }
+  },
+
+  /**
+   * Directed preferential attachment: each vertex links to {@code averageDegree - 1} earlier
+   * vertices chosen with probability proportional to their degree, which yields a power-law
+   * in-degree distribution with a few large hubs. A Hamiltonian cycle keeps it strongly connected.
+   */
+  SCALE_FREE {
+    @Override
+    void generate(int vertexCount, int averageDegree, Random random, EdgeSink sink) {
+      for (int i = 0; i < vertexCount; i++) {
+        sink.accept(i, (i + 1) % vertexCount);
+      }
+
+      int links = averageDegree - 1;
+      if (links == 0) {
+        return;
+      }
+
+      // Every edge endpoint once, so a uniform pick is a degree-proportional pick
+      int[] endpoints = new int[Math.toIntExact(2L * vertexCount * links + 1)];
+      int endpointCount = 0;
+      endpoints[endpointCount++] = 0;
+
+      for (int source = 1; source < vertexCount; source++) {
+        int earlierEndpoints = endpointCount;
+        for (int link = 0; link < links; link++) {
+          int target = endpoints[random.nextInt(earlierEndpoints)];
+          sink.accept(source, target);
+          endpoints[endpointCount++] = source;
+          endpoints[endpointCount++] = target;
+        }
+      }
+    }
+  };
+
+  /** Receives the generated edges as dense vertex ids. */
+  @FunctionalInterface
+  interface EdgeSink {
+    void accept(int source, int target);
+  }
+
+  abstract void generate(int vertexCount, int averageDegree, Random random, EdgeSink sink);
+
+  private static int[] randomPermutation(int size, Random random) {
+    int[] permutation = new int[size];
+    for (int i = 0; i < size; i++) {
+      permutation[i] = i;
+    }
+    for (int i = size - 1; i > 0; i--) {
+      int j = random.nextInt(i + 1);
+      int swap = permutation[i];
+      permutation[i] = permutation[j];
+      permutation[j] = swap;
+    }
+    return permutation;
+  }
+}
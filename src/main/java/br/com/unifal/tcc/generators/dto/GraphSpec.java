@@ -0,0 +1,86 @@
+package br.com.unifal.tcc.generators.dto;
+
+import br.com.unifal.tcc.generators.GraphTopology;
+
+/**
+ * Parameters of a synthetic graph.
+ *
+ * @param topology the shape of the graph
+ * @param vertexCount the number of vertices
+ * @param averageDegree the average out-degree; see {@link GraphTopology} for how each topology
+ *     uses it
+ * @param unbalancedVertices the exact number of vertices whose in-degree differs from their
+ *     out-degree, or {@link #NATURAL_IMBALANCE} to keep whatever the topology produces
+ * @param maxImbalance with an exact number of unbalanced vertices, each pair of them is off by a
+ *     number of units drawn uniformly from {@code [1, maxImbalance]}; 1 makes every imbalance a
+ *     single unit
+ * @param maxWeight edge weights are integers drawn uniformly from {@code [1, maxWeight]}
+ * @param seed the random seed; the same spec always produces the same graph
+ */
+public record GraphSpec(
+    GraphTopology topology,
+    int vertexCount,
+    int averageDegree,
+    int unbalancedVertices,
+    int maxImbalance,
+    int maxWeight,
+    long seed) {
+
+  public static final int NATURAL_IMBALANCE = -1;
+  public static final int DEFAULT_MAX_IMBALANCE = 1;
+  public static final int DEFAULT_MAX_WEIGHT = 100;
+  public static final long DEFAULT_SEED = 42L;
+
+  public GraphSpec {
+    if (vertexCount < 2) {
+      throw new IllegalArgumentException("A synthetic graph needs at least 2 vertices!");
+    }
+    if (averageDegree < 1) {
+      throw new IllegalArgumentException("Average degree must be at least 1!");
+    }
+    if (unbalancedVertices == 1
+        || unbalancedVertices > vertexCount
+        || unbalancedVertices < NATURAL_IMBALANCE) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Cannot have exactly %d unbalanced vertices in a graph with %d vertices!",
+              unbalancedVertices, vertexCount));
+    }
+    if (maxImbalance < 1) {
+      throw new IllegalArgumentException("Max imbalance must be at least 1!");
+    }
+    if (maxWeight < 1) {
+      throw new IllegalArgumentException("Max weight must be at least 1!");
+    }
+  }
+
+  /** Spec with the natural imbalance of the topology, default weights and default seed. */
+  public static GraphSpec of(GraphTopology topology, int vertexCount, int averageDegree) {
+    return new GraphSpec(
+        topology,
+        vertexCount,
+        averageDegree,
+        NATURAL_IMBALANCE,
+        DEFAULT_MAX_IMBALANCE,
+        DEFAULT_MAX_WEIGHT,
+        DEFAULT_SEED);
+  }
+
+  /** Returns a copy of this spec with exactly {@code unbalancedVertices} unbalanced vertices. */
+  public GraphSpec withUnbalancedVertices(int unbalancedVertices) {
+    return new GraphSpec(
+        topology, vertexCount, averageDegree, unbalancedVertices, maxImbalance, maxWeight, seed);
+  }
+
+  /** Returns a copy of this spec whose unbalanced pairs are off by up to {@code maxImbalance}. */
+  public GraphSpec withMaxImbalance(int maxImbalance) {
+    return new GraphSpec(
+        topology, vertexCount, averageDegree, unbalancedVertices, maxImbalance, maxWeight, seed);
+  }
+
+  /** Returns a copy of this spec with another seed. */
+  public GraphSpec withSeed(long seed) {
+    return new GraphSpec(
+        topology, vertexCount, averageDegree, unbalancedVertices, maxImbalance, maxWeight, seed);
+  }
+}
@@ -1,12 +1,23 @@
 package br.com.unifal.tcc.model.dto;
 
 import br.com.unifal.tcc.algorithms.interfaces.ShortestPathAlgorithm;
+import br.com.unifal.tcc.model.graph.Edge;
 import br.com.unifal.tcc.model.graph.Vertex;
 import java.util.List;
 import java.util.Objects;
 
+/**
+ * Solution of the Chinese Postman Problem.
+ *
+ * @param pathAlgorithm the shortest path engine used to balance the graph
+ * @param path the vertices of the circuit, with the origin at both ends
+ * @param edges the edges of the circuit in traversal order, so {@code edges.get(i)} goes from
+ *     {@code path.get(i)} to {@code path.get(i + 1)}; balancing edges show up as {@code
+ *     VirtualEdge}s
+ * @param totalCost the sum of the weights of {@code edges}
+ */
 public record CPPSolution(
-    ShortestPathAlgorithm pathAlgorithm, List<Vertex> path, double totalCost) {
+    ShortestPathAlgorithm pathAlgorithm, List<Vertex> path, List<Edge> edges, double totalCost) {
 
   @Override
   public boolean equals(Object o) {
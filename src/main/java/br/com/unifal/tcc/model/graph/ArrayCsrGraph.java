@@ -0,0 +1,142 @@
+package br.com.unifal.tcc.model.graph;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/** {@link CsrGraph} backed by heap arrays, built from a {@link Graph} or a {@link Builder}. */
+final class ArrayCsrGraph implements CsrGraph {
+
+  /** Largest weight for which any path length of the graph is still an exact {@code long}. */
+  private static final double MAX_EXACT_INTEGER_WEIGHT = 1L << 31;
+
+  private final Vertex[] vertices;
+  private final Map<String, Integer> indexById;
+  private final int[] offsets;
+  private final int[] targets;
+  private final double[] weights;
+  private final double maxWeight;
+  private final boolean integerWeights;
+  private volatile CsrGraph reverse;
+
+  ArrayCsrGraph(
+      Vertex[] vertices,
+      Map<String, Integer> indexById,
+      int[] offsets,
+      int[] targets,
+      double[] weights) {
+    this.vertices = vertices;
+    this.indexById = indexById;
+    this.offsets = offsets;
+    this.targets = targets;
+    this.weights = weights;
+
+    double max = 0.0;
+    boolean integral = true;
+    for (double weight : weights) {
+      max = Math.max(max, weight);
+      integral &= weight >= 0.0 && weight == Math.rint(weight);
+    }
+    this.maxWeight = max;
+    this.integerWeights = integral && max <= MAX_EXACT_INTEGER_WEIGHT;
+  }
+
+  /** See {@link CsrGraph#from(Graph)}. */
+  static ArrayCsrGraph from(Graph graph) {
+    int vertexCount = graph.getVertices().size();
+    Vertex[] vertices = new Vertex[vertexCount];
+    Map<String, Integer> indexById = new HashMap<>(vertexCount * 2);
+
+    int index = 0;
+    for (Vertex vertex : graph.getVertices().values()) {
+      vertices[index] = vertex;
+      indexById.put(vertex.getId(), index);
+      index++;
+    }
+
+    int[] offsets = new int[vertexCount + 1];
+    int[] targets = new int[graph.getEdges().size()];
+    double[] weights = new double[graph.getEdges().size()];
+
+    int edgeIndex = 0;
+    for (int v = 0; v < vertexCount; v++) {
+      offsets[v] = edgeIndex;
+      List<Edge> outgoingEdges = graph.getOutgoingEdges(vertices[v]);
+      for (Edge edge : outgoingEdges) {
+        targets[edgeIndex] = indexById.get(edge.getTarget().getId());
+        weights[edgeIndex] = edge.getWeight();
+        edgeIndex++;
+      }
+    }
+    offsets[vertexCount] = edgeIndex;
+
+    return new ArrayCsrGraph(vertices, indexById, offsets, targets, weights);
+  }
+
+  @Override
+  public int getVertexCount() {
+    return vertices.length;
+  }
+
+  @Override
+  public int getEdgeCount() {
+    return targets.length;
+  }
+
+  @Override
+  public double getMaxWeight() {
+    return maxWeight;
+  }
+
+  @Override
+  public boolean hasIntegerWeights() {
+    return integerWeights;
+  }
+
+  /** @complexity O(1) amortized using HashMap lookup */
+  @Override
+  public int indexOf(Vertex vertex) {
+    Integer index = indexById.get(vertex.getId());
+    if (Objects.isNull(index)) {
+      throw new IllegalArgumentException(
+          String.format("Vertex with id: %s is not part of the graph!", vertex.getId()));
+    }
+    return index;
+  }
+
+  @Override
+  public Vertex getVertex(int index) {
+    return vertices[index];
+  }
+
+  @Override
+  public int edgeStart(int vertex) {
+    return offsets[vertex];
+  }
+
+  @Override
+  public int edgeEnd(int vertex) {
+    return offsets[vertex + 1];
+  }
+
+  @Override
+  public int target(int edge) {
+    return targets[edge];
+  }
+
+  @Override
+  public double weight(int edge) {
+    return weights[edge];
+  }
+
+  @Override
+  public CsrGraph reverse() {
+    CsrGraph snapshot = reverse;
+    if (Objects.isNull(snapshot)) {
+      snapshot = ReversedCsrGraph.of(this);
+      reverse = snapshot;
+    }
+    return snapshot;
+  }
+}
@@ -0,0 +1,175 @@
+package br.com.unifal.tcc.model.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable compressed sparse row (CSR) view of a directed multigraph.
+ *
+ * <p>Vertices are interned to dense {@code int} ids in {@code [0, getVertexCount())} and the
+ * outgoing edges of vertex {@code v} occupy the index range {@code [edgeStart(v), edgeEnd(v))} of
+ * the {@link #target(int)}/{@link #weight(int)} arrays. Parallel edges are kept as they are, so a
+ * snapshot describes exactly the same multigraph as its source.
+ *
+ * <p>Shortest path engines iterate these arrays directly, which avoids hashing {@link Vertex}
+ * objects and boxing weights on every relaxation. The arrays live on the heap for snapshots of a
+ * {@link Graph} ({@link #from(Graph)}) or graphs assembled by a {@link Builder}, and in a
+ * memory-mapped file for graphs opened through {@link CsrGraphFile#map(java.nio.file.Path)}.
+ */
+public interface CsrGraph {
+
+  /**
+   * Builds a CSR snapshot of the given graph.
+   *
+   * <p>Prefer {@link Graph#toCsrGraph()}, which caches the snapshot until the graph changes.
+   *
+   * @param graph the graph to freeze
+   * @return a new CSR snapshot of {@code graph}
+   * @complexity O(V + E)
+   */
+  static CsrGraph from(Graph graph) {
+    return ArrayCsrGraph.from(graph);
+  }
+
+  /** Returns a builder that assembles a CSR graph edge by edge, without a {@link Graph}. */
+  static Builder builder() {
+    return new Builder();
+  }
+
+  int getVertexCount();
+
+  int getEdgeCount();
+
+  /** Returns the largest edge weight of the graph, or 0 if it has no edges. */
+  double getMaxWeight();
+
+  /**
+   * Tells whether every edge weight is a non-negative integer, small enough for integer-keyed
+   * priority queues to hold exact path lengths.
+   */
+  boolean hasIntegerWeights();
+
+  /**
+   * Returns the dense id of the given vertex.
+   *
+   * @param vertex the vertex to look up
+   * @return the id of {@code vertex} in this graph
+   * @throws IllegalArgumentException if the vertex is not part of the graph
+   */
+  int indexOf(Vertex vertex);
+
+  Vertex getVertex(int index);
+
+  /** Returns the index of the first outgoing edge of {@code vertex}. */
+  int edgeStart(int vertex);
+
+  /** Returns the index one past the last outgoing edge of {@code vertex}. */
+  int edgeEnd(int vertex);
+
+  int target(int edge);
+
+  double weight(int edge);
+
+  /**
+   * Returns the transpose of this graph: the same vertices, with the same ids, and every edge
+   * {@code u → v} turned into {@code v → u} with the same weight. The edges of vertex {@code v} in
+   * the transpose are therefore its incoming edges here, which backward searches walk.
+   *
+   * <p>The transpose is built on the first call and cached; reversing it again returns this graph.
+   *
+   * @complexity O(V + E) on the first call, O(1) afterwards
+   */
+  CsrGraph reverse();
+
+  /**
+   * Assembles a {@link CsrGraph} from a stream of edges, interning vertex ids as they appear.
+   *
+   * <p>Edges are buffered in primitive arrays and grouped by source in one counting sort pass when
+   * {@link #build()} is called, keeping the insertion order of each vertex's edges. Vertices get
+   * dense ids in order of first appearance and their degrees are updated like {@link
+   * Graph#addEdge(Edge)} does.
+   */
+  final class Builder {
+
+    private final Map<String, Integer> indexById = new HashMap<>();
+    private final List<Vertex> vertices = new ArrayList<>();
+    private int[] sources = new int[16];
+    private int[] targets = new int[16];
+    private double[] weights = new double[16];
+    private int edgeCount;
+
+    Builder() {}
+
+    /**
+     * Adds a directed edge, creating its endpoints if needed.
+     *
+     * @complexity O(1) amortized
+     */
+    public Builder addEdge(String sourceId, String targetId, double weight) {
+      if (edgeCount == sources.length) {
+        int capacity = Math.multiplyExact(sources.length, 2);
+        sources = Arrays.copyOf(sources, capacity);
+        targets = Arrays.copyOf(targets, capacity);
+        weights = Arrays.copyOf(weights, capacity);
+      }
+
+      int source = intern(sourceId);
+      int target = intern(targetId);
+      vertices.get(source).updateDegree(-1);
+      vertices.get(target).updateDegree(1);
+
+      sources[edgeCount] = source;
+      targets[edgeCount] = target;
+      weights[edgeCount] = weight;
+      edgeCount++;
+      return this;
+    }
+
+    private int intern(String id) {
+      Integer index = indexById.get(id);
+      if (Objects.isNull(index)) {
+        index = vertices.size();
+        indexById.put(id, index);
+        vertices.add(new Vertex(id));
+      }
+      return index;
+    }
+
+    /**
+     * Builds the CSR graph. The builder must not be used afterwards.
+     *
+     * @complexity O(V + E)
+     */
+    public CsrGraph build() {
+      int vertexCount = vertices.size();
+      int[] offsets = new int[vertexCount + 1];
+      for (int edge = 0; edge < edgeCount; edge++) {
+        offsets[sources[edge] + 1]++;
+      }
+      for (int v = 0; v < vertexCount; v++) {
+        offsets[v + 1] += offsets[v];
+      }
+
+      int[] sortedTargets = new int[edgeCount];
+      double[] sortedWeights = new double[edgeCount];
+      int[] next = Arrays.copyOf(offsets, vertexCount);
+      for (int edge = 0; edge < edgeCount; edge++) {
+        int position = next[sources[edge]]++;
+        sortedTargets[position] = targets[edge];
+        sortedWeights[position] = weights[edge];
+      }
+
+      // Release the edge buffers before the graph goes into use
+      sources = null;
+      targets = null;
+      weights = null;
+
+      return new ArrayCsrGraph(
+          vertices.toArray(new Vertex[0]), indexById, offsets, sortedTargets, sortedWeights);
+    }
+  }
+}
@@ -0,0 +1,291 @@
+package br.com.unifal.tcc.model.graph;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Reads and writes {@link CsrGraph}s in a versioned binary file.
+ *
+ * <p>The file is a little-endian image of the CSR arrays, so {@link #map(Path)} only maps it into
+ * memory: there is no parse step and the graph lives outside of the heap, paged in by the operating
+ * system as the shortest path engines touch it. Layout of version {@value #VERSION}:
+ *
+ * <pre>
+ * header     int magic, int version, int vertexCount, int edgeCount, int flags, int reserved,
+ *            double maxWeight, long idBytesLength                                (40 bytes)
+ * idOffsets  int[vertexCount + 1]  start of each vertex id in idBytes
+ * idOrder    int[vertexCount]      vertex ids sorted by their UTF-8 bytes, for indexOf
+ * idBytes    byte[idBytesLength]   UTF-8 vertex ids, back to back
+ * offsets    int[vertexCount + 1]  CSR row offsets
+ * targets    int[edgeCount]        CSR edge targets
+ * weights    double[edgeCount]     CSR edge weights
+ * </pre>
+ *
+ * Every section starts at a multiple of 8 bytes. Bit 0 of {@code flags} caches {@link
+ * CsrGraph#hasIntegerWeights()}. Each section is mapped on its own, so a single section is limited
+ * to 2 GB, i.e. about 268 million edges.
+ */
+public final class CsrGraphFile {
+
+  public static final String FILE_EXTENSION = ".csr";
+
+  static final int MAGIC = 0x43535247; // "CSRG"
+  static final int VERSION = 1;
+
+  private static final int HEADER_BYTES = 40;
+  private static final int INTEGER_WEIGHTS_FLAG = 1;
+  private static final int WRITE_BUFFER_BYTES = 1 << 16;
+
+  private CsrGraphFile() {}
+
+  /** Tells whether {@code file} should be read with {@link #map(Path)}, based on its extension. */
+  public static boolean isCsrFile(String file) {
+    return file.endsWith(FILE_EXTENSION);
+  }
+
+  /**
+   * Writes {@code graph} to {@code file}, overwriting it if it exists.
+   *
+   * @param graph the graph to write
+   * @param file the output file
+   * @throws IOException if the file cannot be written
+   * @throws IllegalArgumentException if a section of the graph does not fit in 2 GB
+   * @complexity O(V log V + E) time, O(V + id bytes) memory
+   */
+  public static void write(CsrGraph graph, Path file) throws IOException {
+    int vertexCount = graph.getVertexCount();
+    int edgeCount = graph.getEdgeCount();
+
+    byte[][] ids = new byte[vertexCount][];
+    long idBytesLength = 0;
+    for (int v = 0; v < vertexCount; v++) {
+      ids[v] = graph.getVertex(v).getId().getBytes(StandardCharsets.UTF_8);
+      idBytesLength += ids[v].length;
+    }
+    Integer[] idOrder = new Integer[vertexCount];
+    for (int v = 0; v < vertexCount; v++) {
+      idOrder[v] = v;
+    }
+    Arrays.sort(idOrder, Comparator.comparing(v -> ids[v], Arrays::compareUnsigned));
+
+    checkSectionSize((vertexCount + 1L) * Integer.BYTES);
+    checkSectionSize(idBytesLength);
+    checkSectionSize((long) edgeCount * Double.BYTES);
+
+    try (FileChannel channel =
+        FileChannel.open(
+            file,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      SectionWriter writer = new SectionWriter(channel);
+
+      writer.putInt(MAGIC);
+      writer.putInt(VERSION);
+      writer.putInt(vertexCount);
+      writer.putInt(edgeCount);
+      writer.putInt(graph.hasIntegerWeights() ? INTEGER_WEIGHTS_FLAG : 0);
+      writer.putInt(0);
+      writer.putDouble(graph.getMaxWeight());
+      writer.putLong(idBytesLength);
+
+      int idOffset = 0;
+      for (byte[] id : ids) {
+        writer.putInt(idOffset);
+        idOffset += id.length;
+      }
+      writer.putInt(idOffset);
+      writer.endSection();
+
+      for (int v : idOrder) {
+        writer.putInt(v);
+      }
+      writer.endSection();
+
+      for (byte[] id : ids) {
+        writer.putBytes(id);
+      }
+      writer.endSection();
+
+      for (int v = 0; v < vertexCount; v++) {
+        writer.putInt(graph.edgeStart(v));
+      }
+      writer.putInt(edgeCount);
+      writer.endSection();
+
+      for (int edge = 0; edge < edgeCount; edge++) {
+        writer.putInt(graph.target(edge));
+      }
+      writer.endSection();
+
+      for (int edge = 0; edge < edgeCount; edge++) {
+        writer.putDouble(graph.weight(edge));
+      }
+      writer.flush();
+    }
+  }
+
+  /**
+   * Maps a file written by {@link #write(CsrGraph, Path)} as a read-only {@link CsrGraph}.
+   *
+   * <p>The file can be closed, moved or deleted once this method returns, but must not be modified
+   * while the graph is in use. Vertices returned by the graph are decoded on every call and carry
+   * no degree.
+   *
+   * @param file the file to map
+   * @return a graph backed by the mapped file
+   * @throws IOException if the file cannot be read
+   * @throws IllegalArgumentException if the file is not a CSR graph file of a supported version
+   * @complexity O(1) time and heap
+   */
+  public static CsrGraph map(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long fileSize = channel.size();
+      if (fileSize < HEADER_BYTES) {
+        throw new IllegalArgumentException("Not a CSR graph file: " + file);
+      }
+
+      ByteBuffer header = mapSection(channel, 0, HEADER_BYTES);
+      if (header.getInt(0) != MAGIC) {
+        throw new IllegalArgumentException("Not a CSR graph file: " + file);
+      }
+      int version = header.getInt(4);
+      if (version != VERSION) {
+        throw new IllegalArgumentException(
+            String.format("Unsupported CSR graph file version %d in %s", version, file));
+      }
+      int vertexCount = header.getInt(8);
+      int edgeCount = header.getInt(12);
+      boolean integerWeights = (header.getInt(16) & INTEGER_WEIGHTS_FLAG) != 0;
+      double maxWeight = header.getDouble(24);
+      long idBytesLength = header.getLong(32);
+
+      long position = HEADER_BYTES;
+      long idOffsetsBytes = (vertexCount + 1L) * Integer.BYTES;
+      long idOrderBytes = (long) vertexCount * Integer.BYTES;
+      long targetsBytes = (long) edgeCount * Integer.BYTES;
+      long weightsBytes = (long) edgeCount * Double.BYTES;
+      long expectedSize =
+          HEADER_BYTES
+              + align(idOffsetsBytes)
+              + align(idOrderBytes)
+              + align(idBytesLength)
+              + align(idOffsetsBytes)
+              + align(targetsBytes)
+              + weightsBytes;
+      if (vertexCount < 0 || edgeCount < 0 || idBytesLength < 0 || expectedSize != fileSize) {
+        throw new IllegalArgumentException("Truncated or corrupt CSR graph file: " + file);
+      }
+
+      ByteBuffer idOffsets = mapSection(channel, position, idOffsetsBytes);
+      position += align(idOffsetsBytes);
+      ByteBuffer idOrder = mapSection(channel, position, idOrderBytes);
+      position += align(idOrderBytes);
+      ByteBuffer idBytes = mapSection(channel, position, idBytesLength);
+      position += align(idBytesLength);
+      ByteBuffer offsets = mapSection(channel, position, idOffsetsBytes);
+      position += align(idOffsetsBytes);
+      ByteBuffer targets = mapSection(channel, position, targetsBytes);
+      position += align(targetsBytes);
+      ByteBuffer weights = mapSection(channel, position, weightsBytes);
+
+      return new MappedCsrGraph(
+          vertexCount,
+          edgeCount,
+          maxWeight,
+          integerWeights,
+          idOffsets.asIntBuffer(),
+          idOrder.asIntBuffer(),
+          idBytes,
+          offsets.asIntBuffer(),
+          targets.asIntBuffer(),
+          weights.asDoubleBuffer());
+    }
+  }
+
+  private static ByteBuffer mapSection(FileChannel channel, long position, long size)
+      throws IOException {
+    checkSectionSize(size);
+    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+    return buffer.order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  private static void checkSectionSize(long size) {
+    if (size > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(
+          String.format("CSR graph file section of %d bytes exceeds the 2 GB limit", size));
+    }
+  }
+
+  private static long align(long size) {
+    return (size + 7) & ~7L;
+  }
+
+  /** Buffers little-endian values and pads sections to 8 bytes. */
+  private static final class SectionWriter {
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer =
+        ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    private long written;
+
+    SectionWriter(FileChannel channel) {
+      this.channel = channel;
+    }
+
+    void putInt(int value) throws IOException {
+      ensureRemaining(Integer.BYTES);
+      buffer.putInt(value);
+    }
+
+    void putLong(long value) throws IOException {
+      ensureRemaining(Long.BYTES);
+      buffer.putLong(value);
+    }
+
+    void putDouble(double value) throws IOException {
+      ensureRemaining(Double.BYTES);
+      buffer.putDouble(value);
+    }
+
+    void putBytes(byte[] bytes) throws IOException {
+      int offset = 0;
+      while (offset < bytes.length) {
+        ensureRemaining(1);
+        int length = Math.min(buffer.remaining(), bytes.length - offset);
+        buffer.put(bytes, offset, length);
+        offset += length;
+      }
+    }
+
+    void endSection() throws IOException {
+      long position = written + buffer.position();
+      for (long padding = CsrGraphFile.align(position) - position; padding > 0; padding--) {
+        ensureRemaining(1);
+        buffer.put((byte) 0);
+      }
+    }
+
+    void flush() throws IOException {
+      buffer.flip();
+      while (buffer.hasRemaining()) {
+        written += channel.write(buffer);
+      }
+      buffer.clear();
+    }
+
+    private void ensureRemaining(int bytes) throws IOException {
+      if (buffer.remaining() < bytes) {
+        flush();
+      }
+    }
+  }
+}
@@ -1,11 +1,15 @@
 package br.com.unifal.tcc.model.graph;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 @Getter
@@ -14,25 +18,61 @@ public class Graph {
   private final Map<String, Vertex> vertices;
   private final Set<Edge> edges;
 
+  @Getter(AccessLevel.NONE)
+  private final Map<Vertex, Adjacency> outgoing;
+
+  @Getter(AccessLevel.NONE)
+  private final Map<Vertex, Adjacency> incoming;
+
+  @Getter(AccessLevel.NONE)
+  private volatile CsrGraph csrSnapshot;
+
   public Graph() {
     this.vertices = new HashMap<>();
     this.edges = new HashSet<>();
+    this.outgoing = new HashMap<>();
+    this.incoming = new HashMap<>();
   }
 
   /**
    * Adds an edge to the graph.
    *
    * <p>If the source or target vertices do not exist in the graph, they are added. Updates the
-   * degree of the vertices.
+   * degree of the vertices and the outgoing/incoming adjacency indexes of both endpoints.
    *
    * @param edge the edge to add
-   * @complexity O(1) amortized for vertex lookup and O(1) to add to the edges set → overall O(1)
-   *     amortized
+   * @complexity O(1) amortized for vertex lookup and O(1) to add to the edges set and adjacency
+   *     indexes → overall O(1) amortized
    */
   public void addEdge(Edge edge) {
-    addVertex(edge.getSource(), -1);
-    addVertex(edge.getTarget(), 1);
+    Vertex source = addVertex(edge.getSource(), -1);
+    Vertex target = addVertex(edge.getTarget(), 1);
     edges.add(edge);
+
+    outgoing.computeIfAbsent(source, v -> new Adjacency()).add(target, edge);
+    incoming.computeIfAbsent(target, v -> new Adjacency()).add(source, edge);
+    csrSnapshot = null;
+  }
+
+  /**
+   * Returns the vertex with the given ID, adding it without any edge if the graph does not have it
+   * yet.
+   *
+   * <p>Lets loaders intern vertex ids through the graph's own index instead of a map of their own.
+   *
+   * @param id the vertex ID
+   * @return the vertex instance stored in the graph
+   * @complexity O(1) amortized using HashMap lookup
+   */
+  public Vertex getOrCreateVertex(String id) {
+    Vertex existing = vertices.get(id);
+    if (Objects.nonNull(existing)) {
+      return existing;
+    }
+    Vertex vertex = new Vertex(id);
+    vertices.put(id, vertex);
+    csrSnapshot = null;
+    return vertex;
   }
 
   /**
@@ -43,16 +83,18 @@ public class Graph {
    *
    * @param vertex the vertex to add
    * @param degreeChange the change in degree to apply
+   * @return the vertex instance stored in the graph
    * @complexity O(1) amortized using HashMap lookup
    */
-  private void addVertex(Vertex vertex, int degreeChange) {
+  private Vertex addVertex(Vertex vertex, int degreeChange) {
     Vertex existing = vertices.get(vertex.getId());
     if (Objects.nonNull(existing)) {
       existing.updateDegree(degreeChange);
-    } else {
-      vertex.updateDegree(degreeChange);
-      vertices.put(vertex.getId(), vertex);
+      return existing;
     }
+    vertex.updateDegree(degreeChange);
+    vertices.put(vertex.getId(), vertex);
+    return vertex;
   }
 
   /**
@@ -74,29 +116,76 @@ public class Graph {
    * each connection.
    *
    * <p>If multiple edges exist between the same pair of vertices, only the edge with the smallest
-   * weight is included in the result.
+   * weight is included in the result. The returned map is a read-only view over the adjacency
+   * index maintained by {@link Graph#addEdge(Edge)}, so no copy is made and later edge additions
+   * are visible through it.
    *
    * @param vertex the vertex whose neighbors are to be retrieved
    * @return a map where the keys are the neighboring vertices and the values are the corresponding
    *     minimum edge weights
+   * @complexity O(1)
    */
   public Map<Vertex, Double> getNeighbors(Vertex vertex) {
-    Map<Vertex, Double> neighbors = new HashMap<>();
-    edges.forEach(
-        edge -> {
-          if (vertex.equals(edge.getSource())) {
-            if (!neighbors.containsKey(edge.getTarget())) {
-              // Add
-              neighbors.put(edge.getTarget(), edge.getWeight());
-            }
-            if (neighbors.containsKey(edge.getTarget())
-                && edge.getWeight() < neighbors.get(edge.getTarget())) {
-              // Update
-              neighbors.put(edge.getTarget(), edge.getWeight());
-            }
-          }
-        });
-    return neighbors;
+    Adjacency adjacency = outgoing.get(vertex);
+    return Objects.nonNull(adjacency) ? adjacency.minWeightsView : Map.of();
+  }
+
+  /**
+   * Retrieves the vertices with an edge pointing to the given vertex along with the minimum edge
+   * weight for each connection.
+   *
+   * <p>This is the reverse counterpart of {@link Graph#getNeighbors(Vertex)} and follows the same
+   * minimum parallel-edge weight rule.
+   *
+   * @param vertex the vertex whose incoming neighbors are to be retrieved
+   * @return a read-only map of predecessor vertices to the corresponding minimum edge weights
+   * @complexity O(1)
+   */
+  public Map<Vertex, Double> getIncomingNeighbors(Vertex vertex) {
+    Adjacency adjacency = incoming.get(vertex);
+    return Objects.nonNull(adjacency) ? adjacency.minWeightsView : Map.of();
+  }
+
+  /**
+   * Returns every edge leaving the given vertex, including parallel edges, in insertion order.
+   *
+   * @param vertex the source vertex
+   * @return a read-only list of the outgoing edges of {@code vertex}
+   * @complexity O(1)
+   */
+  public List<Edge> getOutgoingEdges(Vertex vertex) {
+    Adjacency adjacency = outgoing.get(vertex);
+    return Objects.nonNull(adjacency) ? adjacency.edgesView : List.of();
+  }
+
+  /**
+   * Returns every edge arriving at the given vertex, including parallel edges, in insertion order.
+   *
+   * @param vertex the target vertex
+   * @return a read-only list of the incoming edges of {@code vertex}
+   * @complexity O(1)
+   */
+  public List<Edge> getIncomingEdges(Vertex vertex) {
+    Adjacency adjacency = incoming.get(vertex);
+    return Objects.nonNull(adjacency) ? adjacency.edgesView : List.of();
+  }
+
+  /**
+   * Returns an immutable {@link CsrGraph} snapshot of this graph.
+   *
+   * <p>The snapshot is built on the first call and reused until {@link Graph#addEdge(Edge)}
+   * changes the graph, so every shortest path query against an unchanged graph shares it.
+   *
+   * @return the CSR snapshot of the current graph
+   * @complexity O(V + E) to build, O(1) while the graph is unchanged
+   */
+  public CsrGraph toCsrGraph() {
+    CsrGraph snapshot = csrSnapshot;
+    if (Objects.isNull(snapshot)) {
+      snapshot = CsrGraph.from(this);
+      csrSnapshot = snapshot;
+    }
+    return snapshot;
   }
 
   /**
@@ -128,4 +217,20 @@ public class Graph {
   public boolean isEulerian() {
     return getUnbalancedVertices().isEmpty();
   }
+
+  /**
+   * Adjacency index of a single vertex in one direction. Keeps every incident edge and, for each
+   * neighbor, the minimum weight among the parallel edges connecting them.
+   */
+  private static final class Adjacency {
+    private final Map<Vertex, Double> minWeights = new HashMap<>();
+    private final Map<Vertex, Double> minWeightsView = Collections.unmodifiableMap(minWeights);
+    private final List<Edge> edges = new ArrayList<>();
+    private final List<Edge> edgesView = Collections.unmodifiableList(edges);
+
+    private void add(Vertex neighbor, Edge edge) {
+      minWeights.merge(neighbor, edge.getWeight(), Math::min);
+      edges.add(edge);
+    }
+  }
 }
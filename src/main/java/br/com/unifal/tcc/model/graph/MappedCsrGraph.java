@@ -0,0 +1,146 @@
+package br.com.unifal.tcc.model.graph;
+
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * {@link CsrGraph} over the sections of a memory-mapped {@link CsrGraphFile}.
+ *
+ * <p>Only absolute buffer reads are used, so the graph is safe to share between threads.
+ */
+final class MappedCsrGraph implements CsrGraph {
+
+  private final int vertexCount;
+  private final int edgeCount;
+  private final double maxWeight;
+  private final boolean integerWeights;
+  private final IntBuffer idOffsets;
+  private final IntBuffer idOrder;
+  private final ByteBuffer idBytes;
+  private final IntBuffer offsets;
+  private final IntBuffer targets;
+  private final DoubleBuffer weights;
+  private volatile CsrGraph reverse;
+
+  MappedCsrGraph(
+      int vertexCount,
+      int edgeCount,
+      double maxWeight,
+      boolean integerWeights,
+      IntBuffer idOffsets,
+      IntBuffer idOrder,
+      ByteBuffer idBytes,
+      IntBuffer offsets,
+      IntBuffer targets,
+      DoubleBuffer weights) {
+    this.vertexCount = vertexCount;
+    this.edgeCount = edgeCount;
+    this.maxWeight = maxWeight;
+    this.integerWeights = integerWeights;
+    this.idOffsets = idOffsets;
+    this.idOrder = idOrder;
+    this.idBytes = idBytes;
+    this.offsets = offsets;
+    this.targets = targets;
+    this.weights = weights;
+  }
+
+  @Override
+  public int getVertexCount() {
+    return vertexCount;
+  }
+
+  @Override
+  public int getEdgeCount() {
+    return edgeCount;
+  }
+
+  @Override
+  public double getMaxWeight() {
+    return maxWeight;
+  }
+
+  @Override
+  public boolean hasIntegerWeights() {
+    return integerWeights;
+  }
+
+  /** @complexity O(log V) binary search over the sorted id table */
+  @Override
+  public int indexOf(Vertex vertex) {
+    byte[] id = vertex.getId().getBytes(StandardCharsets.UTF_8);
+
+    int low = 0;
+    int high = vertexCount - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      int index = idOrder.get(middle);
+      int comparison = compareId(index, id);
+      if (comparison < 0) {
+        low = middle + 1;
+      } else if (comparison > 0) {
+        high = middle - 1;
+      } else {
+        return index;
+      }
+    }
+    throw new IllegalArgumentException(
+        String.format("Vertex with id: %s is not part of the graph!", vertex.getId()));
+  }
+
+  @Override
+  public Vertex getVertex(int index) {
+    int start = idOffsets.get(index);
+    byte[] id = new byte[idOffsets.get(index + 1) - start];
+    idBytes.get(start, id);
+    return new Vertex(new String(id, StandardCharsets.UTF_8));
+  }
+
+  @Override
+  public int edgeStart(int vertex) {
+    return offsets.get(vertex);
+  }
+
+  @Override
+  public int edgeEnd(int vertex) {
+    return offsets.get(vertex + 1);
+  }
+
+  @Override
+  public int target(int edge) {
+    return targets.get(edge);
+  }
+
+  @Override
+  public double weight(int edge) {
+    return weights.get(edge);
+  }
+
+  /** Builds the transpose in heap arrays, since only the forward graph is stored in the file. */
+  @Override
+  public CsrGraph reverse() {
+    CsrGraph snapshot = reverse;
+    if (Objects.isNull(snapshot)) {
+      snapshot = ReversedCsrGraph.of(this);
+      reverse = snapshot;
+    }
+    return snapshot;
+  }
+
+  /** Compares the id of vertex {@code index} with {@code id}, byte by byte as unsigned values. */
+  private int compareId(int index, byte[] id) {
+    int start = idOffsets.get(index);
+    int length = idOffsets.get(index + 1) - start;
+    int common = Math.min(length, id.length);
+    for (int i = 0; i < common; i++) {
+      int comparison = Byte.compareUnsigned(idBytes.get(start + i), id[i]);
+      if (comparison != 0) {
+        return comparison;
+      }
+    }
+    return Integer.compare(length, id.length);
+  }
+}
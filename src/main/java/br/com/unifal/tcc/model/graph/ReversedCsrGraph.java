@@ -0,0 +1,109 @@
+package br.com.unifal.tcc.model.graph;
+
+import java.util.Arrays;
+
+/**
+ * Transpose of another {@link CsrGraph}, in heap arrays.
+ *
+ * <p>Vertex ids, lookups and weight statistics are those of the original graph; only the edge
+ * arrays are rebuilt, grouping every edge by its target.
+ */
+final class ReversedCsrGraph implements CsrGraph {
+
+  private final CsrGraph original;
+  private final int[] offsets;
+  private final int[] targets;
+  private final double[] weights;
+
+  private ReversedCsrGraph(CsrGraph original, int[] offsets, int[] targets, double[] weights) {
+    this.original = original;
+    this.offsets = offsets;
+    this.targets = targets;
+    this.weights = weights;
+  }
+
+  /**
+   * Builds the transpose of {@code graph} with one counting sort pass over its edges, keeping the
+   * edges into each vertex in order of their source.
+   *
+   * @complexity O(V + E)
+   */
+  static ReversedCsrGraph of(CsrGraph graph) {
+    int vertexCount = graph.getVertexCount();
+    int[] offsets = new int[vertexCount + 1];
+    for (int edge = 0; edge < graph.getEdgeCount(); edge++) {
+      offsets[graph.target(edge) + 1]++;
+    }
+    for (int v = 0; v < vertexCount; v++) {
+      offsets[v + 1] += offsets[v];
+    }
+
+    int[] targets = new int[graph.getEdgeCount()];
+    double[] weights = new double[graph.getEdgeCount()];
+    int[] next = Arrays.copyOf(offsets, vertexCount);
+    for (int source = 0; source < vertexCount; source++) {
+      for (int edge = graph.edgeStart(source); edge < graph.edgeEnd(source); edge++) {
+        int position = next[graph.target(edge)]++;
+        targets[position] = source;
+        weights[position] = graph.weight(edge);
+      }
+    }
+
+    return new ReversedCsrGraph(graph, offsets, targets, weights);
+  }
+
+  @Override
+  public int getVertexCount() {
+    return original.getVertexCount();
+  }
+
+  @Override
+  public int getEdgeCount() {
+    return targets.length;
+  }
+
+  @Override
+  public double getMaxWeight() {
+    return original.getMaxWeight();
+  }
+
+  @Override
+  public boolean hasIntegerWeights() {
+    return original.hasIntegerWeights();
+  }
+
+  @Override
+  public int indexOf(Vertex vertex) {
+    return original.indexOf(vertex);
+  }
+
+  @Override
+  public Vertex getVertex(int index) {
+    return original.getVertex(index);
+  }
+
+  @Override
+  public int edgeStart(int vertex) {
+    return offsets[vertex];
+  }
+
+  @Override
+  public int edgeEnd(int vertex) {
+    return offsets[vertex + 1];
+  }
+
+  @Override
+  public int target(int edge) {
+    return targets[edge];
+  }
+
+  @Override
+  public double weight(int edge) {
+    return weights[edge];
+  }
+
+  @Override
+  public CsrGraph reverse() {
+    return original;
+  }
+}
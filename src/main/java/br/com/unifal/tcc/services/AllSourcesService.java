@@ -0,0 +1,150 @@
+package br.com.unifal.tcc.services;
+
+import br.com.unifal.tcc.algorithms.dto.IndexedDistancePredecessorMap;
+import br.com.unifal.tcc.algorithms.interfaces.ShortestPathAlgorithm;
+import br.com.unifal.tcc.algorithms.interfaces.ShortestPathTree;
+import br.com.unifal.tcc.model.graph.CsrGraph;
+import br.com.unifal.tcc.services.dto.DistanceSummary;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Runs one shortest path search from every vertex of a graph on a fixed pool of workers.
+ *
+ * <p>Sources are handed out in small chunks from a shared counter, so workers that draw cheap
+ * sources simply take more of them and no worker waits on another. Engines that search several
+ * sources in one traversal get whole {@link ShortestPathAlgorithm#getBatchSize() batches}, taken
+ * in their {@link ShortestPathAlgorithm#getBatchOrder(CsrGraph, int[]) batch order}. Each worker
+ * reuses one {@link IndexedDistancePredecessorMap} for all of its sources, and the shortest path
+ * engines keep their own queues per thread, so a run allocates O(workers · V) memory whatever the
+ * number of sources. Results are streamed to a {@link ShortestPathTreeSink} as soon as each tree is
+ * done instead of being collected.
+ */
+public class AllSourcesService {
+
+  /** Number of sources a worker claims at once, rounded up to whole batches. */
+  static final int CHUNK_SIZE = 16;
+
+  private AllSourcesService() {}
+
+  /** Receives the shortest path tree of every source. */
+  @FunctionalInterface
+  public interface ShortestPathTreeSink {
+    /**
+     * Consumes the tree of one source.
+     *
+     * <p>Called concurrently from every worker, so implementations must be thread-safe. {@code
+     * tree} is the worker's scratch map, or a view of the engine's own storage, and is overwritten
+     * by its next source: copy whatever outlives the call.
+     */
+    void accept(int source, ShortestPathTree tree);
+  }
+
+  /**
+   * Computes the shortest path tree of every vertex and streams it to {@code sink}.
+   *
+   * @param graph the graph, shared read-only by every worker
+   * @param pathAlgorithm the engine, which must support concurrent searches
+   * @param parallelism the number of worker threads
+   * @param sink receives each source exactly once, in no particular order
+   * @throws IllegalArgumentException if {@code parallelism} is not positive
+   * @complexity O(V · SSSP / parallelism) time, O(parallelism · V) memory
+   */
+  public static void forEachSource(
+      CsrGraph graph,
+      ShortestPathAlgorithm pathAlgorithm,
+      int parallelism,
+      ShortestPathTreeSink sink) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+    }
+
+    int batchSize = pathAlgorithm.getBatchSize();
+    int chunkSize = (CHUNK_SIZE + batchSize - 1) / batchSize * batchSize;
+    int[] order =
+        pathAlgorithm.getBatchOrder(graph, IntStream.range(0, graph.getVertexCount()).toArray());
+
+    AtomicInteger nextSource = new AtomicInteger();
+    Runnable worker =
+        () -> {
+          IndexedDistancePredecessorMap scratch =
+              new IndexedDistancePredecessorMap(graph.getVertexCount());
+          int start;
+          while ((start = nextSource.getAndAdd(chunkSize)) < order.length) {
+            int[] chunk =
+                Arrays.copyOfRange(order, start, Math.min(start + chunkSize, order.length));
+            pathAlgorithm.computeShortestPathTrees(
+                graph, chunk, scratch, (tree, i) -> sink.accept(chunk[i], tree));
+          }
+        };
+
+    ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+    try {
+      List<Future<?>> futures = new ArrayList<>(parallelism);
+      for (int i = 0; i < parallelism; i++) {
+        futures.add(executor.submit(worker));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while computing all sources", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("Error computing all sources", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Summarizes the distances between every ordered pair of distinct vertices without storing any
+   * of them.
+   *
+   * @param graph the graph, shared read-only by every worker
+   * @param pathAlgorithm the engine, which must support concurrent searches
+   * @param parallelism the number of worker threads
+   * @return the aggregate of all pairwise distances
+   * @complexity O(V · SSSP / parallelism) time, O(parallelism · V) memory
+   */
+  public static DistanceSummary summarize(
+      CsrGraph graph, ShortestPathAlgorithm pathAlgorithm, int parallelism) {
+    DistanceSummary[] summary = {DistanceSummary.EMPTY};
+    forEachSource(
+        graph,
+        pathAlgorithm,
+        parallelism,
+        (source, tree) -> {
+          DistanceSummary row = summarizeRow(source, tree);
+          synchronized (summary) {
+            summary[0] = summary[0].merge(row);
+          }
+        });
+    return summary[0];
+  }
+
+  private static DistanceSummary summarizeRow(int source, ShortestPathTree tree) {
+    long reachable = 0L;
+    double sum = 0.0;
+    double max = 0.0;
+    for (int target = 0; target < tree.getVertexCount(); target++) {
+      if (target != source && tree.isReached(target)) {
+        double distance = tree.getDistance(target);
+        reachable++;
+        sum += distance;
+        max = Math.max(max, distance);
+      }
+    }
+    return new DistanceSummary(reachable, sum, max);
+  }
+}
@@ -1,47 +1,147 @@
 package br.com.unifal.tcc.services;
 
-import br.com.unifal.tcc.model.graph.Edge;
+import br.com.unifal.tcc.model.graph.CsrGraph;
+import br.com.unifal.tcc.model.graph.CsrGraphFile;
 import br.com.unifal.tcc.model.graph.Graph;
 import br.com.unifal.tcc.model.graph.RealEdge;
 import br.com.unifal.tcc.model.graph.Vertex;
-import com.google.gson.Gson;
-import java.io.FileReader;
-import java.util.List;
-import java.util.Map;
+import com.google.gson.stream.JsonReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
 
+/**
+ * Loads graphs from node-link JSON files ({@code {"links": [{"source", "target", "weight"}, ...]}})
+ * or binary {@link CsrGraphFile}s, chosen by the file extension ({@value
+ * CsrGraphFile#FILE_EXTENSION} for the binary format, JSON for anything else).
+ *
+ * <p>JSON files are read with a streaming {@link JsonReader}: every link is handed to the graph as
+ * soon as it is parsed, and vertex ids are interned through the graph's own vertex index so each
+ * vertex is allocated once. Peak memory is the graph being built plus one link, independently of
+ * the size of the file. Every other member of the document ({@code nodes}, {@code graph}, ...) is
+ * skipped.
+ */
 public class InputService {
 
   private InputService() {}
 
+  /**
+   * Loads a graph file into a mutable {@link Graph}.
+   *
+   * @param graphFile the path of the JSON or CSR file
+   * @return the graph, with one {@link RealEdge} per link
+   * @throws RuntimeException if the file cannot be read or is malformed
+   * @complexity O(E) time, O(V + E) memory
+   */
   public static Graph loadGraphFromFile(String graphFile) {
-    Gson gson = new Gson();
-
-    try (FileReader reader = new FileReader(graphFile)) {
-      GraphInp graphInp = gson.fromJson(reader, GraphInp.class);
-      Graph graph = new Graph();
-      graphInp
-          .links()
-          .forEach(
-              linkInp -> {
-                Vertex source = new Vertex(linkInp.source());
-                Vertex target = new Vertex(linkInp.target());
-                Edge edge = new RealEdge(source, target, linkInp.weight());
-                graph.addEdge(edge);
-              });
-      return graph;
+    if (CsrGraphFile.isCsrFile(graphFile)) {
+      return toGraph(mapCsrGraphFile(graphFile));
+    }
+
+    Graph graph = new Graph();
+    readLinks(
+        graphFile,
+        (sourceId, targetId, weight) ->
+            graph.addEdge(
+                new RealEdge(
+                    graph.getOrCreateVertex(sourceId), graph.getOrCreateVertex(targetId), weight)));
+    return graph;
+  }
+
+  /**
+   * Loads a graph file straight into an immutable {@link CsrGraph}, without building any {@link
+   * Graph} or edge object. Meant for read-only workloads such as shortest path queries on very
+   * large inputs. CSR files are memory-mapped rather than read, so they load in constant time and
+   * heap.
+   *
+   * @param graphFile the path of the JSON or CSR file
+   * @return the CSR graph
+   * @throws RuntimeException if the file cannot be read or is malformed
+   * @complexity O(V + E) time, O(V + E) memory in primitive arrays for JSON; O(1) for CSR
+   */
+  public static CsrGraph loadCsrGraphFromFile(String graphFile) {
+    if (CsrGraphFile.isCsrFile(graphFile)) {
+      return mapCsrGraphFile(graphFile);
+    }
+
+    CsrGraph.Builder builder = CsrGraph.builder();
+    readLinks(graphFile, builder::addEdge);
+    return builder.build();
+  }
+
+  private static CsrGraph mapCsrGraphFile(String graphFile) {
+    try {
+      return CsrGraphFile.map(Path.of(graphFile));
+    } catch (Exception e) {
+      throw new RuntimeException("Error reading graph csr file", e);
+    }
+  }
+
+  private static Graph toGraph(CsrGraph csrGraph) {
+    Vertex[] vertices = new Vertex[csrGraph.getVertexCount()];
+    for (int v = 0; v < vertices.length; v++) {
+      vertices[v] = new Vertex(csrGraph.getVertex(v).getId());
+    }
+
+    Graph graph = new Graph();
+    for (int v = 0; v < vertices.length; v++) {
+      for (int edge = csrGraph.edgeStart(v); edge < csrGraph.edgeEnd(v); edge++) {
+        graph.addEdge(
+            new RealEdge(vertices[v], vertices[csrGraph.target(edge)], csrGraph.weight(edge)));
+      }
+    }
+    return graph;
+  }
+
+  @FunctionalInterface
+  private interface LinkConsumer {
+    void accept(String sourceId, String targetId, double weight);
+  }
+
+  private static void readLinks(String graphFile, LinkConsumer consumer) {
+    try (Reader fileReader = Files.newBufferedReader(Path.of(graphFile), StandardCharsets.UTF_8);
+        JsonReader reader = new JsonReader(fileReader)) {
+      reader.beginObject();
+      while (reader.hasNext()) {
+        if (reader.nextName().equals("links")) {
+          readLinkArray(reader, consumer);
+        } else {
+          reader.skipValue();
+        }
+      }
+      reader.endObject();
     } catch (Exception e) {
       throw new RuntimeException("Error reading graph json file", e);
     }
   }
 
-  private record GraphInp(
-      boolean directed,
-      boolean multigraph,
-      Map<String, Object> graph,
-      List<NodeInp> nodes,
-      List<LinkInp> links) {}
+  private static void readLinkArray(JsonReader reader, LinkConsumer consumer) throws IOException {
+    reader.beginArray();
+    while (reader.hasNext()) {
+      String sourceId = null;
+      String targetId = null;
+      Double weight = null;
 
-  private record NodeInp(String id) {}
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "source" -> sourceId = reader.nextString();
+          case "target" -> targetId = reader.nextString();
+          case "weight" -> weight = reader.nextDouble();
+          default -> reader.skipValue();
+        }
+      }
+      reader.endObject();
 
-  private record LinkInp(String source, String target, Double weight) {}
+      if (Objects.isNull(sourceId) || Objects.isNull(targetId) || Objects.isNull(weight)) {
+        throw new IllegalArgumentException(
+            "Invalid link at " + reader.getPath() + ": source, target and weight are required");
+      }
+      consumer.accept(sourceId, targetId, weight);
+    }
+    reader.endArray();
+  }
 }
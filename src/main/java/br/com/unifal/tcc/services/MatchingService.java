@@ -1,15 +1,19 @@
 package br.com.unifal.tcc.services;
 
+import br.com.unifal.tcc.algorithms.dto.DistanceMatrix;
+import br.com.unifal.tcc.algorithms.exceptions.UnreachableVertexException;
 import br.com.unifal.tcc.algorithms.interfaces.ShortestPathAlgorithm;
+import br.com.unifal.tcc.algorithms.matching.HungarianAssignmentSolver;
+import br.com.unifal.tcc.algorithms.matching.TransportationProblemSolver;
 import br.com.unifal.tcc.model.dto.BalancingEdge;
 import br.com.unifal.tcc.model.graph.Graph;
 import br.com.unifal.tcc.model.graph.Vertex;
 import br.com.unifal.tcc.model.dto.PathResult;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
 
 public class MatchingService {
@@ -18,74 +22,176 @@ public class MatchingService {
 
   public static List<BalancingEdge> findMinimumCostMatchingDirGraph(
       Graph graph, ShortestPathAlgorithm pathAlgorithm) {
-    Set<Vertex> unbalancedSet = graph.getUnbalancedVertices();
     List<BalancingEdge> balancingEdges = new ArrayList<>();
 
-    List<Vertex> positiveDegree = unbalancedSet.stream().filter(v -> v.getDegree() > 0).toList();
-    List<Vertex> negativeDegree = unbalancedSet.stream().filter(v -> v.getDegree() < 0).toList();
-
     // Track remaining degree imbalances
-    Map<Vertex, Integer> positiveRemaining = new HashMap<>();
-    for (Vertex v : positiveDegree) {
-      positiveRemaining.put(v, v.getDegree());
+    Map<Vertex, Integer> positiveRemaining = getPositiveImbalances(graph);
+    Map<Vertex, Integer> negativeRemaining = getNegativeImbalances(graph);
+
+    // Distances from every positive to every negative vertex, computed once
+    List<Vertex> positives = new ArrayList<>(positiveRemaining.keySet());
+    List<Vertex> negatives = new ArrayList<>(negativeRemaining.keySet());
+    DistanceMatrix distanceMatrix =
+        DistanceMatrix.compute(graph, positives, negatives, pathAlgorithm);
+
+    // With unit imbalances the exact assignment is also the fastest option
+    if (hasUnitImbalances(positiveRemaining, negativeRemaining)) {
+      return findAssignmentMatching(distanceMatrix);
     }
 
-    Map<Vertex, Integer> negativeRemaining = new HashMap<>();
-    for (Vertex v : negativeDegree) {
-      negativeRemaining.put(v, Math.abs(v.getDegree()));
+    // Greedy approach: always match the closest unmatched pair. Visiting the pairs by increasing
+    // distance (ties in positive-then-negative order) picks the same pairs as repeatedly scanning
+    // for the closest one, without rescanning all pairs after every match.
+    // See findOptimalMatchingDirGraph for the exact alternative.
+    List<int[]> pairs = new ArrayList<>();
+    for (int row = 0; row < positives.size(); row++) {
+      for (int column = 0; column < negatives.size(); column++) {
+        if (distanceMatrix.getDistance(row, column) < Double.POSITIVE_INFINITY) {
+          pairs.add(new int[] {row, column});
+        }
+      }
     }
+    pairs.sort(Comparator.comparingDouble(pair -> distanceMatrix.getDistance(pair[0], pair[1])));
+
+    for (int[] pair : pairs) {
+      Vertex positive = positives.get(pair[0]);
+      Vertex negative = negatives.get(pair[1]);
+      int matches = Math.min(positiveRemaining.get(positive), negativeRemaining.get(negative));
+      if (matches == 0) {
+        continue;
+      }
 
-    // Greedy approach: always match the closest unmatched pair
-    // TODO: Refactoring: Maybe use something better than greedy
-    while (!positiveRemaining.isEmpty() && !negativeRemaining.isEmpty()) {
-      PathResult pathResult = new PathResult(List.of(), Double.POSITIVE_INFINITY);
-      Vertex bestPositive = null, bestNegative = null;
-
-      // Find the closest positive-negative pair
-      for (Vertex positive : positiveRemaining.keySet()) {
-        for (Vertex negative : negativeRemaining.keySet()) {
-          PathResult path = pathAlgorithm.findShortestPath(graph, positive, negative);
-
-          if (path.path().isEmpty()) {
-            throw new RuntimeException(
-                "No path found between unbalanced vertices "
-                    + positive.getId()
-                    + " and "
-                    + negative.getId());
-          }
+      addBalancingEdges(balancingEdges, distanceMatrix, pair[0], pair[1], matches);
 
-          if (path.cost() < pathResult.cost()) {
-            pathResult = path;
-            bestPositive = positive;
-            bestNegative = negative;
-          }
-        }
-      }
+      // Update remaining imbalance
+      positiveRemaining.merge(positive, -matches, Integer::sum);
+      negativeRemaining.merge(negative, -matches, Integer::sum);
+    }
+
+    checkAllMatched(positiveRemaining);
+    checkAllMatched(negativeRemaining);
+    return balancingEdges;
+  }
 
-      if (Objects.nonNull(bestPositive) && Objects.nonNull(bestNegative)) {
-        balancingEdges.add(new BalancingEdge(bestPositive, bestNegative, pathResult));
+  /**
+   * Finds the balancing edges of minimum total cost for a directed graph.
+   *
+   * <p>Every unit of positive imbalance (in-degree above out-degree) must be routed to a unit of
+   * negative imbalance, which is a transportation problem over the shortest path distances between
+   * unbalanced vertices. It is solved exactly by {@link TransportationProblemSolver}, so the
+   * resulting augmentation never costs more than the greedy one. When every imbalance is a single
+   * unit it is a plain assignment problem instead, see {@link HungarianAssignmentSolver}.
+   *
+   * @param graph the graph to balance
+   * @param pathAlgorithm the engine used to compute distances between unbalanced vertices
+   * @return one balancing edge per unit of imbalance
+   * @throws UnreachableVertexException if some imbalance cannot be routed to any counterpart
+   */
+  public static List<BalancingEdge> findOptimalMatchingDirGraph(
+      Graph graph, ShortestPathAlgorithm pathAlgorithm) {
+    Map<Vertex, Integer> positiveRemaining = getPositiveImbalances(graph);
+    Map<Vertex, Integer> negativeRemaining = getNegativeImbalances(graph);
 
-        int positiveBalance = positiveRemaining.get(bestPositive) - 1;
-        int negativeBalance = negativeRemaining.get(bestNegative) - 1;
+    List<Vertex> positives = new ArrayList<>(positiveRemaining.keySet());
+    List<Vertex> negatives = new ArrayList<>(negativeRemaining.keySet());
+    DistanceMatrix distanceMatrix =
+        DistanceMatrix.compute(graph, positives, negatives, pathAlgorithm);
 
-        // Update or remove vertices based on remaining imbalance
-        if (positiveBalance > 0) {
-          positiveRemaining.put(bestPositive, positiveBalance);
-        } else {
-          positiveRemaining.remove(bestPositive);
-        }
+    if (hasUnitImbalances(positiveRemaining, negativeRemaining)) {
+      return findAssignmentMatching(distanceMatrix);
+    }
+
+    int[] supplies = positives.stream().mapToInt(positiveRemaining::get).toArray();
+    int[] demands = negatives.stream().mapToInt(negativeRemaining::get).toArray();
+    int[][] flows =
+        TransportationProblemSolver.solve(supplies, demands, distanceMatrix.toCostMatrix());
 
-        if (negativeBalance > 0) {
-          negativeRemaining.put(bestNegative, negativeBalance);
-        } else {
-          negativeRemaining.remove(bestNegative);
+    List<BalancingEdge> balancingEdges = new ArrayList<>();
+    for (int row = 0; row < positives.size(); row++) {
+      for (int column = 0; column < negatives.size(); column++) {
+        int matches = flows[row][column];
+        if (matches > 0) {
+          addBalancingEdges(balancingEdges, distanceMatrix, row, column, matches);
+          positiveRemaining.merge(positives.get(row), -matches, Integer::sum);
+          negativeRemaining.merge(negatives.get(column), -matches, Integer::sum);
         }
-      } else {
-        // No valid pairs found
-        break;
       }
     }
 
+    checkAllMatched(positiveRemaining);
+    checkAllMatched(negativeRemaining);
     return balancingEdges;
   }
+
+  /**
+   * Tells whether every unbalanced vertex is off by exactly one, which turns the balancing into an
+   * assignment problem between as many positive as negative vertices.
+   */
+  private static boolean hasUnitImbalances(
+      Map<Vertex, Integer> positiveRemaining, Map<Vertex, Integer> negativeRemaining) {
+    return positiveRemaining.size() == negativeRemaining.size()
+        && positiveRemaining.values().stream().allMatch(balance -> balance == 1)
+        && negativeRemaining.values().stream().allMatch(balance -> balance == 1);
+  }
+
+  /**
+   * Matches each positive vertex to a distinct negative vertex at minimum total distance, which is
+   * both optimal and cheaper to compute than the greedy or min-cost flow matchings.
+   */
+  private static List<BalancingEdge> findAssignmentMatching(DistanceMatrix distanceMatrix) {
+    int[] assignment = HungarianAssignmentSolver.solve(distanceMatrix.toCostMatrix());
+
+    List<BalancingEdge> balancingEdges = new ArrayList<>();
+    for (int row = 0; row < assignment.length; row++) {
+      if (assignment[row] == HungarianAssignmentSolver.UNASSIGNED) {
+        throw new UnreachableVertexException(
+            "No path found to balance unbalanced vertex "
+                + distanceMatrix.getSources().get(row).getId());
+      }
+      addBalancingEdges(balancingEdges, distanceMatrix, row, assignment[row], 1);
+    }
+    return balancingEdges;
+  }
+
+  private static Map<Vertex, Integer> getPositiveImbalances(Graph graph) {
+    Set<Vertex> unbalancedSet = graph.getUnbalancedVertices();
+    Map<Vertex, Integer> positiveRemaining = new HashMap<>();
+    for (Vertex v : unbalancedSet.stream().filter(v -> v.getDegree() > 0).toList()) {
+      positiveRemaining.put(v, v.getDegree());
+    }
+    return positiveRemaining;
+  }
+
+  private static Map<Vertex, Integer> getNegativeImbalances(Graph graph) {
+    Set<Vertex> unbalancedSet = graph.getUnbalancedVertices();
+    Map<Vertex, Integer> negativeRemaining = new HashMap<>();
+    for (Vertex v : unbalancedSet.stream().filter(v -> v.getDegree() < 0).toList()) {
+      negativeRemaining.put(v, Math.abs(v.getDegree()));
+    }
+    return negativeRemaining;
+  }
+
+  private static void addBalancingEdges(
+      List<BalancingEdge> balancingEdges,
+      DistanceMatrix distanceMatrix,
+      int row,
+      int column,
+      int matches) {
+    Vertex positive = distanceMatrix.getSources().get(row);
+    Vertex negative = distanceMatrix.getTargets().get(column);
+    PathResult pathResult = distanceMatrix.getPath(row, column);
+    for (int i = 0; i < matches; i++) {
+      balancingEdges.add(new BalancingEdge(positive, negative, pathResult));
+    }
+  }
+
+  private static void checkAllMatched(Map<Vertex, Integer> remaining) {
+    remaining.forEach(
+        (vertex, balance) -> {
+          if (balance > 0) {
+            throw new UnreachableVertexException(
+                "No path found to balance unbalanced vertex " + vertex.getId());
+          }
+        });
+  }
 }
@@ -0,0 +1,32 @@
+package br.com.unifal.tcc.services;
+
+import br.com.unifal.tcc.algorithms.interfaces.ShortestPathAlgorithm;
+import br.com.unifal.tcc.model.dto.BalancingEdge;
+import br.com.unifal.tcc.model.graph.Graph;
+import java.util.List;
+
+/** Ways of choosing the balancing edges that make a directed graph Eulerian. */
+public enum MatchingStrategy {
+  /**
+   * Repeatedly matches the closest pair of unbalanced vertices, or solves the exact assignment when
+   * every imbalance is a single unit.
+   */
+  GREEDY {
+    @Override
+    public List<BalancingEdge> findBalancingEdges(
+        Graph graph, ShortestPathAlgorithm pathAlgorithm) {
+      return MatchingService.findMinimumCostMatchingDirGraph(graph, pathAlgorithm);
+    }
+  },
+  /** Solves the balancing as a min-cost flow, giving the cheapest possible augmentation. */
+  MIN_COST_FLOW {
+    @Override
+    public List<BalancingEdge> findBalancingEdges(
+        Graph graph, ShortestPathAlgorithm pathAlgorithm) {
+      return MatchingService.findOptimalMatchingDirGraph(graph, pathAlgorithm);
+    }
+  };
+
+  public abstract List<BalancingEdge> findBalancingEdges(
+      Graph graph, ShortestPathAlgorithm pathAlgorithm);
+}
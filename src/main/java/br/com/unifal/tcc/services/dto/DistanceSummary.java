@@ -0,0 +1,25 @@
+package br.com.unifal.tcc.services.dto;
+
+/**
+ * Aggregate of the shortest path distances between every ordered pair of distinct vertices.
+ *
+ * @param reachablePairs the number of pairs {@code (u, v)}, {@code u != v}, with a path from u to v
+ * @param distanceSum the sum of the distances of the reachable pairs
+ * @param maxDistance the largest distance of a reachable pair, i.e. the diameter of the graph when
+ *     it is strongly connected
+ */
+public record DistanceSummary(long reachablePairs, double distanceSum, double maxDistance) {
+
+  public static final DistanceSummary EMPTY = new DistanceSummary(0L, 0.0, 0.0);
+
+  public double averageDistance() {
+    return reachablePairs == 0 ? 0.0 : distanceSum / reachablePairs;
+  }
+
+  public DistanceSummary merge(DistanceSummary other) {
+    return new DistanceSummary(
+        reachablePairs + other.reachablePairs,
+        distanceSum + other.distanceSum,
+        Math.max(maxDistance, other.maxDistance));
+  }
+}
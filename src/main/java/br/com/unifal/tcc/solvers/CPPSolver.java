@@ -2,20 +2,17 @@ package br.com.unifal.tcc.solvers;
 
 import br.com.unifal.tcc.algorithms.interfaces.ShortestPathAlgorithm;
 import br.com.unifal.tcc.model.dto.BalancingEdge;
+import br.com.unifal.tcc.model.graph.CsrGraph;
 import br.com.unifal.tcc.model.graph.Edge;
 import br.com.unifal.tcc.model.graph.Graph;
 import br.com.unifal.tcc.model.graph.Vertex;
 import br.com.unifal.tcc.model.graph.VirtualEdge;
 import br.com.unifal.tcc.model.dto.CPPSolution;
 import br.com.unifal.tcc.model.dto.PathResult;
-import br.com.unifal.tcc.services.MatchingService;
+import br.com.unifal.tcc.services.MatchingStrategy;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
-import java.util.Stack;
 import lombok.AllArgsConstructor;
 
 @AllArgsConstructor
@@ -23,17 +20,22 @@ public class CPPSolver {
 
   private Graph graph;
   private ShortestPathAlgorithm pathAlgorithm;
+  private MatchingStrategy matchingStrategy;
+
+  public CPPSolver(Graph graph, ShortestPathAlgorithm pathAlgorithm) {
+    this(graph, pathAlgorithm, MatchingStrategy.GREEDY);
+  }
 
   public CPPSolution solve(Vertex origin) {
     if (!graph.isEulerian()) {
       makeGraphEulerian();
     }
 
-    List<Vertex> eulerianPath = findEulerianCircuit(origin);
-    checkEulerianPath(eulerianPath);
-    double totalCost = calculatePathCost(eulerianPath);
+    List<Edge> eulerianCircuit = findEulerianCircuit(origin);
+    List<Vertex> eulerianPath = new ArrayList<>(eulerianCircuit.size() + 1);
+    double totalCost = walkEulerianCircuit(origin, eulerianCircuit, eulerianPath);
 
-    return new CPPSolution(pathAlgorithm, eulerianPath, totalCost);
+    return new CPPSolution(pathAlgorithm, eulerianPath, eulerianCircuit, totalCost);
   }
 
   private void makeGraphEulerian() {
@@ -42,8 +44,7 @@ public class CPPSolver {
       return; // Already Eulerian
     }
 
-    List<BalancingEdge> matching =
-        MatchingService.findMinimumCostMatchingDirGraph(graph, pathAlgorithm);
+    List<BalancingEdge> matching = matchingStrategy.findBalancingEdges(graph, pathAlgorithm);
 
     for (BalancingEdge balancingEdge : matching) {
       addVirtualEdge(balancingEdge.pathResult());
@@ -55,89 +56,98 @@ public class CPPSolver {
     graph.addEdge(virtualEdge);
   }
 
-  private List<Vertex> findEulerianCircuit(Vertex origin) {
-    // Create a copy of edges for modification during traversal
-    Set<Edge> remainingEdges = new HashSet<>(graph.getEdges());
+  /**
+   * Builds an Eulerian circuit from {@code origin} with Hierholzer's algorithm.
+   *
+   * <p>Works on the CSR snapshot of the balanced graph: each vertex keeps a cursor into its
+   * outgoing edge range, so every edge is taken exactly once and never searched for, and the walk
+   * is kept on plain {@code int[]} stacks of vertex and edge ids.
+   *
+   * @return the edges of the circuit, in traversal order
+   * @complexity O(V + E)
+   */
+  private List<Edge> findEulerianCircuit(Vertex origin) {
+    CsrGraph csrGraph = graph.toCsrGraph();
+
+    // The Edge behind each CSR edge id, and the next unused outgoing edge of each vertex
+    Edge[] edges = new Edge[csrGraph.getEdgeCount()];
+    int[] cursors = new int[csrGraph.getVertexCount()];
+    for (int vertex = 0; vertex < cursors.length; vertex++) {
+      cursors[vertex] = csrGraph.edgeStart(vertex);
+      List<Edge> outgoingEdges = graph.getOutgoingEdges(csrGraph.getVertex(vertex));
+      for (int i = 0; i < outgoingEdges.size(); i++) {
+        edges[cursors[vertex] + i] = outgoingEdges.get(i);
+      }
+    }
 
-    List<Vertex> circuit = new ArrayList<>();
-    Stack<Vertex> stack = new Stack<>();
-    stack.push(origin);
+    // Each stack entry is a vertex and the edge the walk took to reach it
+    int[] vertexStack = new int[csrGraph.getEdgeCount() + 1];
+    int[] edgeStack = new int[csrGraph.getEdgeCount() + 1];
+    int stackSize = 0;
+    vertexStack[stackSize] = csrGraph.indexOf(origin);
+    edgeStack[stackSize++] = -1;
 
-    while (!stack.isEmpty()) {
-      Vertex current = stack.peek();
-      Optional<Edge> optNextEdge = findUnusedEdge(current, remainingEdges);
+    int[] circuit = new int[csrGraph.getEdgeCount()];
+    int circuitSize = 0;
 
-      if (optNextEdge.isPresent()) {
-        Edge nextEdge = optNextEdge.get();
-        remainingEdges.remove(nextEdge);
-        Vertex next =
-            nextEdge.getSource().equals(current) ? nextEdge.getTarget() : nextEdge.getSource();
-        stack.push(next);
+    while (stackSize > 0) {
+      int current = vertexStack[stackSize - 1];
+
+      if (cursors[current] < csrGraph.edgeEnd(current)) {
+        int edge = cursors[current]++;
+        vertexStack[stackSize] = csrGraph.target(edge);
+        edgeStack[stackSize++] = edge;
       } else {
-        // No more edges from the current vertex, add to circuit
-        circuit.add(stack.pop());
+        // No more edges from the current vertex, add the edge that led here to the circuit
+        int edge = edgeStack[--stackSize];
+        if (edge >= 0) {
+          circuit[circuitSize++] = edge;
+        }
       }
     }
 
-    // Reverse to get correct order
-    Collections.reverse(circuit);
-    return circuit;
-  }
-
-  private void checkEulerianPath(List<Vertex> eulerianPath) {
-    Vertex first = eulerianPath.get(0);
-    Vertex last = eulerianPath.get(eulerianPath.size() - 1);
-
-    if (!first.equals(last)) {
-      throw new RuntimeException(
-          "Invalid eulerian path. Path must start and end with origin vertex!");
+    // Edges were popped in reverse order
+    List<Edge> eulerianCircuit = new ArrayList<>(circuitSize);
+    for (int i = circuitSize - 1; i >= 0; i--) {
+      eulerianCircuit.add(edges[circuit[i]]);
     }
+    return eulerianCircuit;
+  }
 
-    int expectedMinPathSize = graph.getEdges().size() + 1;
-    if (eulerianPath.size() < expectedMinPathSize) {
+  /**
+   * Checks the circuit and collects its vertices and total cost, all in one pass over the edges.
+   *
+   * @param origin the vertex the circuit must start and end at
+   * @param eulerianCircuit the edges of the circuit, in traversal order
+   * @param eulerianPath receives the vertices of the circuit, origin included at both ends
+   * @return the total cost of the circuit
+   * @throws RuntimeException if the circuit skips an edge of the graph, is not a closed walk or
+   *     does not start and end at {@code origin}
+   * @complexity O(E)
+   */
+  private double walkEulerianCircuit(
+      Vertex origin, List<Edge> eulerianCircuit, List<Vertex> eulerianPath) {
+    if (eulerianCircuit.size() < graph.getEdges().size()) {
       throw new RuntimeException("Invalid eulerian path. Path is missing edge(s)!");
     }
-  }
 
-  private double calculatePathCost(List<Vertex> path) {
     double totalCost = 0.0;
-    if (path.size() < 2) {
-      return totalCost;
-    }
+    Vertex current = origin;
+    eulerianPath.add(origin);
 
-    // Create a copy of edges for modification
-    Set<Edge> remainingEdges = new HashSet<>(graph.getEdges());
-
-    for (int i = 0; i < path.size() - 1; i++) {
-      Vertex from = path.get(i);
-      Vertex to = path.get(i + 1);
-
-      Optional<Edge> optEdge = findUnusedEdge(from, to, remainingEdges);
-      if (optEdge.isPresent()) {
-        Edge edge = optEdge.get();
-        remainingEdges.remove(edge);
-        totalCost += edge.getWeight();
+    for (Edge edge : eulerianCircuit) {
+      if (!edge.getSource().equals(current)) {
+        throw new RuntimeException("Invalid eulerian path. Consecutive edges are not connected!");
       }
+      current = edge.getTarget();
+      eulerianPath.add(current);
+      totalCost += edge.getWeight();
     }
 
-    return totalCost;
-  }
-
-  private Optional<Edge> findUnusedEdge(Vertex vertex, Set<Edge> remainingEdges) {
-    for (Edge edge : remainingEdges) {
-      if (edge.getSource().equals(vertex)) {
-        return Optional.of(edge);
-      }
-    }
-    return Optional.empty();
-  }
-
-  private Optional<Edge> findUnusedEdge(Vertex from, Vertex to, Set<Edge> remainingEdges) {
-    for (Edge edge : remainingEdges) {
-      if ((edge.getSource().equals(from) && edge.getTarget().equals(to))) {
-        return Optional.of(edge);
-      }
+    if (!current.equals(origin)) {
+      throw new RuntimeException(
+          "Invalid eulerian path. Path must start and end with origin vertex!");
     }
-    return Optional.empty();
+    return totalCost;
   }
 }
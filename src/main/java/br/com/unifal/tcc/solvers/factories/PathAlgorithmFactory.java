@@ -1,7 +1,16 @@
 package br.com.unifal.tcc.solvers.factories;
 
+import br.com.unifal.tcc.algorithms.AltAlgorithm;
+import br.com.unifal.tcc.algorithms.BatchedDijkstraAlgorithm;
+import br.com.unifal.tcc.algorithms.BidirectionalDijkstraAlgorithm;
+import br.com.unifal.tcc.algorithms.CachingShortestPathAlgorithm;
+import br.com.unifal.tcc.algorithms.ContractionHierarchyAlgorithm;
+import br.com.unifal.tcc.algorithms.DeltaSteppingAlgorithm;
+import br.com.unifal.tcc.algorithms.DenseMatrixAlgorithm;
+import br.com.unifal.tcc.algorithms.DijkstraHeapAlgorithm;
 import br.com.unifal.tcc.algorithms.DijkstraListAlgorithm;
 import br.com.unifal.tcc.algorithms.DijkstraPqAlgorithm;
+import br.com.unifal.tcc.algorithms.RadixHeapAlgorithm;
 import br.com.unifal.tcc.algorithms.SSSPAlgorithm;
 import br.com.unifal.tcc.algorithms.interfaces.ShortestPathAlgorithm;
 
@@ -12,18 +21,76 @@ public enum PathAlgorithmFactory {
       return new DijkstraPqAlgorithm();
     }
   },
+  DIJKSTRA_HEAP {
+    @Override
+    public ShortestPathAlgorithm createAlgorithm() {
+      return new DijkstraHeapAlgorithm();
+    }
+  },
+  BATCHED_DIJKSTRA {
+    @Override
+    public ShortestPathAlgorithm createAlgorithm() {
+      return new BatchedDijkstraAlgorithm();
+    }
+  },
   DIJKSTRA_LIST {
     @Override
     public ShortestPathAlgorithm createAlgorithm() {
       return new DijkstraListAlgorithm();
     }
   },
+  RADIX_HEAP {
+    @Override
+    public ShortestPathAlgorithm createAlgorithm() {
+      return new RadixHeapAlgorithm();
+    }
+  },
   SSSP {
     @Override
     public ShortestPathAlgorithm createAlgorithm() {
       return new SSSPAlgorithm();
     }
+  },
+  BIDIRECTIONAL_DIJKSTRA {
+    @Override
+    public ShortestPathAlgorithm createAlgorithm() {
+      return new BidirectionalDijkstraAlgorithm();
+    }
+  },
+  ALT {
+    @Override
+    public ShortestPathAlgorithm createAlgorithm() {
+      return new AltAlgorithm();
+    }
+  },
+  CONTRACTION_HIERARCHY {
+    @Override
+    public ShortestPathAlgorithm createAlgorithm() {
+      return new ContractionHierarchyAlgorithm();
+    }
+  },
+  DELTA_STEPPING {
+    @Override
+    public ShortestPathAlgorithm createAlgorithm() {
+      return new DeltaSteppingAlgorithm();
+    }
+  },
+  DENSE_MATRIX {
+    @Override
+    public ShortestPathAlgorithm createAlgorithm() {
+      return new DenseMatrixAlgorithm();
+    }
   };
 
   public abstract ShortestPathAlgorithm createAlgorithm();
+
+  /**
+   * Creates the algorithm behind a {@link CachingShortestPathAlgorithm}, for workloads that query
+   * the same sources of an unchanged graph repeatedly.
+   *
+   * @param memoryBudgetBytes the largest number of bytes the cached shortest path trees may take
+   */
+  public ShortestPathAlgorithm createCachedAlgorithm(long memoryBudgetBytes) {
+    return new CachingShortestPathAlgorithm(createAlgorithm(), memoryBudgetBytes);
+  }
 }
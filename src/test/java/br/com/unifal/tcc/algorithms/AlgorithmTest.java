@@ -1,14 +1,27 @@
 package br.com.unifal.tcc.algorithms;
 
+import static br.com.unifal.tcc.algorithms.ShortestPathTreeAssertions.assertShortestPathTree;
+import static br.com.unifal.tcc.algorithms.ShortestPathTreeAssertions.countSettled;
+import static br.com.unifal.tcc.algorithms.ShortestPathTreeAssertions.minWeight;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import br.com.unifal.tcc.algorithms.dto.IndexedDistancePredecessorMap;
 import br.com.unifal.tcc.algorithms.interfaces.ShortestPathAlgorithm;
 import br.com.unifal.tcc.fixtures.model.graph.GraphFixture;
+import br.com.unifal.tcc.generators.GraphTopology;
+import br.com.unifal.tcc.model.graph.CsrGraph;
 import br.com.unifal.tcc.model.graph.Graph;
 import br.com.unifal.tcc.model.graph.Vertex;
 import br.com.unifal.tcc.model.dto.PathResult;
+import br.com.unifal.tcc.solvers.factories.PathAlgorithmFactory;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -84,4 +97,238 @@ public class AlgorithmTest {
       assertEquals(1, results.size(), () -> String.format("Mismatch! Source: %s ", source.getId()));
     }
   }
+
+  @Test
+  void givenCsrGraph_whenGetDistances_thenMustMatchDistanceMap() {
+    CsrGraph csrGraph = graph.toCsrGraph();
+
+    for (PathAlgorithmFactory algorithmType : PathAlgorithmFactory.values()) {
+      try (ShortestPathAlgorithm algorithm = algorithmType.createAlgorithm()) {
+        for (int source = 0; source < csrGraph.getVertexCount(); source++) {
+          Map<Vertex, Double> distanceMap =
+              algorithm.getDistanceMap(graph, csrGraph.getVertex(source));
+          double[] distances = algorithm.getDistances(csrGraph, source);
+
+          for (int target = 0; target < csrGraph.getVertexCount(); target++) {
+            assertEquals(
+                distanceMap.getOrDefault(csrGraph.getVertex(target), Double.POSITIVE_INFINITY),
+                distances[target],
+                algorithm.getName());
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  void givenEveryFactoryAlgorithm_whenSearchShortestPath_thenMustMatchDijkstraPq() {
+    Set<Vertex> vertexSet = graph.getVerticesSet();
+
+    for (PathAlgorithmFactory algorithmType : PathAlgorithmFactory.values()) {
+      try (ShortestPathAlgorithm algorithm = algorithmType.createAlgorithm()) {
+        for (Vertex source : vertexSet) {
+          assertEquals(
+              dijkstraPqAlgorithm.getDistanceMap(graph, source),
+              algorithm.getDistanceMap(graph, source),
+              algorithm.getName());
+
+          for (Vertex target : vertexSet) {
+            assertShortestPath(
+                dijkstraPqAlgorithm.findShortestPath(graph, source, target),
+                algorithm.findShortestPath(graph, source, target),
+                String.format(
+                    "Mismatch! Algorithm: %s | Source: %s | Target: %s",
+                    algorithm.getName(), source.getId(), target.getId()));
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  void givenGeneratedGraphs_whenGetDistances_thenEveryFactoryAlgorithmMustMatchDijkstraPq() {
+    for (GraphTopology topology : GraphTopology.values()) {
+      CsrGraph csrGraph = GraphFixture.getGeneratedGraphFixture(topology, 40).toCsrGraph();
+
+      for (int source = 0; source < csrGraph.getVertexCount(); source += 37) {
+        double[] expected = dijkstraPqAlgorithm.getDistances(csrGraph, source);
+
+        for (PathAlgorithmFactory algorithmType : PathAlgorithmFactory.values()) {
+          try (ShortestPathAlgorithm algorithm = algorithmType.createAlgorithm()) {
+            assertArrayEquals(
+                expected,
+                algorithm.getDistances(csrGraph, source),
+                () ->
+                    String.format(
+                        "Mismatch! Algorithm: %s | Topology: %s", algorithm.getName(), topology));
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  void givenGeneratedGraphs_whenGetDistanceMatrix_thenEveryRowMustMatchGetDistances() {
+    for (GraphTopology topology : GraphTopology.values()) {
+      CsrGraph csrGraph = GraphFixture.getGeneratedGraphFixture(topology, 40).toCsrGraph();
+      // More than one batch, the last one partial, and a repeated source
+      int[] sources = new int[21];
+      for (int i = 0; i < sources.length - 1; i++) {
+        sources[i] = i * 19 % csrGraph.getVertexCount();
+      }
+      sources[sources.length - 1] = sources[0];
+
+      for (PathAlgorithmFactory algorithmType : PathAlgorithmFactory.values()) {
+        try (ShortestPathAlgorithm algorithm = algorithmType.createAlgorithm()) {
+          double[][] rows = algorithm.getDistanceMatrix(csrGraph, sources);
+
+          for (int i = 0; i < sources.length; i++) {
+            assertArrayEquals(
+                dijkstraPqAlgorithm.getDistances(csrGraph, sources[i]),
+                rows[i],
+                String.format(
+                    "Mismatch! Algorithm: %s | Topology: %s", algorithm.getName(), topology));
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  void givenTiesAndZeroWeights_whenSssp_thenMustMatchDijkstraWithAcyclicPredecessors() {
+    Random random = new Random(7);
+    ShortestPathAlgorithm dijkstraHeapAlgorithm = new DijkstraHeapAlgorithm();
+
+    for (int trial = 0; trial < 50; trial++) {
+      CsrGraph csrGraph = GraphFixture.getRandomTiedGraphFixture(trial, 2 + random.nextInt(300));
+      IndexedDistancePredecessorMap result =
+          new IndexedDistancePredecessorMap(csrGraph.getVertexCount());
+
+      for (int source = 0; source < csrGraph.getVertexCount(); source += 7) {
+        ssspAlgorithm.computeDistancePredecessorMap(csrGraph, source, result);
+
+        assertShortestPathTree(
+            csrGraph,
+            source,
+            dijkstraHeapAlgorithm.getDistances(csrGraph, source),
+            result,
+            "trial " + trial);
+      }
+    }
+  }
+
+  @Test
+  void givenTargets_whenComputeDistancePredecessorMap_thenTargetsMustMatchFullSearch() {
+    CsrGraph csrGraph =
+        GraphFixture.getGeneratedGraphFixture(GraphTopology.RANDOM_SPARSE, 40).toCsrGraph();
+    int[] targets = {3, 150, 151, 399, 3};
+
+    for (PathAlgorithmFactory algorithmType : PathAlgorithmFactory.values()) {
+      try (ShortestPathAlgorithm algorithm = algorithmType.createAlgorithm()) {
+        IndexedDistancePredecessorMap full =
+            new IndexedDistancePredecessorMap(csrGraph.getVertexCount());
+        IndexedDistancePredecessorMap targeted =
+            new IndexedDistancePredecessorMap(csrGraph.getVertexCount());
+
+        for (int source = 0; source < csrGraph.getVertexCount(); source += 37) {
+          algorithm.computeDistancePredecessorMap(csrGraph, source, full);
+          algorithm.computeDistancePredecessorMap(csrGraph, source, targets, targeted);
+
+          for (int target : targets) {
+            assertEquals(
+                full.getDistance(target), targeted.getDistance(target), algorithm.getName());
+            assertEquals(
+                full.getPath(csrGraph, target),
+                targeted.getPath(csrGraph, target),
+                algorithm.getName());
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  void givenNearbyTarget_whenComputeDistancePredecessorMap_thenDijkstraMustStopEarly() {
+    CsrGraph csrGraph = GraphFixture.getGeneratedGraphFixture(GraphTopology.GRID, 0).toCsrGraph();
+    int source = 0;
+    int[] targets = {csrGraph.target(csrGraph.edgeStart(source))};
+
+    for (ShortestPathAlgorithm algorithm :
+        new ShortestPathAlgorithm[] {
+          dijkstraPqAlgorithm, dijkstraListAlgorithm, new DijkstraHeapAlgorithm()
+        }) {
+      IndexedDistancePredecessorMap result =
+          new IndexedDistancePredecessorMap(csrGraph.getVertexCount());
+      algorithm.computeDistancePredecessorMap(csrGraph, source, targets, result);
+
+      assertTrue(result.isSettled(targets[0]), algorithm.getName());
+      assertTrue(countSettled(result) < csrGraph.getVertexCount() / 4, algorithm.getName());
+    }
+  }
+
+  @Test
+  void givenGeneratedGraphs_whenBidirectionalSearch_thenMustMatchDijkstraAndSettleFewerVertices() {
+    ShortestPathAlgorithm bidirectionalAlgorithm = new BidirectionalDijkstraAlgorithm();
+
+    for (GraphTopology topology : GraphTopology.values()) {
+      CsrGraph csrGraph = GraphFixture.getGeneratedGraphFixture(topology, 40).toCsrGraph();
+      assertSame(csrGraph, csrGraph.reverse().reverse());
+      assertEquals(csrGraph.getEdgeCount(), csrGraph.reverse().getEdgeCount());
+
+      IndexedDistancePredecessorMap expected =
+          new IndexedDistancePredecessorMap(csrGraph.getVertexCount());
+      IndexedDistancePredecessorMap actual =
+          new IndexedDistancePredecessorMap(csrGraph.getVertexCount());
+      long bidirectionalSettled = 0;
+      long unidirectionalSettled = 0;
+
+      for (int source = 0; source < csrGraph.getVertexCount(); source += 13) {
+        for (int target = 0; target < csrGraph.getVertexCount(); target += 29) {
+          int[] targets = {target};
+          dijkstraPqAlgorithm.computeDistancePredecessorMap(csrGraph, source, targets, expected);
+          bidirectionalAlgorithm.computeDistancePredecessorMap(csrGraph, source, targets, actual);
+
+          assertEquals(expected.getDistance(target), actual.getDistance(target), topology.name());
+          double cost = 0.0;
+          List<Vertex> path = actual.getPath(csrGraph, target);
+          for (int i = 0; i + 1 < path.size(); i++) {
+            int from = csrGraph.indexOf(path.get(i));
+            int to = csrGraph.indexOf(path.get(i + 1));
+            assertEquals(cost, actual.getDistance(from), topology.name());
+            cost += minWeight(csrGraph, from, to);
+          }
+          assertEquals(expected.getDistance(target), cost, topology.name());
+
+          bidirectionalSettled += countSettled(actual);
+          unidirectionalSettled += countSettled(expected);
+        }
+      }
+      assertTrue(bidirectionalSettled < unidirectionalSettled, topology.name());
+    }
+  }
+
+  /**
+   * Engines may break ties between equally short paths differently, so the path must have the
+   * expected endpoints and cost and follow edges of the graph, but may differ from the expected
+   * one.
+   */
+  private void assertShortestPath(PathResult expected, PathResult actual, String message) {
+    if (expected.equals(actual)) {
+      return;
+    }
+
+    List<Vertex> path = actual.path();
+    assertEquals(expected.cost(), actual.cost(), message);
+    assertEquals(expected.path().get(0), path.get(0), message);
+    assertEquals(
+        expected.path().get(expected.path().size() - 1), path.get(path.size() - 1), message);
+
+    double cost = 0.0;
+    for (int i = 0; i + 1 < path.size(); i++) {
+      Double weight = graph.getNeighbors(path.get(i)).get(path.get(i + 1));
+      assertNotNull(weight, message);
+      cost += weight;
+    }
+    assertEquals(expected.cost(), cost, message);
+  }
 }
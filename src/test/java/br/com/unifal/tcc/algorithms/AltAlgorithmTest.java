@@ -0,0 +1,98 @@
+package br.com.unifal.tcc.algorithms;
+
+import static br.com.unifal.tcc.algorithms.ShortestPathTreeAssertions.countSettled;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import br.com.unifal.tcc.algorithms.dto.IndexedDistancePredecessorMap;
+import br.com.unifal.tcc.algorithms.dto.Landmarks;
+import br.com.unifal.tcc.algorithms.interfaces.ShortestPathAlgorithm;
+import br.com.unifal.tcc.fixtures.model.graph.GraphFixture;
+import br.com.unifal.tcc.generators.GraphTopology;
+import br.com.unifal.tcc.model.graph.CsrGraph;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class AltAlgorithmTest {
+
+  private final ShortestPathAlgorithm dijkstraHeapAlgorithm = new DijkstraHeapAlgorithm();
+
+  @Test
+  void givenLandmarks_whenLowerBound_thenMustNotExceedDistance() {
+    CsrGraph graph =
+        GraphFixture.getGeneratedGraphFixture(GraphTopology.SCALE_FREE, 40).toCsrGraph();
+    Landmarks landmarks = Landmarks.select(graph, 8, dijkstraHeapAlgorithm);
+
+    Set<Integer> distinct = new HashSet<>();
+    for (int i = 0; i < landmarks.getLandmarkCount(); i++) {
+      distinct.add(landmarks.getLandmark(i));
+    }
+    assertEquals(8, distinct.size());
+
+    double[] fromTarget = new double[8];
+    double[] toTarget = new double[8];
+    for (int target = 0; target < graph.getVertexCount(); target += 17) {
+      landmarks.loadTarget(target, fromTarget, toTarget);
+      double[] toTargetDistances = dijkstraHeapAlgorithm.getDistances(graph.reverse(), target);
+      for (int vertex = 0; vertex < graph.getVertexCount(); vertex++) {
+        assertTrue(landmarks.lowerBound(vertex, fromTarget, toTarget) <= toTargetDistances[vertex]);
+      }
+    }
+  }
+
+  @Test
+  void givenGeneratedGraphs_whenAltSearch_thenMustMatchDijkstraAndSettleFewerVertices() {
+    ShortestPathAlgorithm altAlgorithm = new AltAlgorithm();
+
+    for (GraphTopology topology : GraphTopology.values()) {
+      CsrGraph graph = GraphFixture.getGeneratedGraphFixture(topology, 40).toCsrGraph();
+      IndexedDistancePredecessorMap expected =
+          new IndexedDistancePredecessorMap(graph.getVertexCount());
+      IndexedDistancePredecessorMap actual =
+          new IndexedDistancePredecessorMap(graph.getVertexCount());
+      long altSettled = 0;
+      long dijkstraSettled = 0;
+
+      for (int source = 0; source < graph.getVertexCount(); source += 13) {
+        for (int target = 0; target < graph.getVertexCount(); target += 29) {
+          int[] targets = {target};
+          dijkstraHeapAlgorithm.computeDistancePredecessorMap(graph, source, targets, expected);
+          altAlgorithm.computeDistancePredecessorMap(graph, source, targets, actual);
+
+          assertEquals(expected.getDistance(target), actual.getDistance(target), topology.name());
+          for (int current = target;
+              current != IndexedDistancePredecessorMap.NO_PREDECESSOR;
+              current = actual.getPredecessor(current)) {
+            assertTrue(actual.isSettled(current));
+          }
+          altSettled += countSettled(actual);
+          dijkstraSettled += countSettled(expected);
+        }
+      }
+      assertTrue(altSettled < dijkstraSettled, topology.name());
+    }
+  }
+
+  @Test
+  void givenSavedLandmarks_whenRead_thenMustEqualAndBeUsedForTheirGraph(@TempDir Path dir)
+      throws IOException {
+    CsrGraph graph = GraphFixture.getGeneratedGraphFixture(GraphTopology.GRID, 0).toCsrGraph();
+    Landmarks landmarks = Landmarks.select(graph, 4, dijkstraHeapAlgorithm);
+    Path file = dir.resolve("graph" + Landmarks.FILE_EXTENSION);
+    landmarks.write(file);
+
+    Landmarks read = Landmarks.read(file, graph);
+
+    assertEquals(landmarks, read);
+    assertSame(read, new AltAlgorithm(read).getLandmarks(graph));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> Landmarks.read(file, GraphFixture.getGraphFixture().toCsrGraph()));
+  }
+}
@@ -0,0 +1,164 @@
+package br.com.unifal.tcc.algorithms;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import br.com.unifal.tcc.algorithms.dto.DistanceMatrix;
+import br.com.unifal.tcc.algorithms.dto.IndexedDistancePredecessorMap;
+import br.com.unifal.tcc.algorithms.exceptions.UnreachableVertexException;
+import br.com.unifal.tcc.algorithms.interfaces.ShortestPathAlgorithm;
+import br.com.unifal.tcc.algorithms.interfaces.ShortestPathTree;
+import br.com.unifal.tcc.fixtures.model.graph.GraphFixture;
+import br.com.unifal.tcc.generators.GraphTopology;
+import br.com.unifal.tcc.model.graph.CsrGraph;
+import br.com.unifal.tcc.model.graph.Graph;
+import br.com.unifal.tcc.model.graph.RealEdge;
+import br.com.unifal.tcc.model.graph.Vertex;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class CachingShortestPathAlgorithmTest {
+
+  private final ShortestPathAlgorithm dijkstraHeapAlgorithm = new DijkstraHeapAlgorithm();
+
+  @Test
+  void givenRepeatedQueries_whenFindShortestPath_thenMustHitCacheAndMatchDelegate() {
+    Graph graph = GraphFixture.getGraphFixture();
+    CachingShortestPathAlgorithm cachingAlgorithm =
+        new CachingShortestPathAlgorithm(dijkstraHeapAlgorithm, Long.MAX_VALUE);
+    List<Vertex> vertices = new ArrayList<>(graph.getVertices().values());
+
+    for (int round = 0; round < 2; round++) {
+      for (Vertex source : vertices) {
+        assertEquals(
+            dijkstraHeapAlgorithm.getDistanceMap(graph, source),
+            cachingAlgorithm.getDistanceMap(graph, source));
+        for (Vertex target : vertices) {
+          assertEquals(
+              dijkstraHeapAlgorithm.findShortestPath(graph, source, target),
+              cachingAlgorithm.findShortestPath(graph, source, target));
+        }
+      }
+    }
+
+    int vertexCount = vertices.size();
+    assertEquals(vertexCount, cachingAlgorithm.getMissCount());
+    long lookups = 2L * vertexCount * (vertexCount + 1);
+    assertEquals(lookups - vertexCount, cachingAlgorithm.getHitCount());
+    assertEquals(vertexCount, cachingAlgorithm.getCachedTreeCount());
+    assertEquals(0, cachingAlgorithm.getEvictionCount());
+  }
+
+  @Test
+  void givenSmallMemoryBudget_whenQueryManySources_thenMustEvictLeastRecentlyUsedTrees() {
+    CsrGraph graph = GraphFixture.getGraphFixture().toCsrGraph();
+    long treeBytes =
+        CachingShortestPathAlgorithm.ENTRY_OVERHEAD_BYTES
+            + (long) graph.getVertexCount() * (Double.BYTES + Integer.BYTES);
+    CachingShortestPathAlgorithm cachingAlgorithm =
+        new CachingShortestPathAlgorithm(dijkstraHeapAlgorithm, 2 * treeBytes);
+
+    cachingAlgorithm.getDistances(graph, 0);
+    cachingAlgorithm.getDistances(graph, 1);
+    cachingAlgorithm.getDistances(graph, 0); // 1 becomes the least recently used tree
+    cachingAlgorithm.getDistances(graph, 2);
+
+    assertEquals(2, cachingAlgorithm.getCachedTreeCount());
+    assertEquals(2 * treeBytes, cachingAlgorithm.getUsedBytes());
+    assertEquals(1, cachingAlgorithm.getEvictionCount());
+
+    long misses = cachingAlgorithm.getMissCount();
+    cachingAlgorithm.getDistances(graph, 0);
+    assertEquals(misses, cachingAlgorithm.getMissCount());
+    assertArrayEquals(
+        dijkstraHeapAlgorithm.getDistances(graph, 1), cachingAlgorithm.getDistances(graph, 1));
+    assertEquals(misses + 1, cachingAlgorithm.getMissCount());
+  }
+
+  @Test
+  void givenGraphChange_whenFindShortestPath_thenMustRecomputeTree() {
+    Graph graph = GraphFixture.getGraphFixture();
+    CachingShortestPathAlgorithm cachingAlgorithm =
+        new CachingShortestPathAlgorithm(dijkstraHeapAlgorithm, Long.MAX_VALUE);
+    Vertex source = graph.getVertices().get("A");
+    Vertex target = graph.getVertices().get("S");
+
+    double before = cachingAlgorithm.findShortestPath(graph, source, target).cost();
+    graph.addEdge(new RealEdge(source, target, 1d));
+
+    assertTrue(before > 1d);
+    assertEquals(1d, cachingAlgorithm.findShortestPath(graph, source, target).cost());
+    assertEquals(2, cachingAlgorithm.getMissCount());
+    assertEquals(1, cachingAlgorithm.getCachedTreeCount());
+  }
+
+  @Test
+  void givenCachedTrees_whenComputeDistanceMatrix_thenMustMatchDelegate() {
+    Graph graph = GraphFixture.getGraphFixtureV2();
+    CachingShortestPathAlgorithm cachingAlgorithm =
+        new CachingShortestPathAlgorithm(dijkstraHeapAlgorithm, Long.MAX_VALUE);
+    List<Vertex> vertices = new ArrayList<>(graph.getVertices().values());
+
+    DistanceMatrix expected =
+        DistanceMatrix.compute(graph, vertices, vertices, dijkstraHeapAlgorithm);
+    for (int round = 0; round < 2; round++) {
+      DistanceMatrix actual = DistanceMatrix.compute(graph, vertices, vertices, cachingAlgorithm);
+      for (int row = 0; row < vertices.size(); row++) {
+        for (int column = 0; column < vertices.size(); column++) {
+          assertEquals(expected.getDistance(row, column), actual.getDistance(row, column));
+          if (expected.getDistance(row, column) < Double.POSITIVE_INFINITY) {
+            assertEquals(expected.getPath(row, column), actual.getPath(row, column));
+          } else {
+            int finalRow = row;
+            int finalColumn = column;
+            assertThrows(
+                UnreachableVertexException.class, () -> actual.getPath(finalRow, finalColumn));
+          }
+        }
+      }
+    }
+    assertEquals(vertices.size(), cachingAlgorithm.getMissCount());
+  }
+
+  @Test
+  void givenBatchedDelegate_whenGetDistanceMatrix_thenMustSearchMissesTogetherAndCacheThem() {
+    CsrGraph csrGraph =
+        GraphFixture.getGeneratedGraphFixture(GraphTopology.RANDOM_SPARSE, 40).toCsrGraph();
+    List<Integer> searchedSources = new ArrayList<>();
+    ShortestPathAlgorithm batchedAlgorithm =
+        new BatchedDijkstraAlgorithm() {
+          @Override
+          public void computeShortestPathTrees(
+              CsrGraph graph,
+              int[] sources,
+              IndexedDistancePredecessorMap scratch,
+              ObjIntConsumer<ShortestPathTree> consumer) {
+            searchedSources.add(sources.length);
+            super.computeShortestPathTrees(graph, sources, scratch, consumer);
+          }
+        };
+    CachingShortestPathAlgorithm cachingAlgorithm =
+        new CachingShortestPathAlgorithm(batchedAlgorithm, Long.MAX_VALUE);
+    int[] sources = IntStream.range(0, 40).map(i -> i * 7).toArray();
+    cachingAlgorithm.getDistances(csrGraph, sources[3]);
+
+    double[][] rows = cachingAlgorithm.getDistanceMatrix(csrGraph, sources);
+
+    assertEquals(MultiSourceDijkstra.LANES, cachingAlgorithm.getBatchSize());
+    for (int i = 0; i < sources.length; i++) {
+      assertArrayEquals(dijkstraHeapAlgorithm.getDistances(csrGraph, sources[i]), rows[i]);
+    }
+    assertEquals(List.of(sources.length - 1), searchedSources);
+    assertEquals(sources.length, cachingAlgorithm.getCachedTreeCount());
+
+    cachingAlgorithm.getDistanceMatrix(csrGraph, sources);
+
+    assertEquals(List.of(sources.length - 1, 0), searchedSources);
+    assertEquals(1 + sources.length, cachingAlgorithm.getHitCount());
+  }
+}
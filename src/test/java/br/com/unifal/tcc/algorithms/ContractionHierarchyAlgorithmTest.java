@@ -0,0 +1,93 @@
+package br.com.unifal.tcc.algorithms;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import br.com.unifal.tcc.algorithms.contraction.ContractionHierarchy;
+import br.com.unifal.tcc.algorithms.dto.IndexedDistancePredecessorMap;
+import br.com.unifal.tcc.algorithms.interfaces.ShortestPathAlgorithm;
+import br.com.unifal.tcc.fixtures.model.graph.GraphFixture;
+import br.com.unifal.tcc.generators.GraphTopology;
+import br.com.unifal.tcc.model.graph.CsrGraph;
+import java.io.IOException;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ContractionHierarchyAlgorithmTest {
+
+  private final ShortestPathAlgorithm dijkstraHeapAlgorithm = new DijkstraHeapAlgorithm();
+
+  @Test
+  void givenGeneratedGraphs_whenHierarchySearch_thenMustMatchDijkstraWithOriginalEdges() {
+    for (GraphTopology topology : GraphTopology.values()) {
+      CsrGraph graph = GraphFixture.getGeneratedGraphFixture(topology, 40).toCsrGraph();
+      ShortestPathAlgorithm hierarchyAlgorithm = new ContractionHierarchyAlgorithm(2);
+      IndexedDistancePredecessorMap expected =
+          new IndexedDistancePredecessorMap(graph.getVertexCount());
+      IndexedDistancePredecessorMap actual =
+          new IndexedDistancePredecessorMap(graph.getVertexCount());
+
+      for (int source = 0; source < graph.getVertexCount(); source += 11) {
+        dijkstraHeapAlgorithm.computeDistancePredecessorMap(graph, source, expected);
+        for (int target = 0; target < graph.getVertexCount(); target += 7) {
+          hierarchyAlgorithm.computeDistancePredecessorMap(
+              graph, source, new int[] {target}, actual);
+
+          assertEquals(expected.getDistance(target), actual.getDistance(target), topology.name());
+          if (actual.isReached(target)) {
+            assertOriginalPath(graph, source, target, actual);
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  void givenDifferentParallelism_whenBuild_thenMustContractIdentically() {
+    CsrGraph graph = GraphFixture.getGeneratedGraphFixture(GraphTopology.GRID, 0).toCsrGraph();
+
+    ContractionHierarchy sequential = ContractionHierarchy.build(graph, 1);
+    ContractionHierarchy parallel = ContractionHierarchy.build(graph, 4);
+
+    assertEquals(sequential, parallel);
+    assertTrue(sequential.getShortcutCount() > 0);
+  }
+
+  @Test
+  void givenSavedHierarchy_whenRead_thenMustEqualAndBeUsedForItsGraph(@TempDir Path dir)
+      throws IOException {
+    CsrGraph graph = GraphFixture.getGeneratedGraphFixture(GraphTopology.GRID, 0).toCsrGraph();
+    ContractionHierarchy hierarchy = ContractionHierarchy.build(graph, 2);
+    Path file = dir.resolve("graph" + ContractionHierarchy.FILE_EXTENSION);
+    hierarchy.write(file);
+
+    ContractionHierarchy read = ContractionHierarchy.read(file, graph);
+
+    assertEquals(hierarchy, read);
+    assertSame(read, new ContractionHierarchyAlgorithm(read).getHierarchy(graph));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> ContractionHierarchy.read(file, GraphFixture.getGraphFixture().toCsrGraph()));
+  }
+
+  /** Checks that the settled path to {@code target} follows graph edges and adds up. */
+  private static void assertOriginalPath(
+      CsrGraph graph, int source, int target, IndexedDistancePredecessorMap result) {
+    int current = target;
+    while (current != source) {
+      int predecessor = result.getPredecessor(current);
+      assertTrue(result.isSettled(current));
+
+      double step = result.getDistance(current) - result.getDistance(predecessor);
+      boolean edgeFound = false;
+      for (int edge = graph.edgeStart(predecessor); edge < graph.edgeEnd(predecessor); edge++) {
+        edgeFound |= graph.target(edge) == current && graph.weight(edge) == step;
+      }
+      assertTrue(edgeFound, predecessor + " -> " + current);
+      current = predecessor;
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package br.com.unifal.tcc.algorithms;
+
+import static br.com.unifal.tcc.algorithms.ShortestPathTreeAssertions.assertShortestPathTree;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import br.com.unifal.tcc.algorithms.dto.IndexedDistancePredecessorMap;
+import br.com.unifal.tcc.algorithms.interfaces.ShortestPathAlgorithm;
+import br.com.unifal.tcc.fixtures.model.graph.GraphFixture;
+import br.com.unifal.tcc.generators.GraphGenerator;
+import br.com.unifal.tcc.generators.GraphTopology;
+import br.com.unifal.tcc.generators.dto.GraphSpec;
+import br.com.unifal.tcc.model.graph.CsrGraph;
+import java.util.Random;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class DeltaSteppingAlgorithmTest {
+
+  private final ShortestPathAlgorithm dijkstraHeapAlgorithm = new DijkstraHeapAlgorithm();
+
+  // Four workers on graphs large enough for their frontiers to be split into chunks
+  private final DeltaSteppingAlgorithm deltaSteppingAlgorithm = new DeltaSteppingAlgorithm(4);
+
+  @AfterEach
+  void closeAlgorithm() {
+    deltaSteppingAlgorithm.close();
+  }
+
+  @Test
+  void givenGeneratedGraphs_whenDeltaStepping_thenMustMatchDijkstraWithTightPredecessors() {
+    for (GraphTopology topology : GraphTopology.values()) {
+      CsrGraph graph = GraphGenerator.toGraph(GraphSpec.of(topology, 20_000, 4)).toCsrGraph();
+
+      for (int source = 0; source < graph.getVertexCount(); source += 6_997) {
+        assertMatchesDijkstra(graph, source, topology.name());
+      }
+    }
+  }
+
+  @Test
+  void givenTiesAndZeroWeights_whenDeltaStepping_thenMustMatchDijkstraWithAcyclicPredecessors() {
+    Random random = new Random(7);
+
+    for (int trial = 0; trial < 20; trial++) {
+      CsrGraph graph = GraphFixture.getRandomTiedGraphFixture(trial, 2 + random.nextInt(5_000));
+
+      assertMatchesDijkstra(graph, random.nextInt(graph.getVertexCount()), "trial " + trial);
+    }
+  }
+
+  @Test
+  void givenNonPositiveParallelism_whenCreatingAlgorithm_thenMustThrow() {
+    assertThrows(IllegalArgumentException.class, () -> new DeltaSteppingAlgorithm(0));
+  }
+
+  @Test
+  void givenClosedAlgorithm_whenSearchSplitsFrontier_thenMustThrow() {
+    CsrGraph graph =
+        GraphGenerator.toGraph(GraphSpec.of(GraphTopology.RANDOM_SPARSE, 20_000, 4)).toCsrGraph();
+    IndexedDistancePredecessorMap result = new IndexedDistancePredecessorMap(graph.getVertexCount());
+
+    deltaSteppingAlgorithm.close();
+
+    assertThrows(
+        RejectedExecutionException.class,
+        () -> deltaSteppingAlgorithm.computeDistancePredecessorMap(graph, 0, result));
+  }
+
+  private void assertMatchesDijkstra(CsrGraph graph, int source, String message) {
+    IndexedDistancePredecessorMap actual =
+        new IndexedDistancePredecessorMap(graph.getVertexCount());
+    deltaSteppingAlgorithm.computeDistancePredecessorMap(graph, source, actual);
+
+    assertShortestPathTree(
+        graph, source, dijkstraHeapAlgorithm.getDistances(graph, source), actual, message);
+  }
+}
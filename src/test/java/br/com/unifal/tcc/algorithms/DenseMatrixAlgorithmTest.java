@@ -0,0 +1,105 @@
+package br.com.unifal.tcc.algorithms;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import br.com.unifal.tcc.algorithms.dense.DenseKernel;
+import br.com.unifal.tcc.algorithms.dense.DenseMatrix;
+import br.com.unifal.tcc.algorithms.dto.IndexedDistancePredecessorMap;
+import br.com.unifal.tcc.algorithms.interfaces.ShortestPathAlgorithm;
+import br.com.unifal.tcc.model.graph.CsrGraph;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class DenseMatrixAlgorithmTest {
+
+  private final ShortestPathAlgorithm dijkstraHeapAlgorithm = new DijkstraHeapAlgorithm();
+
+  @Test
+  void givenNearCompleteGraph_whenDenseSearch_thenMustMatchDijkstraWithEitherKernel() {
+    // An odd vertex count leaves a tail shorter than any vector register
+    CsrGraph graph = getNearCompleteGraph(601, new Random(11));
+
+    for (DenseKernel kernel : List.of(DenseKernel.scalar(), DenseKernel.best())) {
+      DenseMatrixAlgorithm denseAlgorithm = new DenseMatrixAlgorithm(kernel);
+      DenseMatrix matrix = denseAlgorithm.getMatrix(graph);
+      IndexedDistancePredecessorMap expected =
+          new IndexedDistancePredecessorMap(graph.getVertexCount());
+      IndexedDistancePredecessorMap actual =
+          new IndexedDistancePredecessorMap(graph.getVertexCount());
+
+      for (int source = 0; source < graph.getVertexCount(); source += 97) {
+        dijkstraHeapAlgorithm.computeDistancePredecessorMap(graph, source, expected);
+        denseAlgorithm.computeDistancePredecessorMap(graph, source, actual);
+
+        for (int vertex = 0; vertex < graph.getVertexCount(); vertex++) {
+          assertEquals(expected.getDistance(vertex), actual.getDistance(vertex), kernel.getName());
+          if (vertex != source && actual.isReached(vertex)) {
+            int predecessor = actual.getPredecessor(vertex);
+            assertEquals(
+                actual.getDistance(vertex),
+                actual.getDistance(predecessor) + matrix.getWeight(predecessor, vertex),
+                kernel.getName());
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  void givenTarget_whenDenseSearch_thenMustStopOnceItIsSettled() {
+    CsrGraph graph = getNearCompleteGraph(300, new Random(5));
+    ShortestPathAlgorithm denseAlgorithm = new DenseMatrixAlgorithm();
+    IndexedDistancePredecessorMap expected =
+        new IndexedDistancePredecessorMap(graph.getVertexCount());
+    IndexedDistancePredecessorMap actual =
+        new IndexedDistancePredecessorMap(graph.getVertexCount());
+
+    dijkstraHeapAlgorithm.computeDistancePredecessorMap(graph, 0, expected);
+    int target = 1;
+    for (int vertex = 1; vertex < graph.getVertexCount(); vertex++) {
+      if (expected.getDistance(vertex) < expected.getDistance(target)) {
+        target = vertex;
+      }
+    }
+    denseAlgorithm.computeDistancePredecessorMap(graph, 0, new int[] {target}, actual);
+
+    assertEquals(expected.getDistance(target), actual.getDistance(target));
+    int settled = 0;
+    for (int vertex = 0; vertex < graph.getVertexCount(); vertex++) {
+      settled += actual.isSettled(vertex) ? 1 : 0;
+    }
+    assertTrue(settled < graph.getVertexCount());
+  }
+
+  @Test
+  void givenGraphAboveMatrixLimit_whenSearch_thenMustFallBackToDijkstra() {
+    CsrGraph.Builder builder = CsrGraph.builder();
+    for (int vertex = 0; vertex < DenseMatrix.MAX_VERTEX_COUNT; vertex++) {
+      builder.addEdge("v" + vertex, "v" + (vertex + 1), 1.0);
+    }
+    CsrGraph graph = builder.build();
+    DenseMatrixAlgorithm denseAlgorithm = new DenseMatrixAlgorithm();
+
+    assertThrows(IllegalArgumentException.class, () -> denseAlgorithm.getMatrix(graph));
+    int last = graph.indexOf(graph.getVertex(graph.getVertexCount() - 1));
+    assertEquals(
+        dijkstraHeapAlgorithm.getDistances(graph, 0)[last],
+        denseAlgorithm.getDistances(graph, 0)[last]);
+  }
+
+  /** Returns a graph with about 90% of all arcs and integer weights 0 to 9, so with many ties. */
+  private static CsrGraph getNearCompleteGraph(int vertexCount, Random random) {
+    CsrGraph.Builder builder = CsrGraph.builder();
+    for (int from = 0; from < vertexCount; from++) {
+      for (int to = 0; to < vertexCount; to++) {
+        if (from != to && random.nextInt(10) != 0) {
+          builder.addEdge("v" + from, "v" + to, random.nextInt(10));
+        }
+      }
+    }
+    return builder.build();
+  }
+}
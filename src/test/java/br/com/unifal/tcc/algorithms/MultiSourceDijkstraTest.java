@@ -0,0 +1,113 @@
+package br.com.unifal.tcc.algorithms;
+
+import static br.com.unifal.tcc.algorithms.ShortestPathTreeAssertions.assertShortestPathTree;
+import static br.com.unifal.tcc.algorithms.ShortestPathTreeAssertions.countSettled;
+import static br.com.unifal.tcc.algorithms.ShortestPathTreeAssertions.minWeight;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import br.com.unifal.tcc.algorithms.dto.IndexedDistancePredecessorMap;
+import br.com.unifal.tcc.algorithms.interfaces.ShortestPathAlgorithm;
+import br.com.unifal.tcc.fixtures.model.graph.GraphFixture;
+import br.com.unifal.tcc.generators.GraphTopology;
+import br.com.unifal.tcc.model.graph.CsrGraph;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class MultiSourceDijkstraTest {
+
+  private final ShortestPathAlgorithm dijkstraHeapAlgorithm = new DijkstraHeapAlgorithm();
+  private final ShortestPathAlgorithm batchedAlgorithm = new BatchedDijkstraAlgorithm();
+
+  @Test
+  void givenTiesZeroWeightsAndUnreachableVertices_whenBatch_thenEveryLaneMustMatchDijkstra() {
+    Random random = new Random(13);
+
+    for (int trial = 0; trial < 30; trial++) {
+      CsrGraph graph = GraphFixture.getRandomTiedGraphFixture(trial, 2 + random.nextInt(400));
+      // Two full blocks and a partial one
+      int[] sources =
+          random.ints(2 * MultiSourceDijkstra.LANES + 3, 0, graph.getVertexCount()).toArray();
+      int[] visits = new int[sources.length];
+      String message = "trial " + trial;
+
+      batchedAlgorithm.computeShortestPathTrees(
+          graph,
+          sources,
+          new IndexedDistancePredecessorMap(graph.getVertexCount()),
+          (tree, i) -> {
+            visits[i]++;
+            assertShortestPathTree(
+                graph,
+                sources[i],
+                dijkstraHeapAlgorithm.getDistances(graph, sources[i]),
+                tree,
+                message);
+          });
+
+      int[] once = new int[sources.length];
+      Arrays.fill(once, 1);
+      assertArrayEquals(once, visits, message);
+    }
+  }
+
+  @Test
+  void givenTargets_whenBatch_thenTargetsMustBeSettledWithFinalPaths() {
+    CsrGraph graph = GraphFixture.getGeneratedGraphFixture(GraphTopology.GRID, 0).toCsrGraph();
+    // The vertices closest to vertex 0 as sources, and the next closest ones as targets
+    double[] distances = dijkstraHeapAlgorithm.getDistances(graph, 0);
+    int[] byDistance =
+        IntStream.range(0, graph.getVertexCount())
+            .boxed()
+            .sorted(Comparator.comparingDouble(vertex -> distances[vertex]))
+            .mapToInt(Integer::intValue)
+            .toArray();
+    int[] sources = Arrays.copyOfRange(byDistance, 0, MultiSourceDijkstra.LANES);
+    int[] targets = Arrays.copyOfRange(byDistance, MultiSourceDijkstra.LANES, 20);
+    double[][] full = dijkstraHeapAlgorithm.getDistanceMatrix(graph, sources);
+
+    batchedAlgorithm.computeShortestPathTrees(
+        graph,
+        sources,
+        targets,
+        new IndexedDistancePredecessorMap(graph.getVertexCount()),
+        (tree, i) -> {
+          for (int vertex = 0; vertex < graph.getVertexCount(); vertex++) {
+            if (tree.isSettled(vertex)) {
+              assertEquals(full[i][vertex], tree.getDistance(vertex));
+            }
+          }
+          for (int target : targets) {
+            assertTrue(tree.isSettled(target));
+            double cost = 0.0;
+            int current = target;
+            for (int steps = 0;
+                steps < graph.getVertexCount()
+                    && tree.getPredecessor(current) != IndexedDistancePredecessorMap.NO_PREDECESSOR;
+                steps++) {
+              cost += minWeight(graph, tree.getPredecessor(current), current);
+              current = tree.getPredecessor(current);
+            }
+            assertEquals(sources[i], current);
+            assertEquals(full[i][target], cost);
+          }
+          assertTrue(countSettled(tree) < graph.getVertexCount() / 2);
+        });
+  }
+
+  @Test
+  void givenRepeatedSources_whenOrderByLocality_thenMustReturnEveryPositionOnce() {
+    CsrGraph graph =
+        GraphFixture.getGeneratedGraphFixture(GraphTopology.SCALE_FREE, 40).toCsrGraph();
+    int[] sources = new Random(3).ints(500, 0, graph.getVertexCount()).toArray();
+
+    int[] order = MultiSourceDijkstra.orderByLocality(graph, sources);
+
+    Arrays.sort(order);
+    assertArrayEquals(IntStream.range(0, sources.length).toArray(), order);
+  }
+}
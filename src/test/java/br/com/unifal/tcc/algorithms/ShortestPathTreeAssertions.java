@@ -0,0 +1,73 @@
+package br.com.unifal.tcc.algorithms;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import br.com.unifal.tcc.algorithms.dto.IndexedDistancePredecessorMap;
+import br.com.unifal.tcc.algorithms.interfaces.ShortestPathTree;
+import br.com.unifal.tcc.model.graph.CsrGraph;
+
+/** Checks shared by the tests of every engine that fills shortest path trees. */
+final class ShortestPathTreeAssertions {
+
+  private ShortestPathTreeAssertions() {}
+
+  /**
+   * Asserts that {@code actual} holds the expected distances from {@code source} and that its
+   * predecessors form a shortest path tree rooted there: every other reached vertex is settled,
+   * joined to its predecessor by an edge on a shortest path and led back to the source without a
+   * cycle.
+   */
+  static void assertShortestPathTree(
+      CsrGraph graph,
+      int source,
+      double[] expectedDistances,
+      ShortestPathTree actual,
+      String message) {
+    assertArrayEquals(expectedDistances, actual.toDistanceArray(), message);
+    for (int vertex = 0; vertex < graph.getVertexCount(); vertex++) {
+      if (vertex == source || !actual.isReached(vertex)) {
+        continue;
+      }
+      int predecessor = actual.getPredecessor(vertex);
+      assertTrue(actual.isSettled(vertex), message);
+      assertEquals(
+          actual.getDistance(vertex),
+          actual.getDistance(predecessor) + minWeight(graph, predecessor, vertex),
+          message);
+      assertEquals(source, getRoot(graph, actual, vertex), message);
+    }
+  }
+
+  /** Weight of the lightest edge {@code from -> to}, infinite if there is none. */
+  static double minWeight(CsrGraph graph, int from, int to) {
+    double weight = Double.POSITIVE_INFINITY;
+    for (int edge = graph.edgeStart(from); edge < graph.edgeEnd(from); edge++) {
+      if (graph.target(edge) == to) {
+        weight = Math.min(weight, graph.weight(edge));
+      }
+    }
+    return weight;
+  }
+
+  static int countSettled(ShortestPathTree tree) {
+    int settled = 0;
+    for (int vertex = 0; vertex < tree.getVertexCount(); vertex++) {
+      settled += tree.isSettled(vertex) ? 1 : 0;
+    }
+    return settled;
+  }
+
+  /** Follows predecessors up to the root, giving up after V steps on a predecessor cycle. */
+  private static int getRoot(CsrGraph graph, ShortestPathTree result, int vertex) {
+    int current = vertex;
+    for (int steps = 0;
+        steps < graph.getVertexCount()
+            && result.getPredecessor(current) != IndexedDistancePredecessorMap.NO_PREDECESSOR;
+        steps++) {
+      current = result.getPredecessor(current);
+    }
+    return current;
+  }
+}
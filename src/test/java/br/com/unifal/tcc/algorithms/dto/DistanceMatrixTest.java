@@ -0,0 +1,109 @@
+package br.com.unifal.tcc.algorithms.dto;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import br.com.unifal.tcc.algorithms.DijkstraHeapAlgorithm;
+import br.com.unifal.tcc.algorithms.exceptions.UnreachableVertexException;
+import br.com.unifal.tcc.algorithms.interfaces.ShortestPathAlgorithm;
+import br.com.unifal.tcc.fixtures.model.graph.GraphFixture;
+import br.com.unifal.tcc.generators.GraphTopology;
+import br.com.unifal.tcc.model.dto.PathResult;
+import br.com.unifal.tcc.model.graph.CsrGraph;
+import br.com.unifal.tcc.model.graph.Graph;
+import br.com.unifal.tcc.model.graph.RealEdge;
+import br.com.unifal.tcc.model.graph.Vertex;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class DistanceMatrixTest {
+
+  private final ShortestPathAlgorithm pathAlgorithm = new DijkstraHeapAlgorithm();
+
+  @Test
+  void givenGeneratedGraph_whenCompute_thenLookupsMustMatchSingleSourceDistances() {
+    Graph graph = GraphFixture.getGeneratedGraphFixture(GraphTopology.RANDOM_SPARSE, 40);
+    CsrGraph csrGraph = graph.toCsrGraph();
+    List<Vertex> sources = getEveryNthVertex(csrGraph, 13);
+    List<Vertex> targets = getEveryNthVertex(csrGraph, 7);
+
+    DistanceMatrix matrix = DistanceMatrix.compute(graph, sources, targets, pathAlgorithm);
+    double[][] costs = matrix.toCostMatrix();
+
+    assertEquals(sources, matrix.getSources());
+    assertEquals(targets, matrix.getTargets());
+    for (int row = 0; row < sources.size(); row++) {
+      double[] distances = pathAlgorithm.getDistances(csrGraph, csrGraph.indexOf(sources.get(row)));
+      double[] expected =
+          targets.stream().mapToDouble(target -> distances[csrGraph.indexOf(target)]).toArray();
+      assertArrayEquals(expected, costs[row]);
+      for (int column = 0; column < targets.size(); column++) {
+        assertEquals(expected[column], matrix.getDistance(row, column));
+      }
+    }
+  }
+
+  @Test
+  void givenMatchedPairs_whenGetPath_thenMustWalkFromSourceToTargetAtTheMatrixCost() {
+    Graph graph = GraphFixture.getGreedyTrapGraphFixture();
+    List<Vertex> positives = List.of(new Vertex("P1"), new Vertex("P2"));
+    List<Vertex> negatives = List.of(new Vertex("N1"), new Vertex("N2"));
+
+    DistanceMatrix matrix = DistanceMatrix.compute(graph, positives, negatives, pathAlgorithm);
+
+    // The optimal matching P1-N2, P2-N1
+    assertEquals(
+        new PathResult(List.of(positives.get(0), negatives.get(1)), 2.0), matrix.getPath(0, 1));
+    assertEquals(
+        new PathResult(List.of(positives.get(1), negatives.get(0)), 2.0), matrix.getPath(1, 0));
+  }
+
+  @Test
+  void givenMultiEdgePaths_whenGetPath_thenEdgeWeightsMustAddUpToTheMatrixCost() {
+    Graph graph = GraphFixture.getGeneratedGraphFixture(GraphTopology.GRID, 20);
+    CsrGraph csrGraph = graph.toCsrGraph();
+    List<Vertex> sources = getEveryNthVertex(csrGraph, 37);
+    List<Vertex> targets = getEveryNthVertex(csrGraph, 53);
+
+    DistanceMatrix matrix = DistanceMatrix.compute(graph, sources, targets, pathAlgorithm);
+
+    for (int row = 0; row < sources.size(); row++) {
+      for (int column = 0; column < targets.size(); column++) {
+        List<Vertex> path = matrix.getPath(row, column).path();
+        assertEquals(sources.get(row), path.get(0));
+        assertEquals(targets.get(column), path.get(path.size() - 1));
+
+        double cost = 0.0;
+        for (int i = 1; i < path.size(); i++) {
+          cost += graph.getNeighbors(path.get(i - 1)).get(path.get(i));
+        }
+        assertEquals(matrix.getDistance(row, column), cost, 1e-9);
+      }
+    }
+  }
+
+  @Test
+  void givenUnreachableTarget_whenGetPath_thenMustThrow() {
+    Graph graph = new Graph();
+    graph.addEdge(new RealEdge(new Vertex("A"), new Vertex("B"), 1));
+    graph.addEdge(new RealEdge(new Vertex("B"), new Vertex("C"), 2));
+    List<Vertex> sources = List.of(new Vertex("C"), new Vertex("A"));
+    List<Vertex> targets = List.of(new Vertex("A"), new Vertex("C"));
+
+    DistanceMatrix matrix = DistanceMatrix.compute(graph, sources, targets, pathAlgorithm);
+
+    assertEquals(Double.POSITIVE_INFINITY, matrix.getDistance(0, 0));
+    assertThrows(UnreachableVertexException.class, () -> matrix.getPath(0, 0));
+    assertEquals(3.0, matrix.getPath(1, 1).cost());
+  }
+
+  private static List<Vertex> getEveryNthVertex(CsrGraph csrGraph, int step) {
+    List<Vertex> vertices = new ArrayList<>();
+    for (int vertex = 0; vertex < csrGraph.getVertexCount(); vertex += step) {
+      vertices.add(csrGraph.getVertex(vertex));
+    }
+    return vertices;
+  }
+}
@@ -0,0 +1,122 @@
+package br.com.unifal.tcc.algorithms.dto;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexedDistancePredecessorMapTest {
+
+  private static final double INF = Double.POSITIVE_INFINITY;
+
+  @Test
+  void givenUpdatesAndReset_whenReading_thenOnlyTheCurrentEpochMustBeVisible() {
+    IndexedDistancePredecessorMap map = new IndexedDistancePredecessorMap(4);
+    map.update(0, 0.0, IndexedDistancePredecessorMap.NO_PREDECESSOR);
+    map.update(2, 5.0, 0);
+    map.markSettled(2);
+
+    assertTrue(map.isReached(2));
+    assertTrue(map.isSettled(2));
+    assertEquals(5.0, map.getDistance(2));
+    assertEquals(0, map.getPredecessor(2));
+    assertFalse(map.isReached(1));
+    assertEquals(INF, map.getDistance(1));
+
+    map.reset();
+
+    assertFalse(map.isReached(2));
+    assertFalse(map.isSettled(2));
+    assertEquals(INF, map.getDistance(2));
+    assertEquals(IndexedDistancePredecessorMap.NO_PREDECESSOR, map.getPredecessor(2));
+  }
+
+  @Test
+  void givenLastEpoch_whenReset_thenOlderSlotsMustStillReadAsUnreached() {
+    IndexedDistancePredecessorMap map =
+        new IndexedDistancePredecessorMap(3, Integer.MAX_VALUE - 1);
+    map.update(1, 2.0, 0);
+    map.markSettled(1);
+    map.reset(); // Last epoch
+    map.update(2, 3.0, 1);
+    map.markSettled(2);
+
+    map.reset(); // Wraps around
+
+    for (int vertex = 0; vertex < 3; vertex++) {
+      assertFalse(map.isReached(vertex));
+      assertFalse(map.isSettled(vertex));
+    }
+    map.update(1, 4.0, 0);
+    assertEquals(4.0, map.getDistance(1));
+    assertFalse(map.isReached(2));
+  }
+
+  @Test
+  void givenTargets_whenSettled_thenMustReportAllTargetsSettledOnlyAtTheLastOne() {
+    IndexedDistancePredecessorMap map = new IndexedDistancePredecessorMap(5);
+    assertFalse(map.hasSettledAllTargets());
+
+    map.setTargets(new int[] {1, 3, 1});
+    map.markSettled(1);
+    assertFalse(map.hasSettledAllTargets());
+    map.markSettled(3);
+    assertTrue(map.hasSettledAllTargets());
+
+    map.reset();
+    assertFalse(map.hasSettledAllTargets());
+  }
+
+  @Test
+  void givenTargetsSetTwice_whenSettled_thenOnlyTheLastTargetsMustCount() {
+    IndexedDistancePredecessorMap map = new IndexedDistancePredecessorMap(5);
+
+    map.setTargets(new int[] {0});
+    map.setTargets(new int[] {0, 1});
+    map.markSettled(0);
+    assertFalse(map.hasSettledAllTargets());
+    map.markSettled(1);
+    assertTrue(map.hasSettledAllTargets());
+
+    // Targets dropped by the second call no longer count either
+    map.reset();
+    map.setTargets(new int[] {2, 3});
+    map.setTargets(new int[] {4});
+    map.markSettled(2);
+    map.markSettled(3);
+    assertFalse(map.hasSettledAllTargets());
+    map.markSettled(4);
+    assertTrue(map.hasSettledAllTargets());
+  }
+
+  @Test
+  void givenAlreadySettledTarget_whenSetTargets_thenItMustBeIgnored() {
+    IndexedDistancePredecessorMap map = new IndexedDistancePredecessorMap(3);
+    map.markSettled(2);
+
+    map.setTargets(new int[] {2});
+
+    assertTrue(map.hasSettledAllTargets());
+  }
+
+  @Test
+  void givenPartialSearch_whenToArrays_thenUnreachedMustBeInfiniteWithoutPredecessor() {
+    IndexedDistancePredecessorMap map = new IndexedDistancePredecessorMap(4);
+    map.update(3, 1.0, 2); // From an earlier epoch
+    map.reset();
+    map.update(0, 0.0, IndexedDistancePredecessorMap.NO_PREDECESSOR);
+    map.update(2, 1.5, 0);
+
+    assertArrayEquals(new double[] {0.0, INF, 1.5, INF}, map.toDistanceArray());
+    assertArrayEquals(
+        new int[] {
+          IndexedDistancePredecessorMap.NO_PREDECESSOR,
+          IndexedDistancePredecessorMap.NO_PREDECESSOR,
+          0,
+          IndexedDistancePredecessorMap.NO_PREDECESSOR
+        },
+        map.toPredecessorArray());
+  }
+}
@@ -0,0 +1,81 @@
+package br.com.unifal.tcc.algorithms.matching;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class HungarianAssignmentSolverTest {
+
+  @Test
+  void givenRandomMatrices_whenSolve_thenMustMatchBruteForceAndTransportation() {
+    Random random = new Random(42);
+
+    for (int trial = 0; trial < 200; trial++) {
+      int size = 1 + random.nextInt(7);
+      double[][] costs = new double[size][size];
+      for (double[] rowCosts : costs) {
+        for (int column = 0; column < size; column++) {
+          rowCosts[column] = random.nextInt(50);
+        }
+      }
+
+      int[] assignment = HungarianAssignmentSolver.solve(costs);
+      assertEquals(bruteForceCost(costs, new boolean[size], 0), assignmentCost(costs, assignment));
+      assertEquals(size, Arrays.stream(assignment).distinct().count());
+
+      int[] units = new int[size];
+      Arrays.fill(units, 1);
+      int[][] flows = TransportationProblemSolver.solve(units, units, costs);
+      assertEquals(assignmentCost(costs, assignment), flowCost(costs, flows));
+    }
+  }
+
+  @Test
+  void givenForbiddenPairs_whenSolve_thenMustAvoidThemOrLeaveRowUnassigned() {
+    double inf = Double.POSITIVE_INFINITY;
+
+    int[] assignment = HungarianAssignmentSolver.solve(new double[][] {{1, inf}, {1, 50}});
+    assertEquals(0, assignment[0]);
+    assertEquals(1, assignment[1]);
+
+    assignment = HungarianAssignmentSolver.solve(new double[][] {{1, inf}, {2, inf}});
+    Arrays.sort(assignment);
+    assertArrayEquals(new int[] {HungarianAssignmentSolver.UNASSIGNED, 0}, assignment);
+  }
+
+  private static double bruteForceCost(double[][] costs, boolean[] usedColumns, int row) {
+    if (row == costs.length) {
+      return 0.0;
+    }
+    double best = Double.POSITIVE_INFINITY;
+    for (int column = 0; column < usedColumns.length; column++) {
+      if (!usedColumns[column]) {
+        usedColumns[column] = true;
+        best = Math.min(best, costs[row][column] + bruteForceCost(costs, usedColumns, row + 1));
+        usedColumns[column] = false;
+      }
+    }
+    return best;
+  }
+
+  private static double assignmentCost(double[][] costs, int[] assignment) {
+    double cost = 0.0;
+    for (int row = 0; row < assignment.length; row++) {
+      cost += costs[row][assignment[row]];
+    }
+    return cost;
+  }
+
+  private static double flowCost(double[][] costs, int[][] flows) {
+    double cost = 0.0;
+    for (int row = 0; row < flows.length; row++) {
+      for (int column = 0; column < flows[row].length; column++) {
+        cost += flows[row][column] * costs[row][column];
+      }
+    }
+    return cost;
+  }
+}
@@ -0,0 +1,153 @@
+package br.com.unifal.tcc.algorithms.matching;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class TransportationProblemSolverTest {
+
+  private static final double INF = Double.POSITIVE_INFINITY;
+
+  @Test
+  void givenMoreSupplyThanDemand_whenSolve_thenMustFillDemandFromCheapestRows() {
+    int[] supplies = {3, 1, 2};
+    int[] demands = {2, 1};
+    double[][] costs = {{5, 5}, {1, 9}, {4, 2}};
+
+    int[][] flows = TransportationProblemSolver.solve(supplies, demands, costs);
+
+    assertFeasible(supplies, demands, costs, flows);
+    assertEquals(3, shippedUnits(flows));
+    // Row 1 takes column 0 at 1, row 2 covers the rest at 4 and 2
+    assertArrayEquals(new int[][] {{0, 0}, {1, 0}, {1, 1}}, flows);
+    assertEquals(7.0, flowCost(costs, flows));
+  }
+
+  @Test
+  void givenMoreDemandThanSupply_whenSolve_thenMustShipEverySupplyUnit() {
+    int[] supplies = {2};
+    int[] demands = {1, 3, 1};
+    double[][] costs = {{4, 1, 3}};
+
+    int[][] flows = TransportationProblemSolver.solve(supplies, demands, costs);
+
+    assertFeasible(supplies, demands, costs, flows);
+    assertArrayEquals(new int[][] {{0, 2, 0}}, flows);
+  }
+
+  @Test
+  void givenForbiddenPairs_whenSolve_thenMustRouteAroundThemOrLeaveUnitsUnshipped() {
+    int[] units = {1, 1};
+    double[][] costs = {{1, INF}, {0, 5}};
+
+    int[][] flows = TransportationProblemSolver.solve(units, units, costs);
+
+    assertArrayEquals(new int[][] {{1, 0}, {0, 1}}, flows);
+
+    // Row 1 can only reach column 0, which row 0 needs too: one unit stays unshipped
+    costs = new double[][] {{1, INF}, {2, INF}};
+    flows = TransportationProblemSolver.solve(units, units, costs);
+
+    assertFeasible(units, units, costs, flows);
+    assertEquals(1, shippedUnits(flows));
+    assertEquals(0, flows[0][1] + flows[1][1]);
+  }
+
+  @Test
+  void givenSmallRandomInstances_whenSolve_thenMustMatchBruteForceOptimum() {
+    Random random = new Random(17);
+
+    for (int trial = 0; trial < 150; trial++) {
+      int rows = 1 + random.nextInt(3);
+      int columns = 1 + random.nextInt(3);
+      int[] supplies = random.ints(rows, 0, 4).toArray();
+      int[] demands = random.ints(columns, 0, 4).toArray();
+      double[][] costs = new double[rows][columns];
+      for (double[] rowCosts : costs) {
+        for (int column = 0; column < columns; column++) {
+          rowCosts[column] = random.nextInt(6) == 0 ? INF : random.nextInt(20);
+        }
+      }
+
+      int[][] flows = TransportationProblemSolver.solve(supplies, demands, costs);
+
+      assertFeasible(supplies, demands, costs, flows);
+      double[] best = {-1, INF}; // Most units shipped, then cheapest
+      bruteForce(supplies.clone(), demands.clone(), costs, 0, 0, 0.0, best);
+      String instance =
+          Arrays.toString(supplies) + Arrays.toString(demands) + Arrays.deepToString(costs);
+      assertEquals(best[0], shippedUnits(flows), instance);
+      assertEquals(best[1], flowCost(costs, flows), 1e-9, instance);
+    }
+  }
+
+  /** Tries every amount on every cell in row-major order, keeping the best plan in {@code best}. */
+  private static void bruteForce(
+      int[] supplies, int[] demands, double[][] costs, int cell, int units, double cost,
+      double[] best) {
+    int columns = demands.length;
+    if (cell == supplies.length * columns) {
+      if (units > best[0] || (units == best[0] && cost < best[1])) {
+        best[0] = units;
+        best[1] = cost;
+      }
+      return;
+    }
+
+    int row = cell / columns;
+    int column = cell % columns;
+    int limit = costs[row][column] < INF ? Math.min(supplies[row], demands[column]) : 0;
+    for (int amount = 0; amount <= limit; amount++) {
+      supplies[row] -= amount;
+      demands[column] -= amount;
+      bruteForce(
+          supplies,
+          demands,
+          costs,
+          cell + 1,
+          units + amount,
+          cost + (amount > 0 ? amount * costs[row][column] : 0.0),
+          best);
+      supplies[row] += amount;
+      demands[column] += amount;
+    }
+  }
+
+  private static void assertFeasible(
+      int[] supplies, int[] demands, double[][] costs, int[][] flows) {
+    for (int row = 0; row < supplies.length; row++) {
+      assertTrue(Arrays.stream(flows[row]).sum() <= supplies[row]);
+      for (int column = 0; column < demands.length; column++) {
+        assertTrue(flows[row][column] >= 0);
+        assertTrue(flows[row][column] == 0 || costs[row][column] < INF);
+      }
+    }
+    for (int column = 0; column < demands.length; column++) {
+      int shipped = 0;
+      for (int[] rowFlows : flows) {
+        shipped += rowFlows[column];
+      }
+      assertTrue(shipped <= demands[column]);
+    }
+  }
+
+  private static int shippedUnits(int[][] flows) {
+    return Arrays.stream(flows).flatMapToInt(Arrays::stream).sum();
+  }
+
+  private static double flowCost(double[][] costs, int[][] flows) {
+    double total = 0.0;
+    for (int row = 0; row < flows.length; row++) {
+      for (int column = 0; column < flows[row].length; column++) {
+        if (flows[row][column] > 0) {
+          total += flows[row][column] * costs[row][column];
+        }
+      }
+    }
+    return total;
+  }
+}
@@ -0,0 +1,65 @@
+package br.com.unifal.tcc.algorithms.queues;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class BlockPartitionQueueTest {
+
+  @Test
+  void givenInsertsAndPrepends_whenPull_thenMustReturnSmallestItemsBelowBound() {
+    Random random = new Random(42);
+
+    for (int blockSize : new int[] {1, 3, 16}) {
+      BlockPartitionQueue queue = new BlockPartitionQueue(blockSize, 1_000.0);
+      List<Double> queued = new ArrayList<>();
+      double floor = 500.0; // Prepended values must stay below everything queued
+
+      for (int round = 0; round < 200; round++) {
+        for (int i = random.nextInt(8); i > 0; i--) {
+          double value = floor + random.nextInt(20); // Few distinct values, many ties
+          queue.insert(round, value);
+          queued.add(value);
+        }
+        if (random.nextBoolean()) {
+          int count = random.nextInt(6);
+          double min = queued.isEmpty() ? floor : Math.min(floor, Collections.min(queued));
+          int[] vertices = new int[count];
+          double[] values = new double[count];
+          for (int i = 0; i < count; i++) {
+            values[i] = min - 1 - random.nextInt(3);
+            queued.add(values[i]);
+          }
+          queue.batchPrepend(vertices, values, count);
+          floor = min - 4;
+        }
+
+        BlockPartitionQueue.Pulled pulled = queue.pull();
+        Collections.sort(queued);
+        int pulledCount = pulled.values().length;
+        assertEquals(queued.size(), queue.size() + pulledCount);
+        assertTrue(pulledCount >= Math.min(blockSize, queued.size()));
+
+        List<Double> expected = new ArrayList<>(queued.subList(0, pulledCount));
+        List<Double> actual = new ArrayList<>();
+        for (double value : pulled.values()) {
+          actual.add(value);
+        }
+        Collections.sort(actual);
+        assertEquals(expected, actual);
+
+        queued = new ArrayList<>(queued.subList(pulledCount, queued.size()));
+        double bound = queued.isEmpty() ? 1_000.0 : queued.get(0);
+        assertEquals(bound, pulled.bound());
+        for (double value : actual) {
+          assertTrue(value < bound);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package br.com.unifal.tcc.algorithms.queues;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class IndexedDaryHeapTest {
+
+  @Test
+  void givenRandomKeysAndDecreases_whenPollAll_thenMustReturnItemsInKeyOrder() {
+    Random random = new Random(42);
+    int capacity = 1_000;
+
+    for (int arity : new int[] {2, 4, 8}) {
+      IndexedDaryHeap heap = new IndexedDaryHeap(capacity, arity);
+      double[] expectedKeys = new double[capacity];
+
+      for (int item = 0; item < capacity; item++) {
+        expectedKeys[item] = random.nextInt(10_000);
+        heap.insertOrDecrease(item, expectedKeys[item]);
+      }
+      for (int i = 0; i < capacity; i++) {
+        int item = random.nextInt(capacity);
+        double key = random.nextInt(10_000);
+        heap.insertOrDecrease(item, key);
+        expectedKeys[item] = Math.min(expectedKeys[item], key);
+      }
+
+      double[] polledKeys = new double[capacity];
+      for (int i = 0; i < capacity; i++) {
+        double key = heap.peekMinKey();
+        int item = heap.pollMin();
+        assertEquals(expectedKeys[item], key);
+        assertFalse(heap.contains(item));
+        polledKeys[i] = key;
+      }
+
+      double[] sortedKeys = expectedKeys.clone();
+      Arrays.sort(sortedKeys);
+      assertTrue(heap.isEmpty());
+      assertEquals(Arrays.toString(sortedKeys), Arrays.toString(polledKeys));
+    }
+  }
+}
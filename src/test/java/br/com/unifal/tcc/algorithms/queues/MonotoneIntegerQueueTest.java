@@ -0,0 +1,46 @@
+package br.com.unifal.tcc.algorithms.queues;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+public class MonotoneIntegerQueueTest {
+
+  private static final long MAX_WEIGHT = 1_000;
+
+  @Test
+  void givenDialAndRadixQueues_whenUsedMonotonically_thenMustPollInKeyOrder() {
+    List<Supplier<MonotoneIntegerQueue>> queues =
+        List.of(() -> new DialBucketQueue(MAX_WEIGHT), RadixHeap::new);
+
+    for (Supplier<MonotoneIntegerQueue> queueSupplier : queues) {
+      Random random = new Random(7);
+      MonotoneIntegerQueue queue = queueSupplier.get();
+      PriorityQueue<Long> expected = new PriorityQueue<>();
+
+      queue.push(0, 0L);
+      expected.add(0L);
+
+      for (int item = 1; !expected.isEmpty(); item++) {
+        long expectedKey = expected.poll();
+        queue.pollMin();
+        assertEquals(expectedKey, queue.lastKey(), queue.getClass().getSimpleName());
+
+        // Pushed keys stay inside [lastKey, lastKey + MAX_WEIGHT], as Dijkstra's do
+        int pushes = item < 5_000 ? random.nextInt(3) : 0;
+        for (int i = 0; i < pushes; i++) {
+          long key = queue.lastKey() + random.nextInt((int) MAX_WEIGHT + 1);
+          queue.push(item, key);
+          expected.add(key);
+        }
+      }
+
+      assertTrue(queue.isEmpty());
+    }
+  }
+}
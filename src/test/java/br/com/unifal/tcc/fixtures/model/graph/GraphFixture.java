@@ -1,8 +1,13 @@
 package br.com.unifal.tcc.fixtures.model.graph;
 
+import br.com.unifal.tcc.generators.GraphGenerator;
+import br.com.unifal.tcc.generators.GraphTopology;
+import br.com.unifal.tcc.generators.dto.GraphSpec;
+import br.com.unifal.tcc.model.graph.CsrGraph;
 import br.com.unifal.tcc.model.graph.Graph;
 import br.com.unifal.tcc.model.graph.RealEdge;
 import br.com.unifal.tcc.model.graph.Vertex;
+import java.util.Random;
 
 public class GraphFixture {
 
@@ -72,4 +77,60 @@ public class GraphFixture {
     graph.addEdge(new RealEdge(new Vertex("E"), new Vertex("D"), 7));
     return graph;
   }
+
+  /**
+   * Graph where greedy balancing is far from optimal: P1 and P2 have one unit of positive
+   * imbalance, N1 and N2 one unit of negative imbalance. Greedy matches P1-N1 (1) and then P2-N2
+   * (100), while P1-N2 (2) and P2-N1 (2) cost 4.
+   */
+  public static Graph getGreedyTrapGraphFixture() {
+    Graph graph = new Graph();
+    graph.addEdge(new RealEdge(new Vertex("P1"), new Vertex("N1"), 1));
+    graph.addEdge(new RealEdge(new Vertex("P1"), new Vertex("N2"), 2));
+    graph.addEdge(new RealEdge(new Vertex("P2"), new Vertex("N1"), 2));
+    graph.addEdge(new RealEdge(new Vertex("P2"), new Vertex("N2"), 100));
+    graph.addEdge(new RealEdge(new Vertex("N1"), new Vertex("P1"), 1000));
+    graph.addEdge(new RealEdge(new Vertex("N1"), new Vertex("P1"), 1000));
+    graph.addEdge(new RealEdge(new Vertex("N1"), new Vertex("P2"), 1000));
+    graph.addEdge(new RealEdge(new Vertex("N2"), new Vertex("P1"), 1000));
+    graph.addEdge(new RealEdge(new Vertex("N2"), new Vertex("P2"), 1000));
+    graph.addEdge(new RealEdge(new Vertex("N2"), new Vertex("P2"), 1000));
+    return graph;
+  }
+
+  /**
+   * Same trap as {@link #getGreedyTrapGraphFixture()} with two units of imbalance per vertex, so it
+   * is not a plain assignment problem: greedy costs 2 * (1 + 100) and the optimum 2 * (2 + 2).
+   */
+  public static Graph getGreedyTrapGraphFixtureV2() {
+    Graph graph = getGreedyTrapGraphFixture();
+    graph.addEdge(new RealEdge(new Vertex("N1"), new Vertex("P1"), 1000));
+    graph.addEdge(new RealEdge(new Vertex("N2"), new Vertex("P2"), 1000));
+    return graph;
+  }
+
+  /**
+   * Generated graph of 400 vertices with average out-degree 4 and exactly {@code
+   * unbalancedVertices} unbalanced vertices, always the same for the same arguments.
+   */
+  public static Graph getGeneratedGraphFixture(GraphTopology topology, int unbalancedVertices) {
+    return GraphGenerator.toGraph(
+        GraphSpec.of(topology, 400, 4).withUnbalancedVertices(unbalancedVertices));
+  }
+
+  /**
+   * Random multigraph on up to {@code vertexCount} vertices with 3 * {@code vertexCount} edges of
+   * weight 0, 1 or 2, so that ties, zero weight cycles, self loops and unreachable vertices are all
+   * common; always the same for the same arguments.
+   */
+  public static CsrGraph getRandomTiedGraphFixture(long seed, int vertexCount) {
+    Random random = new Random(seed);
+    CsrGraph.Builder builder = CsrGraph.builder();
+    for (int edge = 0; edge < 3 * vertexCount; edge++) {
+      String from = "v" + random.nextInt(vertexCount);
+      String to = "v" + random.nextInt(vertexCount);
+      builder.addEdge(from, to, random.nextInt(3));
+    }
+    return builder.build();
+  }
 }
@@ -0,0 +1,123 @@
+package br.com.unifal.tcc.generators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import br.com.unifal.tcc.generators.dto.GraphSpec;
+import br.com.unifal.tcc.model.graph.Graph;
+import br.com.unifal.tcc.model.graph.Vertex;
+import br.com.unifal.tcc.services.InputService;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class GraphGeneratorTest {
+
+  @Test
+  void givenSameSpec_whenGenerate_thenMustProduceSameEdges() {
+    for (GraphTopology topology : GraphTopology.values()) {
+      GraphSpec spec = GraphSpec.of(topology, 300, 4).withUnbalancedVertices(20);
+
+      List<String> first = new ArrayList<>();
+      List<String> second = new ArrayList<>();
+      GraphGenerator.generate(spec, (s, t, w) -> first.add(s + ">" + t + ":" + w));
+      GraphGenerator.generate(spec, (s, t, w) -> second.add(s + ">" + t + ":" + w));
+      List<String> otherSeed = new ArrayList<>();
+      GraphGenerator.generate(spec.withSeed(7), (s, t, w) -> otherSeed.add(s + ">" + t + ":" + w));
+
+      assertEquals(first, second, topology.name());
+      assertNotEquals(first, otherSeed, topology.name());
+    }
+  }
+
+  @Test
+  void givenUnbalancedVerticesCount_whenToGraph_thenMustHaveExactlyThatManyUnbalancedVertices() {
+    for (GraphTopology topology : GraphTopology.values()) {
+      for (int unbalancedVertices : new int[] {0, 2, 3, 57, 300}) {
+        GraphSpec spec = GraphSpec.of(topology, 300, 4).withUnbalancedVertices(unbalancedVertices);
+
+        Graph graph = GraphGenerator.toGraph(spec);
+
+        assertEquals(300, graph.getVertices().size());
+        assertEquals(unbalancedVertices, graph.getUnbalancedVertices().size(), spec.toString());
+      }
+    }
+  }
+
+  @Test
+  void givenMaxImbalance_whenToGraph_thenImbalancesMustBeMultiUnitAndBounded() {
+    for (GraphTopology topology : GraphTopology.values()) {
+      for (int unbalancedVertices : new int[] {2, 57}) {
+        GraphSpec spec =
+            GraphSpec.of(topology, 300, 4)
+                .withUnbalancedVertices(unbalancedVertices)
+                .withMaxImbalance(5);
+
+        Set<Vertex> unbalanced = GraphGenerator.toGraph(spec).getUnbalancedVertices();
+
+        assertEquals(unbalancedVertices, unbalanced.size(), spec.toString());
+        // The last vertex of an odd count takes the imbalance of two links
+        assertTrue(unbalanced.stream().allMatch(v -> Math.abs(v.getDegree()) <= 10));
+        assertEquals(0, unbalanced.stream().mapToInt(Vertex::getDegree).sum(), spec.toString());
+      }
+
+      GraphSpec spec =
+          GraphSpec.of(topology, 300, 4).withUnbalancedVertices(100).withMaxImbalance(5);
+      assertTrue(
+          GraphGenerator.toGraph(spec).getUnbalancedVertices().stream()
+              .anyMatch(v -> Math.abs(v.getDegree()) > 1),
+          spec.toString());
+    }
+  }
+
+  @Test
+  void givenEveryTopology_whenToGraph_thenMustBeStronglyConnected() {
+    for (GraphTopology topology : GraphTopology.values()) {
+      Graph graph = GraphGenerator.toGraph(GraphSpec.of(topology, 500, 3));
+      Vertex root = graph.getVertices().get(GraphGenerator.vertexId(0));
+
+      assertEquals(500, reachable(root, v -> graph.getNeighbors(v).keySet()).size());
+      assertEquals(500, reachable(root, v -> graph.getIncomingNeighbors(v).keySet()).size());
+    }
+  }
+
+  @Test
+  void givenSpec_whenWriteJson_thenInputServiceMustLoadSameGraph(@TempDir Path directory)
+      throws IOException {
+    GraphSpec spec = GraphSpec.of(GraphTopology.SCALE_FREE, 200, 5).withUnbalancedVertices(10);
+    Path file = directory.resolve("generated.json");
+
+    GraphGenerator.writeJson(spec, file);
+    Graph loaded = InputService.loadGraphFromFile(file.toString());
+    Graph generated = GraphGenerator.toGraph(spec);
+
+    assertEquals(generated.getEdges().size(), loaded.getEdges().size());
+    for (Vertex vertex : generated.getVerticesSet()) {
+      Vertex loadedVertex = loaded.getVertices().get(vertex.getId());
+      assertEquals(vertex.getDegree(), loadedVertex.getDegree(), vertex.getId());
+      assertEquals(generated.getNeighbors(vertex), loaded.getNeighbors(loadedVertex));
+    }
+  }
+
+  private static Set<Vertex> reachable(Vertex root, Function<Vertex, Set<Vertex>> neighbors) {
+    Set<Vertex> visited = new HashSet<>(Set.of(root));
+    Deque<Vertex> queue = new ArrayDeque<>(visited);
+    while (!queue.isEmpty()) {
+      for (Vertex next : neighbors.apply(queue.poll())) {
+        if (visited.add(next)) {
+          queue.add(next);
+        }
+      }
+    }
+    return visited;
+  }
+}
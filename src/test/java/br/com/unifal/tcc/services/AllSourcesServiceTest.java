@@ -0,0 +1,92 @@
+package br.com.unifal.tcc.services;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import br.com.unifal.tcc.algorithms.BatchedDijkstraAlgorithm;
+import br.com.unifal.tcc.algorithms.DijkstraHeapAlgorithm;
+import br.com.unifal.tcc.algorithms.DijkstraPqAlgorithm;
+import br.com.unifal.tcc.algorithms.interfaces.ShortestPathAlgorithm;
+import br.com.unifal.tcc.fixtures.model.graph.GraphFixture;
+import br.com.unifal.tcc.generators.GraphTopology;
+import br.com.unifal.tcc.model.graph.CsrGraph;
+import br.com.unifal.tcc.services.dto.DistanceSummary;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.junit.jupiter.api.Test;
+
+public class AllSourcesServiceTest {
+
+  private final ShortestPathAlgorithm pathAlgorithm = new DijkstraHeapAlgorithm();
+
+  @Test
+  void givenManyWorkers_whenForEachSource_thenEverySourceMustBeStreamedOnceWithItsDistances() {
+    CsrGraph graph =
+        GraphFixture.getGeneratedGraphFixture(GraphTopology.SCALE_FREE, 40).toCsrGraph();
+
+    for (ShortestPathAlgorithm algorithm :
+        List.of(pathAlgorithm, new BatchedDijkstraAlgorithm(), new DijkstraPqAlgorithm())) {
+      double[][] rows = new double[graph.getVertexCount()][];
+      AtomicIntegerArray visits = new AtomicIntegerArray(graph.getVertexCount());
+
+      AllSourcesService.forEachSource(
+          graph,
+          algorithm,
+          4,
+          (source, tree) -> {
+            visits.incrementAndGet(source);
+            rows[source] = tree.toDistanceArray();
+          });
+
+      for (int source = 0; source < graph.getVertexCount(); source++) {
+        assertEquals(1, visits.get(source), algorithm.getName());
+        assertArrayEquals(
+            pathAlgorithm.getDistances(graph, source), rows[source], algorithm.getName());
+      }
+    }
+  }
+
+  @Test
+  void givenAnyParallelism_whenSummarize_thenMustMatchSequentialSummary() {
+    CsrGraph graph = GraphFixture.getGeneratedGraphFixture(GraphTopology.GRID, 40).toCsrGraph();
+
+    long reachablePairs = 0L;
+    double distanceSum = 0.0;
+    double maxDistance = 0.0;
+    for (int source = 0; source < graph.getVertexCount(); source++) {
+      double[] distances = pathAlgorithm.getDistances(graph, source);
+      for (int target = 0; target < distances.length; target++) {
+        if (target != source && distances[target] < Double.POSITIVE_INFINITY) {
+          reachablePairs++;
+          distanceSum += distances[target];
+          maxDistance = Math.max(maxDistance, distances[target]);
+        }
+      }
+    }
+    DistanceSummary expected = new DistanceSummary(reachablePairs, distanceSum, maxDistance);
+
+    for (int parallelism : new int[] {1, 3, 8}) {
+      assertEquals(expected, AllSourcesService.summarize(graph, pathAlgorithm, parallelism));
+    }
+  }
+
+  @Test
+  void givenFailingSink_whenForEachSource_thenMustRethrowException() {
+    CsrGraph graph = GraphFixture.getGraphFixture().toCsrGraph();
+
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            AllSourcesService.forEachSource(
+                graph,
+                pathAlgorithm,
+                2,
+                (source, tree) -> {
+                  throw new IllegalStateException("sink failure");
+                }));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> AllSourcesService.summarize(graph, pathAlgorithm, 0));
+  }
+}
@@ -0,0 +1,152 @@
+package br.com.unifal.tcc.services;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import br.com.unifal.tcc.algorithms.interfaces.ShortestPathAlgorithm;
+import br.com.unifal.tcc.model.graph.CsrGraph;
+import br.com.unifal.tcc.model.graph.CsrGraphFile;
+import br.com.unifal.tcc.model.graph.Edge;
+import br.com.unifal.tcc.model.graph.Graph;
+import br.com.unifal.tcc.model.graph.Vertex;
+import br.com.unifal.tcc.solvers.factories.PathAlgorithmFactory;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class InputServiceTest {
+
+  private static final String GRAPH_JSON =
+      """
+      {"directed": true, "graph": {"name": "test"}, "nodes": [{"id": "A"}, {"id": "B"}],
+       "links": [
+         {"source": "A", "target": "B", "weight": 1},
+         {"target": "A", "weight": 2.5, "source": "B", "key": 0},
+         {"weight": 3, "source": "A", "target": "B"},
+         {"source": 7, "target": "A", "weight": 4}
+       ],
+       "multigraph": true}
+      """;
+
+  @Test
+  void givenJsonFile_whenLoadGraph_thenMustAddEveryLinkWithInternedVertices(@TempDir Path dir)
+      throws IOException {
+    Path file = Files.writeString(dir.resolve("graph.json"), GRAPH_JSON);
+
+    Graph graph = InputService.loadGraphFromFile(file.toString());
+
+    assertEquals(4, graph.getEdges().size());
+    assertEquals(3, graph.getVertices().size());
+    assertEquals(0, graph.getVertices().get("A").getDegree());
+    assertEquals(1, graph.getVertices().get("B").getDegree());
+    assertEquals(-1, graph.getVertices().get("7").getDegree());
+    assertEquals(1.0, graph.getNeighbors(new Vertex("A")).get(new Vertex("B")));
+    for (Edge edge : graph.getEdges()) {
+      assertSame(graph.getVertices().get(edge.getSource().getId()), edge.getSource());
+      assertSame(graph.getVertices().get(edge.getTarget().getId()), edge.getTarget());
+    }
+  }
+
+  @Test
+  void givenJsonFile_whenLoadCsrGraph_thenMustMatchCsrSnapshotOfLoadedGraph() {
+    for (String file : List.of("input/graph-v1.json", "input/graph-v2.json")) {
+      CsrGraph expected = InputService.loadGraphFromFile(file).toCsrGraph();
+      CsrGraph actual = InputService.loadCsrGraphFromFile(file);
+
+      assertEquals(expected.getVertexCount(), actual.getVertexCount());
+      assertEquals(expected.getEdgeCount(), actual.getEdgeCount());
+      for (int v = 0; v < expected.getVertexCount(); v++) {
+        Vertex vertex = expected.getVertex(v);
+        int w = actual.indexOf(vertex);
+        assertEquals(vertex.getDegree(), actual.getVertex(w).getDegree());
+        assertEquals(outgoing(expected, v), outgoing(actual, w), vertex.getId());
+      }
+    }
+  }
+
+  @Test
+  void givenCsrFile_whenLoadCsrGraph_thenMustMatchJsonGraphAndDistances(@TempDir Path dir)
+      throws IOException {
+    for (String file : List.of("input/graph-v1.json", "input/graph-v2.json")) {
+      CsrGraph expected = InputService.loadCsrGraphFromFile(file);
+      Path csrFile = dir.resolve("graph" + CsrGraphFile.FILE_EXTENSION);
+      CsrGraphFile.write(expected, csrFile);
+
+      CsrGraph actual = InputService.loadCsrGraphFromFile(csrFile.toString());
+
+      assertEquals(expected.getVertexCount(), actual.getVertexCount());
+      assertEquals(expected.getEdgeCount(), actual.getEdgeCount());
+      assertEquals(expected.getMaxWeight(), actual.getMaxWeight());
+      assertEquals(expected.hasIntegerWeights(), actual.hasIntegerWeights());
+      for (int v = 0; v < expected.getVertexCount(); v++) {
+        assertEquals(v, actual.indexOf(expected.getVertex(v)));
+        assertEquals(outgoing(expected, v), outgoing(actual, v));
+      }
+      assertThrows(IllegalArgumentException.class, () -> actual.indexOf(new Vertex("missing")));
+
+      for (PathAlgorithmFactory algorithmType : PathAlgorithmFactory.values()) {
+        try (ShortestPathAlgorithm algorithm = algorithmType.createAlgorithm()) {
+          for (int source = 0; source < expected.getVertexCount(); source++) {
+            assertArrayEquals(
+                algorithm.getDistances(expected, source),
+                algorithm.getDistances(actual, source),
+                algorithm.getName());
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  void givenCsrFile_whenLoadGraph_thenMustMatchJsonGraph(@TempDir Path dir) throws IOException {
+    Path jsonFile = Files.writeString(dir.resolve("graph.json"), GRAPH_JSON);
+    Path csrFile = dir.resolve("graph" + CsrGraphFile.FILE_EXTENSION);
+    CsrGraphFile.write(InputService.loadCsrGraphFromFile(jsonFile.toString()), csrFile);
+
+    Graph expected = InputService.loadGraphFromFile(jsonFile.toString());
+    Graph actual = InputService.loadGraphFromFile(csrFile.toString());
+
+    assertEquals(expected.getEdges().size(), actual.getEdges().size());
+    for (Vertex vertex : expected.getVerticesSet()) {
+      assertEquals(vertex.getDegree(), actual.getVertices().get(vertex.getId()).getDegree());
+      assertEquals(expected.getNeighbors(vertex), actual.getNeighbors(vertex), vertex.getId());
+    }
+  }
+
+  @Test
+  void givenCorruptCsrFile_whenLoadCsrGraph_thenMustThrowException(@TempDir Path dir)
+      throws IOException {
+    Path file = dir.resolve("graph" + CsrGraphFile.FILE_EXTENSION);
+    CsrGraphFile.write(InputService.loadCsrGraphFromFile("input/graph-v1.json"), file);
+    byte[] bytes = Files.readAllBytes(file);
+    Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+
+    assertThrows(RuntimeException.class, () -> InputService.loadCsrGraphFromFile(file.toString()));
+  }
+
+  @Test
+  void givenLinkWithoutWeight_whenLoadGraph_thenMustThrowException(@TempDir Path dir)
+      throws IOException {
+    Path file =
+        Files.writeString(
+            dir.resolve("graph.json"), "{\"links\": [{\"source\": \"A\", \"target\": \"B\"}]}");
+
+    assertThrows(RuntimeException.class, () -> InputService.loadGraphFromFile(file.toString()));
+    assertThrows(RuntimeException.class, () -> InputService.loadCsrGraphFromFile(file.toString()));
+  }
+
+  private static List<String> outgoing(CsrGraph graph, int vertex) {
+    List<String> edges = new ArrayList<>();
+    for (int edge = graph.edgeStart(vertex); edge < graph.edgeEnd(vertex); edge++) {
+      edges.add(graph.getVertex(graph.target(edge)).getId() + ":" + graph.weight(edge));
+    }
+    return edges;
+  }
+}
@@ -0,0 +1,111 @@
+package br.com.unifal.tcc.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import br.com.unifal.tcc.algorithms.DijkstraHeapAlgorithm;
+import br.com.unifal.tcc.algorithms.interfaces.ShortestPathAlgorithm;
+import br.com.unifal.tcc.fixtures.model.graph.GraphFixture;
+import br.com.unifal.tcc.generators.GraphTopology;
+import br.com.unifal.tcc.model.dto.BalancingEdge;
+import br.com.unifal.tcc.model.graph.Graph;
+import br.com.unifal.tcc.model.graph.Vertex;
+import br.com.unifal.tcc.model.graph.VirtualEdge;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class MatchingServiceTest {
+
+  private static ShortestPathAlgorithm pathAlgorithm;
+
+  @BeforeAll
+  static void setupAll() {
+    pathAlgorithm = new DijkstraHeapAlgorithm();
+  }
+
+  @Test
+  void givenGreedyTrapGraph_whenFindMatching_thenOptimalMustBeCheaperThanGreedy() {
+    Graph graph = GraphFixture.getGreedyTrapGraphFixtureV2();
+
+    List<BalancingEdge> greedy = MatchingStrategy.GREEDY.findBalancingEdges(graph, pathAlgorithm);
+    List<BalancingEdge> optimal =
+        MatchingStrategy.MIN_COST_FLOW.findBalancingEdges(graph, pathAlgorithm);
+
+    assertEquals(202.0, totalCost(greedy));
+    assertEquals(8.0, totalCost(optimal));
+    assertBalances(graph, optimal);
+  }
+
+  @Test
+  void givenUnitImbalanceGraph_whenFindMatching_thenEveryStrategyMustBeOptimal() {
+    for (MatchingStrategy matchingStrategy : MatchingStrategy.values()) {
+      Graph graph = GraphFixture.getGreedyTrapGraphFixture();
+
+      List<BalancingEdge> balancingEdges =
+          matchingStrategy.findBalancingEdges(graph, pathAlgorithm);
+
+      assertEquals(4.0, totalCost(balancingEdges), matchingStrategy.name());
+      assertBalances(graph, balancingEdges);
+    }
+  }
+
+  @Test
+  void givenEveryMatchingStrategy_whenFindMatching_thenMustBalanceGraph() {
+    for (MatchingStrategy matchingStrategy : MatchingStrategy.values()) {
+      for (Graph graph :
+          List.of(GraphFixture.getGraphFixture(), GraphFixture.getGraphFixtureV2())) {
+        List<BalancingEdge> balancingEdges =
+            matchingStrategy.findBalancingEdges(graph, pathAlgorithm);
+        assertBalances(graph, balancingEdges);
+      }
+    }
+  }
+
+  @Test
+  void givenFixtureGraph_whenFindMatching_thenOptimalMustNotCostMoreThanGreedy() {
+    Graph graph = GraphFixture.getGraphFixture();
+
+    double greedyCost =
+        totalCost(MatchingStrategy.GREEDY.findBalancingEdges(graph, pathAlgorithm));
+    double optimalCost =
+        totalCost(MatchingStrategy.MIN_COST_FLOW.findBalancingEdges(graph, pathAlgorithm));
+
+    assertTrue(optimalCost <= greedyCost, () -> optimalCost + " > " + greedyCost);
+  }
+
+  @Test
+  void givenGeneratedGraphs_whenFindMatching_thenEveryStrategyMustBalanceAndOptimalMustWin() {
+    for (GraphTopology topology : GraphTopology.values()) {
+      double[] costs = new double[MatchingStrategy.values().length];
+
+      for (MatchingStrategy matchingStrategy : MatchingStrategy.values()) {
+        Graph graph = GraphFixture.getGeneratedGraphFixture(topology, 60);
+        List<BalancingEdge> balancingEdges =
+            matchingStrategy.findBalancingEdges(graph, pathAlgorithm);
+
+        assertBalances(graph, balancingEdges);
+        costs[matchingStrategy.ordinal()] = totalCost(balancingEdges);
+      }
+
+      double greedyCost = costs[MatchingStrategy.GREEDY.ordinal()];
+      double optimalCost = costs[MatchingStrategy.MIN_COST_FLOW.ordinal()];
+      assertTrue(
+          optimalCost <= greedyCost, () -> topology + ": " + optimalCost + " > " + greedyCost);
+    }
+  }
+
+  private static double totalCost(List<BalancingEdge> balancingEdges) {
+    return balancingEdges.stream().mapToDouble(edge -> edge.pathResult().cost()).sum();
+  }
+
+  private static void assertBalances(Graph graph, List<BalancingEdge> balancingEdges) {
+    for (BalancingEdge balancingEdge : balancingEdges) {
+      graph.addEdge(new VirtualEdge(balancingEdge.pathResult()));
+    }
+    assertTrue(graph.isEulerian());
+    for (Vertex vertex : graph.getVerticesSet()) {
+      assertEquals(0, vertex.getDegree(), vertex.getId());
+    }
+  }
+}
@@ -1,15 +1,20 @@
 package br.com.unifal.tcc.solvers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import br.com.unifal.tcc.algorithms.DijkstraListAlgorithm;
 import br.com.unifal.tcc.algorithms.DijkstraPqAlgorithm;
 import br.com.unifal.tcc.algorithms.SSSPAlgorithm;
 import br.com.unifal.tcc.fixtures.model.graph.GraphFixture;
+import br.com.unifal.tcc.model.graph.Edge;
 import br.com.unifal.tcc.model.graph.Graph;
 import br.com.unifal.tcc.model.graph.Vertex;
 import br.com.unifal.tcc.model.dto.CPPSolution;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -54,4 +59,45 @@ public class CPPSolverTest {
                   cppDijkstraListSolution.totalCost()));
     }
   }
+
+  @Test
+  void givenFixtureGraph_whenFindCppSolution_thenCircuitMustTraverseEveryEdgeOnce() {
+    for (Vertex source : graph.getVerticesSet()) {
+      CPPSolution solution = cppSolverDijkstraPqAlgorithm.solve(source);
+      List<Vertex> path = solution.path();
+
+      Map<String, Integer> remainingEdges = new HashMap<>();
+      for (Edge edge : graph.getEdges()) {
+        remainingEdges.merge(edgeKey(edge.getSource(), edge.getTarget()), 1, Integer::sum);
+      }
+      for (int i = 0; i + 1 < path.size(); i++) {
+        remainingEdges.merge(edgeKey(path.get(i), path.get(i + 1)), -1, Integer::sum);
+      }
+
+      assertEquals(source, path.get(0));
+      assertEquals(source, path.get(path.size() - 1));
+      assertTrue(remainingEdges.values().stream().allMatch(count -> count == 0), source.getId());
+    }
+  }
+
+  @Test
+  void givenFixtureGraph_whenFindCppSolution_thenEdgeSequenceMustMatchPathAndCost() {
+    for (Vertex source : graph.getVerticesSet()) {
+      CPPSolution solution = cppSolverDijkstraPqAlgorithm.solve(source);
+      List<Edge> edges = solution.edges();
+
+      assertEquals(graph.getEdges(), new HashSet<>(edges));
+      assertEquals(solution.path().size(), edges.size() + 1);
+      for (int i = 0; i < edges.size(); i++) {
+        assertEquals(solution.path().get(i), edges.get(i).getSource());
+        assertEquals(solution.path().get(i + 1), edges.get(i).getTarget());
+      }
+      assertEquals(
+          edges.stream().mapToDouble(Edge::getWeight).sum(), solution.totalCost(), 1e-9);
+    }
+  }
+
+  private static String edgeKey(Vertex source, Vertex target) {
+    return source.getId() + "->" + target.getId();
+  }
 }
@@ -0,0 +1,89 @@
+package br.com.unifal.tcc.algorithms.dense;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link DenseKernel} on the incubating Vector API, sweeping a row one {@link
+ * DoubleVector#SPECIES_PREFERRED preferred} register at a time.
+ *
+ * <p>Each step adds the settled distance to a slice of the row and blends the improved lanes into
+ * the tentative distances, writing nothing when no lane improved, which is the common case late in
+ * a search; the rare predecessor updates go lane by lane. The minimum is kept per lane with a
+ * compare and blend rather than a lanewise {@code min}, which would let the NaN of settled
+ * vertices win, and a second pass over the tentative distances, small enough to stay in cache,
+ * finds its first vertex. Only compiled by the {@code vector} Maven profile and only loaded by
+ * {@link DenseKernel#best()} when {@code jdk.incubator.vector} is present.
+ */
+final class VectorDenseKernel implements DenseKernel {
+
+  private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+  @Override
+  public String getName() {
+    return "vector-" + DOUBLES.vectorBitSize();
+  }
+
+  @Override
+  public int relaxAndFindClosest(
+      double[] weights,
+      int rowOffset,
+      double distance,
+      int vertex,
+      double[] tentative,
+      int[] predecessors,
+      int vertexCount) {
+    DoubleVector base = DoubleVector.broadcast(DOUBLES, distance);
+    DoubleVector minDistances = DoubleVector.broadcast(DOUBLES, Double.POSITIVE_INFINITY);
+    int bound = DOUBLES.loopBound(vertexCount);
+
+    int v = 0;
+    for (; v < bound; v += DOUBLES.length()) {
+      DoubleVector current = DoubleVector.fromArray(DOUBLES, tentative, v);
+      DoubleVector candidate = base.add(DoubleVector.fromArray(DOUBLES, weights, rowOffset + v));
+      VectorMask<Double> improved = candidate.compare(VectorOperators.LT, current);
+      if (improved.anyTrue()) {
+        current = current.blend(candidate, improved);
+        current.intoArray(tentative, v);
+        for (int lane = 0; lane < DOUBLES.length(); lane++) {
+          if (improved.laneIsSet(lane)) {
+            predecessors[v + lane] = vertex;
+          }
+        }
+      }
+      minDistances = minDistances.blend(current, current.compare(VectorOperators.LT, minDistances));
+    }
+    double minDistance = minDistances.reduceLanes(VectorOperators.MIN);
+
+    // Tail shorter than a register
+    for (; v < vertexCount; v++) {
+      double candidate = distance + weights[rowOffset + v];
+      if (candidate < tentative[v]) {
+        tentative[v] = candidate;
+        predecessors[v] = vertex;
+      }
+      if (tentative[v] < minDistance) {
+        minDistance = tentative[v];
+      }
+    }
+
+    if (!(minDistance < Double.POSITIVE_INFINITY)) {
+      return -1;
+    }
+    for (v = 0; v < bound; v += DOUBLES.length()) {
+      VectorMask<Double> closest =
+          DoubleVector.fromArray(DOUBLES, tentative, v).compare(VectorOperators.EQ, minDistance);
+      if (closest.anyTrue()) {
+        return v + closest.firstTrue();
+      }
+    }
+    for (; v < vertexCount; v++) {
+      if (tentative[v] == minDistance) {
+        return v;
+      }
+    }
+    return -1;
+  }
+}